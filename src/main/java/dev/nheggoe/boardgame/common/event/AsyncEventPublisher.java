@@ -0,0 +1,435 @@
+package dev.nheggoe.boardgame.common.event;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.common.event.type.Event;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An {@link EventPublisher} that hands events from game threads to consumer threads through a
+ * bounded ring buffer, in the style of the LMAX Disruptor.
+ *
+ * <p>The ring is allocated once and every published event claims the next sequence number in it.
+ * Each {@link Subscriber} runs on its own thread, reads the ring at its own pace in batches and
+ * dispatches the events to its listeners through a private {@link EventBus}. What happens when a
+ * subscriber falls a whole ring behind depends on its {@link OverflowPolicy}:
+ *
+ * <ul>
+ *   <li>{@link OverflowPolicy#BLOCK} subscribers hold publishers back until they have caught up, so
+ *       they see every event, and
+ *   <li>{@link OverflowPolicy#DROP} subscribers never hold anybody back; the oldest events they
+ *       have not read are overwritten and counted as dropped.
+ * </ul>
+ *
+ * <p>A simulation publishing as fast as it can therefore never waits for a slow animation that
+ * subscribes with {@link OverflowPolicy#DROP}, and memory use stays at the size of the ring. While
+ * a publisher is held back, it waits with the {@link WaitStrategy} of the publisher, which is
+ * independent of the strategies the subscribers wait for new events with.
+ *
+ * <p>Listeners run on the thread of their subscriber, not on the thread that published the event.
+ * Listeners added with {@link #addListener(Class, EventListener)} are served by a default blocking
+ * subscriber, started the first time it is needed.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class AsyncEventPublisher implements EventPublisher, AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(AsyncEventPublisher.class.getName());
+
+  private static final String DEFAULT_SUBSCRIBER = "default";
+
+  private final int capacity;
+  private final int mask;
+  private final AtomicReferenceArray<Event> slots;
+  // 2 * sequence while an event is being written to the slot, 2 * sequence + 1 once it is readable
+  private final AtomicLongArray stamps;
+  private final WaitStrategy publisherWaitStrategy;
+  private final AtomicLong claimed = new AtomicLong();
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+  private volatile boolean closed;
+  private Subscriber defaultSubscriber;
+
+  /**
+   * Creates a publisher with a ring of at least the given capacity, rounded up to a power of two.
+   * Publishers held back by a blocking subscriber wait with {@link WaitStrategy#SLEEPING}.
+   *
+   * @param capacity the number of events the ring holds
+   * @throws IllegalArgumentException if the capacity is not positive or too large
+   */
+  public AsyncEventPublisher(int capacity) {
+    this(capacity, WaitStrategy.SLEEPING);
+  }
+
+  /**
+   * Creates a publisher with a ring of at least the given capacity, rounded up to a power of two.
+   *
+   * @param capacity the number of events the ring holds
+   * @param publisherWaitStrategy how publishers wait while a blocking subscriber is a whole ring
+   *     behind
+   * @throws IllegalArgumentException if the capacity is not positive or too large
+   * @throws NullPointerException if the wait strategy is null
+   */
+  public AsyncEventPublisher(int capacity, WaitStrategy publisherWaitStrategy) {
+    this.publisherWaitStrategy =
+        requireNonNull(publisherWaitStrategy, "Publisher wait strategy cannot be null!");
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("Capacity must be between 1 and 2^30!");
+    }
+    this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = this.capacity - 1;
+    this.slots = new AtomicReferenceArray<>(this.capacity);
+    this.stamps = new AtomicLongArray(this.capacity);
+    for (int slot = 0; slot < this.capacity; slot++) {
+      stamps.set(slot, -1);
+    }
+  }
+
+  /**
+   * Determines what happens to a subscriber that falls a whole ring behind the publishers.
+   *
+   * @author Nick Heggø
+   * @version 2025.06.02
+   */
+  public enum OverflowPolicy {
+    /** Publishers wait until the subscriber has made room. */
+    BLOCK,
+    /** The oldest unread events are overwritten and counted as dropped. */
+    DROP
+  }
+
+  /**
+   * Determines how a thread waits for the ring, trading latency against CPU use.
+   *
+   * @author Nick Heggø
+   * @version 2025.06.02
+   */
+  public enum WaitStrategy {
+    /** Spins on the CPU; the lowest latency, but a whole core per waiting thread. */
+    BUSY_SPIN {
+      @Override
+      void idle(int attempt) {
+        Thread.onSpinWait();
+      }
+    },
+    /** Spins briefly, then yields the CPU to other threads. */
+    YIELDING {
+      @Override
+      void idle(int attempt) {
+        if (attempt < SPIN_ATTEMPTS) {
+          Thread.onSpinWait();
+        } else {
+          Thread.yield();
+        }
+      }
+    },
+    /** Spins and yields briefly, then sleeps in short naps; cheap for threads that often idle. */
+    SLEEPING {
+      @Override
+      void idle(int attempt) {
+        if (attempt < SPIN_ATTEMPTS) {
+          Thread.onSpinWait();
+        } else if (attempt < 2 * SPIN_ATTEMPTS) {
+          Thread.yield();
+        } else {
+          LockSupport.parkNanos(NAP_NANOS);
+        }
+      }
+    };
+
+    private static final int SPIN_ATTEMPTS = 100;
+    private static final long NAP_NANOS = 100_000;
+
+    abstract void idle(int attempt);
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Starts a subscriber on its own thread. It receives the events published from now on.
+   *
+   * @param name the name of the subscriber, used for its thread
+   * @param policy what happens when the subscriber falls a whole ring behind
+   * @param waitStrategy how the subscriber waits for new events
+   * @return the subscriber, to register listeners with
+   * @throws IllegalStateException if the publisher is closed
+   */
+  public Subscriber subscribe(String name, OverflowPolicy policy, WaitStrategy waitStrategy) {
+    requireNonNull(name, "Name cannot be null!");
+    requireNonNull(policy, "Policy cannot be null!");
+    requireNonNull(waitStrategy, "Wait strategy cannot be null!");
+    if (closed) {
+      throw new IllegalStateException("Publisher is closed!");
+    }
+    var subscriber = new Subscriber(name, policy, waitStrategy, claimed.get());
+    subscribers.add(subscriber);
+    subscriber.thread.start();
+    return subscriber;
+  }
+
+  @Override
+  public void addListener(Class<? extends Event> eventType, EventListener listener) {
+    defaultSubscriber().addListener(eventType, listener);
+  }
+
+  @Override
+  public void removeListener(Class<? extends Event> eventType, EventListener listener) {
+    defaultSubscriber().removeListener(eventType, listener);
+  }
+
+  @Override
+  public boolean hasListeners(Class<? extends Event> eventType) {
+    requireNonNull(eventType, "Event type cannot be null!");
+    for (var subscriber : subscribers) {
+      if (subscriber.bus.hasListeners(eventType)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The event is only placed in the ring; the listeners run later on their subscriber threads.
+   * This waits only while a {@link OverflowPolicy#BLOCK} subscriber is a whole ring behind.
+   *
+   * @throws IllegalStateException if the publisher is closed
+   */
+  @Override
+  public void publishEvent(Event event) {
+    requireNonNull(event, "event cannot be null!");
+    if (closed) {
+      throw new IllegalStateException("Publisher is closed!");
+    }
+    long sequence = claimed.getAndIncrement();
+    int attempt = 0;
+    while (sequence - capacity >= slowestBlockingSequence()) {
+      publisherWaitStrategy.idle(attempt++);
+    }
+    int slot = (int) sequence & mask;
+    // a publisher a whole ring earlier may still be writing to the same slot
+    long previousLap = 2 * (sequence - capacity) + 1;
+    while (stamps.get(slot) < previousLap) {
+      Thread.onSpinWait();
+    }
+    stamps.set(slot, 2 * sequence);
+    slots.set(slot, event);
+    stamps.set(slot, 2 * sequence + 1);
+  }
+
+  /**
+   * Retrieves the number of events the ring holds.
+   *
+   * @return the capacity, a power of two
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Retrieves the subscribers that have been started.
+   *
+   * @return the subscribers, in the order they subscribed
+   */
+  public List<Subscriber> getSubscribers() {
+    return List.copyOf(subscribers);
+  }
+
+  /**
+   * Stops accepting events and waits until every subscriber has handled the events already in the
+   * ring. Events published while closing may be lost.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (var subscriber : subscribers) {
+      try {
+        subscriber.thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  // ------------------------  private  ------------------------
+
+  private synchronized Subscriber defaultSubscriber() {
+    if (defaultSubscriber == null) {
+      defaultSubscriber =
+          subscribe(DEFAULT_SUBSCRIBER, OverflowPolicy.BLOCK, WaitStrategy.SLEEPING);
+    }
+    return defaultSubscriber;
+  }
+
+  private long slowestBlockingSequence() {
+    long slowest = Long.MAX_VALUE;
+    for (var subscriber : subscribers) {
+      if (subscriber.policy == OverflowPolicy.BLOCK) {
+        slowest = Math.min(slowest, subscriber.sequence);
+      }
+    }
+    return slowest;
+  }
+
+  /**
+   * A consumer of the ring, running on its own thread and dispatching events to its listeners.
+   *
+   * @author Nick Heggø
+   * @version 2025.06.02
+   */
+  public final class Subscriber {
+
+    private final String name;
+    private final OverflowPolicy policy;
+    private final WaitStrategy waitStrategy;
+    private final EventBus bus = new EventBus();
+    private final Thread thread;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    // the next sequence to read, published once per batch
+    private volatile long sequence;
+
+    private Subscriber(String name, OverflowPolicy policy, WaitStrategy waitStrategy, long start) {
+      this.name = name;
+      this.policy = policy;
+      this.waitStrategy = waitStrategy;
+      this.sequence = start;
+      this.thread = new Thread(this::run, "event-" + name);
+      thread.setDaemon(true);
+    }
+
+    /**
+     * Registers a listener for a type of event, called on the thread of this subscriber.
+     *
+     * @param eventType the event type, or an interface of the event hierarchy
+     * @param listener the listener to notify
+     * @see EventBus#addListener(Class, EventListener)
+     */
+    public void addListener(Class<? extends Event> eventType, EventListener listener) {
+      bus.addListener(eventType, listener);
+    }
+
+    /**
+     * Removes a listener for a type of event.
+     *
+     * @param eventType the event type the listener was registered for
+     * @param listener the listener to remove
+     * @see EventBus#removeListener(Class, EventListener)
+     */
+    public void removeListener(Class<? extends Event> eventType, EventListener listener) {
+      bus.removeListener(eventType, listener);
+    }
+
+    /**
+     * Retrieves the name of this subscriber.
+     *
+     * @return the name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Retrieves what happens when this subscriber falls a whole ring behind.
+     *
+     * @return the overflow policy
+     */
+    public OverflowPolicy getPolicy() {
+      return policy;
+    }
+
+    /**
+     * Retrieves how many events this subscriber has dispatched to its listeners.
+     *
+     * @return the number of handled events
+     */
+    public long getProcessedCount() {
+      return processed.get();
+    }
+
+    /**
+     * Retrieves how many events were overwritten before this subscriber could read them.
+     *
+     * @return the number of dropped events, always 0 for {@link OverflowPolicy#BLOCK}
+     */
+    public long getDroppedCount() {
+      return dropped.get();
+    }
+
+    /**
+     * Retrieves how many batches this subscriber has read from the ring.
+     *
+     * @return the number of batches
+     */
+    public long getBatchCount() {
+      return batches.get();
+    }
+
+    private void run() {
+      try {
+        consume();
+      } finally {
+        // never hold publishers back once stopped, even if a listener threw an error
+        sequence = Long.MAX_VALUE;
+      }
+    }
+
+    private void consume() {
+      long next = sequence;
+      int attempt = 0;
+      while (true) {
+        long first = next;
+        int read = 0;
+        while (read < capacity) {
+          int slot = (int) next & mask;
+          long stamp = stamps.get(slot);
+          if (stamp == 2 * next + 1) {
+            var event = slots.get(slot);
+            if (stamps.get(slot) == stamp) {
+              dispatch(event);
+              next++;
+              read++;
+              continue;
+            }
+          } else if (stamp <= 2 * next + 1) {
+            break;
+          }
+          // overwritten by a publisher a whole ring ahead
+          long resume = Math.max(next + 1, claimed.get() - capacity);
+          dropped.addAndGet(resume - next);
+          next = resume;
+        }
+        if (next != first) {
+          sequence = next;
+        }
+        if (read > 0) {
+          batches.incrementAndGet();
+          attempt = 0;
+        } else if (closed && next >= claimed.get()) {
+          break;
+        } else {
+          waitStrategy.idle(attempt++);
+        }
+      }
+    }
+
+    private void dispatch(Event event) {
+      try {
+        bus.publishEvent(event);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "Listener of " + name + " failed on " + event, e);
+      }
+      processed.incrementAndGet();
+    }
+  }
+}
@@ -4,10 +4,14 @@ import static java.util.Objects.requireNonNull;
 
 import dev.nheggoe.boardgame.common.event.type.Event;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -23,6 +27,14 @@ import java.util.logging.Logger;
  * <li>Notifying all relevant listeners when an event is published.
  * <li>Ensuring listeners are not notified if they are removed or unregistered.
  *
+ *     <p>Listeners may subscribe to a concrete event record or to any interface of the sealed
+ *     {@link Event} hierarchy, such as every {@code CoreEvent}. The hierarchy is walked once when
+ *     the bus is created, giving every concrete event type a route that holds an array of all
+ *     listeners it reaches, the most specific subscriptions first. Registering or removing a
+ *     listener replaces the arrays it affects, so publishing reads a single array without locking
+ *     and may happen from any thread. Every route also counts the events published through it and
+ *     the time spent in its listeners.
+ *
  * @see EventPublisher
  * @see Event
  * @see EventListener
@@ -31,28 +43,179 @@ public final class EventBus implements EventPublisher {
 
   private static final Logger LOGGER = Logger.getLogger(EventBus.class.getName());
 
-  private final Map<Class<? extends Event>, List<EventListener>> listeners = new HashMap<>();
+  private static final EventListener[] NO_LISTENERS = {};
+
+  private final Map<Class<?>, Route> routes;
+  private final Map<Class<?>, List<Route>> routesBySubscription;
+  private final Map<Class<?>, List<EventListener>> subscriptions = new HashMap<>();
+
+  /** Creates an event bus with a route for every concrete type of the {@link Event} hierarchy. */
+  public EventBus() {
+    var types = eventTypes();
+    var routeMap = new HashMap<Class<?>, Route>();
+    var covered = new HashMap<Class<?>, List<Route>>();
+    types.forEach(type -> covered.put(type, new ArrayList<>()));
+    for (var type : types) {
+      if (type.isInterface()) {
+        continue;
+      }
+      var keys =
+          types.stream()
+              .filter(key -> key.isAssignableFrom(type))
+              .sorted(Comparator.comparingInt(EventBus::depth).reversed())
+              .toArray(Class<?>[]::new);
+      var route = new Route(keys);
+      routeMap.put(type, route);
+      for (var key : keys) {
+        covered.get(key).add(route);
+      }
+    }
+    this.routes = Map.copyOf(routeMap);
+    var bySubscription = new HashMap<Class<?>, List<Route>>();
+    covered.forEach((type, list) -> bySubscription.put(type, List.copyOf(list)));
+    this.routesBySubscription = Map.copyOf(bySubscription);
+  }
 
   @Override
-  public void addListener(Class<? extends Event> eventType, EventListener listener) {
+  public synchronized void addListener(Class<? extends Event> eventType, EventListener listener) {
     requireNonNull(eventType, "Event type cannot be null!");
     requireNonNull(listener, "Listener cannot be null!");
-    listeners.computeIfAbsent(eventType, k -> new ArrayList<>()).add(listener);
+    subscriptions.computeIfAbsent(eventType, k -> new ArrayList<>()).add(listener);
+    refreshRoutes(eventType);
   }
 
   @Override
-  public void removeListener(Class<? extends Event> eventType, EventListener listener) {
+  public synchronized void removeListener(
+      Class<? extends Event> eventType, EventListener listener) {
     requireNonNull(eventType, "Event type cannot be null!");
     requireNonNull(listener, "Listener cannot be null!");
-    listeners.getOrDefault(eventType, List.of()).remove(listener);
+    if (subscriptions.getOrDefault(eventType, List.of()).remove(listener)) {
+      refreshRoutes(eventType);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Listeners subscribed to an interface the event type implements count as well, and for an
+   * interface type any listener that some event of that type would reach counts.
+   */
+  @Override
+  public boolean hasListeners(Class<? extends Event> eventType) {
+    requireNonNull(eventType, "Event type cannot be null!");
+    for (var route : routesBySubscription.getOrDefault(eventType, List.of())) {
+      if (route.listeners.length > 0) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
   public void publishEvent(Event event) {
     requireNonNull(event, "event cannot be null!");
-    LOGGER.info(() -> LocalDateTime.now() + " sent: " + event);
-    listeners
-        .getOrDefault(event.getClass(), List.of())
-        .forEach(listener -> listener.onEvent(event));
+    if (LOGGER.isLoggable(Level.INFO)) {
+      LOGGER.info(LocalDateTime.now() + " sent: " + event);
+    }
+    var route = routes.get(event.getClass());
+    if (route == null) {
+      return;
+    }
+    route.published.increment();
+    var listeners = route.listeners;
+    if (listeners.length == 0) {
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      for (var listener : listeners) {
+        listener.onEvent(event);
+      }
+    } finally {
+      route.listenerNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Retrieves how many events of the given type have been published on this bus, whether or not
+   * anybody listened.
+   *
+   * @param eventType a concrete event type, or an interface to sum over every type implementing it
+   * @return the number of published events
+   * @throws NullPointerException if the eventType is null
+   */
+  public long getPublishCount(Class<? extends Event> eventType) {
+    requireNonNull(eventType, "Event type cannot be null!");
+    long count = 0;
+    for (var route : routesBySubscription.getOrDefault(eventType, List.of())) {
+      count += route.published.sum();
+    }
+    return count;
+  }
+
+  /**
+   * Retrieves the total time the listeners spent handling events of the given type.
+   *
+   * @param eventType a concrete event type, or an interface to sum over every type implementing it
+   * @return the time spent in listeners, in nanoseconds
+   * @throws NullPointerException if the eventType is null
+   */
+  public long getListenerNanos(Class<? extends Event> eventType) {
+    requireNonNull(eventType, "Event type cannot be null!");
+    long nanos = 0;
+    for (var route : routesBySubscription.getOrDefault(eventType, List.of())) {
+      nanos += route.listenerNanos.sum();
+    }
+    return nanos;
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void refreshRoutes(Class<?> eventType) {
+    for (var route : routesBySubscription.getOrDefault(eventType, List.of())) {
+      var listeners = new ArrayList<EventListener>();
+      for (var key : route.keys) {
+        listeners.addAll(subscriptions.getOrDefault(key, List.of()));
+      }
+      route.listeners = listeners.toArray(NO_LISTENERS);
+    }
+  }
+
+  private static List<Class<?>> eventTypes() {
+    var types = new ArrayList<Class<?>>();
+    var pending = new ArrayDeque<Class<?>>();
+    pending.add(Event.class);
+    while (!pending.isEmpty()) {
+      var type = pending.poll();
+      if (types.contains(type)) {
+        continue;
+      }
+      types.add(type);
+      if (type.isSealed()) {
+        pending.addAll(List.of(type.getPermittedSubclasses()));
+      }
+    }
+    return types;
+  }
+
+  private static int depth(Class<?> type) {
+    int depth = 0;
+    for (var supertype : type.getInterfaces()) {
+      if (Event.class.isAssignableFrom(supertype)) {
+        depth = Math.max(depth, depth(supertype) + 1);
+      }
+    }
+    return depth;
+  }
+
+  private static final class Route {
+    private final Class<?>[] keys;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder listenerNanos = new LongAdder();
+    private volatile EventListener[] listeners = NO_LISTENERS;
+
+    private Route(Class<?>[] keys) {
+      this.keys = keys;
+    }
   }
 }
@@ -59,4 +59,14 @@ public interface EventPublisher {
    * @throws NullPointerException if the event is null
    */
   void publishEvent(Event event);
+
+  /**
+   * Checks whether any listener is registered for the given event type. Publishers can use it to
+   * skip building events that nobody would receive.
+   *
+   * @param eventType the class of the event type to check; must not be null
+   * @return true if at least one listener is registered for the event type
+   * @throws NullPointerException if the eventType is null
+   */
+  boolean hasListeners(Class<? extends Event> eventType);
 }
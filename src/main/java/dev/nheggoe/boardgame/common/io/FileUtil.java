@@ -2,11 +2,19 @@ package dev.nheggoe.boardgame.common.io;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -16,14 +24,15 @@ import java.util.logging.Logger;
  * paths for standard and test environments with validated extensions.
  *
  * @author Nick Heggø
- * @version 2025.05.22
+ * @version 2025.06.02
  */
 public class FileUtil {
 
   private static final Logger LOGGER = Logger.getLogger(FileUtil.class.getName());
 
   private static final String FILE_PATH_TEMPLATE = "data/%s/%s.%s";
-  private static final List<String> SUPPORTED_FILE_EXTENSIONS = List.of("json", "csv");
+  private static final List<String> SUPPORTED_FILE_EXTENSIONS = List.of("json", "csv", "bin");
+  private static final int BUFFER_SIZE = 1 << 16;
 
   private FileUtil() {}
 
@@ -67,6 +76,97 @@ public class FileUtil {
     }
   }
 
+  /**
+   * Replaces the content of a file atomically. The content is written through a buffered channel to
+   * a temporary file in the same directory, forced to disk, and then renamed over the file, so a
+   * crash leaves either the old or the new content but never a mix. Missing parent directories are
+   * created.
+   *
+   * @param path the file to replace; must not be null
+   * @param content writes the new content of the file
+   * @throws IOException if the file cannot be written or renamed; the old content is then kept
+   */
+  public static void writeAtomically(Path path, ContentWriter content) throws IOException {
+    requireNonNull(content, "The content writer cannot be null");
+    replaceAtomically(
+        path,
+        channel -> {
+          Writer writer =
+              new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), BUFFER_SIZE);
+          content.write(writer);
+          writer.flush();
+        });
+  }
+
+  /**
+   * Replaces the content of a file atomically with the given bytes, the same way as {@link
+   * #writeAtomically(Path, ContentWriter)}.
+   *
+   * @param path the file to replace; must not be null
+   * @param content the new content of the file
+   * @throws IOException if the file cannot be written or renamed; the old content is then kept
+   */
+  public static void writeAtomically(Path path, byte[] content) throws IOException {
+    requireNonNull(content, "The content cannot be null");
+    replaceAtomically(
+        path,
+        channel -> {
+          var buffer = ByteBuffer.wrap(content);
+          while (buffer.hasRemaining()) {
+            channel.write(buffer);
+          }
+        });
+  }
+
+  /** Writes the content of a file. */
+  @FunctionalInterface
+  public interface ContentWriter {
+
+    /**
+     * Writes the content to the given writer.
+     *
+     * @param writer the writer to write the content to; closed by the caller
+     * @throws IOException if the content cannot be written
+     */
+    void write(Writer writer) throws IOException;
+  }
+
+  private interface ChannelContent {
+    void write(FileChannel channel) throws IOException;
+  }
+
+  private static void replaceAtomically(Path path, ChannelContent content) throws IOException {
+    requireNonNull(path, "The path cannot be null");
+
+    Path directory = path.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        content.write(channel);
+        channel.force(true);
+      }
+      try {
+        Files.move(
+            temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+    forceDirectory(directory);
+  }
+
+  // forces the rename to disk; not every platform can open a directory, so this is best effort
+  private static void forceDirectory(Path directory) {
+    try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+      channel.force(true);
+    } catch (IOException e) {
+      LOGGER.fine(() -> "Could not force directory to disk: " + directory);
+    }
+  }
+
   /**
    * Ensures that the specified file exists. If the file doesn't exist or is corrupted, it will be
    * created from the default resource file.
@@ -0,0 +1,31 @@
+package dev.nheggoe.boardgame.common.io.binary;
+
+/**
+ * Custom exception used to indicate errors related to binary save files, such as a save file that
+ * cannot be read, holds another type of entity or was written with a newer schema.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class BinaryException extends RuntimeException {
+
+  /**
+   * Constructs a new instance of {@code BinaryException} with the specified detail message.
+   *
+   * @param message the detail message that describes the error
+   */
+  public BinaryException(String message) {
+    super(message);
+  }
+
+  /**
+   * Constructs a new instance of {@code BinaryException} with the specified detail message and the
+   * I/O failure that caused it.
+   *
+   * @param message the detail message that describes the error
+   * @param cause the underlying failure
+   */
+  public BinaryException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,203 @@
+package dev.nheggoe.boardgame.common.io.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.io.DAO;
+import dev.nheggoe.boardgame.common.io.FileUtil;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoard;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderGame;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Service class for reading from and writing to compact binary save files. It is an alternative to
+ * {@link dev.nheggoe.boardgame.common.io.json.JsonService} for Monopoly and snake and ladder games
+ * and their boards.
+ *
+ * <p>A save starts with a header holding a magic number, the schema version and the type of the
+ * saved entities, followed by a table of every string in the file: player, save, property and
+ * utility names are written once and referred to by index. Numbers are written as varints and tiles
+ * as one-byte type codes, so a save is a fraction of the size of its JSON counterpart and is read
+ * without any reflection.
+ *
+ * <p>Unlike the JSON files, a saved game keeps its players, the turn order, the round number, the
+ * balances and assets of the players, who is in jail and the position of its dice generator. A game
+ * read back is built anew with the given event bus and, for Monopoly, the given decision provider,
+ * so a headless provider lets it play on without a JavaFX toolkit.
+ *
+ * @param <T> the type of the saved entities
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class BinaryService<T> implements DAO<T> {
+
+  static final int MAGIC = 0x42475342; // "BGSB"
+  static final int SCHEMA_VERSION = 1;
+
+  private final Format<T> format;
+  private final SaveCodec codec;
+  private final Path file;
+
+  /**
+   * Constructs a new instance of the BinaryService class that keeps its saves in a binary file
+   * named after the target class.
+   *
+   * @param targetClass the class of the objects to read and write
+   * @param eventBus the event bus given to games that are read back
+   * @param decisionProvider the decision provider given to Monopoly games that are read back
+   * @throws UnsupportedOperationException if the target class cannot be saved in binary
+   * @throws NullPointerException if any parameter is null
+   */
+  public BinaryService(
+      Class<T> targetClass, EventBus eventBus, MonopolyDecisionProvider decisionProvider) {
+    this(
+        targetClass,
+        eventBus,
+        decisionProvider,
+        FileUtil.generateFilePath(
+            requireNonNull(targetClass, "Target class must not be null").getSimpleName(), "bin"));
+  }
+
+  /**
+   * Constructs a new instance of the BinaryService class that keeps its saves in the given file.
+   *
+   * @param targetClass the class of the objects to read and write
+   * @param eventBus the event bus given to games that are read back
+   * @param decisionProvider the decision provider given to Monopoly games that are read back
+   * @param file the binary file to read and write
+   * @throws UnsupportedOperationException if the target class cannot be saved in binary
+   * @throws NullPointerException if any parameter is null
+   */
+  public BinaryService(
+      Class<T> targetClass,
+      EventBus eventBus,
+      MonopolyDecisionProvider decisionProvider,
+      Path file) {
+    requireNonNull(targetClass, "Target class must not be null");
+    this.codec =
+        new SaveCodec(
+            requireNonNull(eventBus, "Event bus must not be null"),
+            requireNonNull(decisionProvider, "Decision provider must not be null"));
+    this.file = requireNonNull(file, "File must not be null");
+    this.format = Format.of(targetClass);
+  }
+
+  /**
+   * Loads every entity from the binary file. If the file does not exist or is empty, an empty
+   * stream is returned.
+   *
+   * @return a stream of the entities read from the file
+   * @throws BinaryException if the file cannot be read or does not hold a save of the target class
+   */
+  @Override
+  public Stream<T> deserializeFromSource() {
+    try {
+      if (!FileUtil.isFileValid(file)) {
+        return Stream.empty();
+      }
+      return decode(ByteBuffer.wrap(Files.readAllBytes(file))).stream();
+    } catch (IOException e) {
+      throw new BinaryException("Could not read binary save: " + file, e);
+    }
+  }
+
+  /**
+   * Writes a set of entities to the binary file, replacing its content atomically.
+   *
+   * @param entities the set of entities to write
+   * @throws BinaryException if the file cannot be written
+   */
+  @Override
+  public void serializeToSource(Set<T> entities) {
+    requireNonNull(entities, "Entities cannot be null!");
+    try {
+      FileUtil.writeAtomically(file, encode(entities));
+    } catch (IOException e) {
+      throw new BinaryException("Could not write binary save: " + file, e);
+    }
+  }
+
+  /**
+   * Encodes the given entities as one self-contained save.
+   *
+   * @param entities the entities to encode
+   * @return the bytes of the save
+   */
+  byte[] encode(Set<T> entities) {
+    var out = new SaveWriter();
+    for (T entity : entities) {
+      format.writer.accept(codec, out, entity);
+    }
+    return out.toSave(MAGIC, SCHEMA_VERSION, format.kind, entities.size());
+  }
+
+  /**
+   * Decodes the entities of a save written by {@link #encode}.
+   *
+   * @param buffer the bytes of the save, from its current position
+   * @return the entities, in the order they were written
+   * @throws BinaryException if the save is corrupt or holds other entities
+   */
+  List<T> decode(ByteBuffer buffer) {
+    try {
+      var in = new SaveReader(buffer);
+      int count = in.readHeader(MAGIC, SCHEMA_VERSION, format.kind);
+      var entities = new ArrayList<T>(count);
+      for (int i = 0; i < count; i++) {
+        entities.add(format.reader.apply(codec, in));
+      }
+      return entities;
+    } catch (BufferUnderflowException | IllegalArgumentException | ArithmeticException e) {
+      throw new BinaryException("Corrupt binary save: " + file, e);
+    }
+  }
+
+  // ------------------------  private  ------------------------
+
+  /** Writes an entity with a codec. */
+  @FunctionalInterface
+  private interface EntityWriter<T> {
+    void accept(SaveCodec codec, SaveWriter out, T entity);
+  }
+
+  /** How the entities of a supported class are written and read, and the code of the class. */
+  private record Format<T>(
+      int kind, EntityWriter<T> writer, BiFunction<SaveCodec, SaveReader, T> reader) {
+
+    @SuppressWarnings("unchecked")
+    static <T> Format<T> of(Class<T> targetClass) {
+      Format<?> format;
+      if (targetClass == MonopolyGame.class) {
+        format =
+            new Format<MonopolyGame>(1, SaveCodec::writeMonopolyGame, SaveCodec::readMonopolyGame);
+      } else if (targetClass == SnakeAndLadderGame.class) {
+        format =
+            new Format<SnakeAndLadderGame>(
+                2, SaveCodec::writeSnakeAndLadderGame, SaveCodec::readSnakeAndLadderGame);
+      } else if (targetClass == MonopolyBoard.class) {
+        format =
+            new Format<MonopolyBoard>(
+                3, SaveCodec::writeMonopolyBoard, SaveCodec::readMonopolyBoard);
+      } else if (targetClass == SnakeAndLadderBoard.class) {
+        format =
+            new Format<SnakeAndLadderBoard>(
+                4, SaveCodec::writeSnakeAndLadderBoard, SaveCodec::readSnakeAndLadderBoard);
+      } else {
+        throw new UnsupportedOperationException("Unsupported target class type: " + targetClass);
+      }
+      return (Format<T>) format;
+    }
+  }
+}
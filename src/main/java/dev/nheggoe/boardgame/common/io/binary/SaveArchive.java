@@ -0,0 +1,366 @@
+package dev.nheggoe.boardgame.common.io.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.io.FileUtil;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Keeps any number of saved entities in one memory-mapped, append-only file, with an index in
+ * memory from the UUID of every entity to the place of its record in the file.
+ *
+ * <p>Every record holds one entity as a self-contained binary save of {@link BinaryService}, so
+ * {@link #read(UUID)} decodes only the requested entity, straight from the mapping. Opening an
+ * archive reads only the record headers to build the index. Saving an entity appends a new record
+ * and removing one appends a tombstone, so a save costs the same however many entities are stored.
+ * Records that were replaced or removed are dropped when they take up more of the file than the
+ * live ones.
+ *
+ * <p>A record starts with its length, the UUID of the entity and a CRC-32C checksum of the UUID and
+ * the save. The unused tail of the mapping reads as length 0, which marks the end of the archive.
+ * The pages of a mapping reach the disk in any order, so after a power loss a record may have its
+ * length but not the rest. Such a record fails its checksum, and opening the archive treats it as
+ * the end, dropping the saves that had not been forced to disk yet.
+ *
+ * @param <T> the type of the saved entities
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class SaveArchive<T> implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(SaveArchive.class.getName());
+
+  private static final int MAGIC = 0x42475341; // "BGSA"
+  private static final int HEADER_SIZE = Integer.BYTES;
+  // the length, the UUID of the entity and the checksum
+  private static final int RECORD_HEADER_SIZE = Integer.BYTES + 2 * Long.BYTES + Integer.BYTES;
+  private static final int UUID_OFFSET = Integer.BYTES;
+  private static final int CHECKSUM_OFFSET = Integer.BYTES + 2 * Long.BYTES;
+  private static final int END = 0;
+  private static final int TOMBSTONE = -1;
+  private static final int MIN_CAPACITY = 1 << 16;
+  private static final long MIN_COMPACTION_WASTE = 1 << 16;
+
+  private final Path path;
+  private final BinaryService<T> service;
+  private final Map<UUID, Slot> index;
+  private FileChannel channel;
+  private MappedByteBuffer mapping;
+  private int end;
+  private long wastedBytes;
+
+  /**
+   * Opens the archive at the given path, creating it if it does not exist.
+   *
+   * @param targetClass the class of the saved entities
+   * @param eventBus the event bus given to games that are read back
+   * @param decisionProvider the decision provider given to Monopoly games that are read back
+   * @param path the archive file
+   * @throws UnsupportedOperationException if the target class cannot be saved in binary
+   * @throws BinaryException if the file cannot be opened or is not an archive
+   * @throws NullPointerException if any parameter is null
+   */
+  public SaveArchive(
+      Class<T> targetClass,
+      EventBus eventBus,
+      MonopolyDecisionProvider decisionProvider,
+      Path path) {
+    this.path = requireNonNull(path, "Path cannot be null!");
+    this.service = new BinaryService<>(targetClass, eventBus, decisionProvider, path);
+    this.index = new LinkedHashMap<>();
+    try {
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      open();
+    } catch (IOException e) {
+      throw new BinaryException("Could not open save archive " + path, e);
+    }
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Retrieves the UUIDs of the saved entities.
+   *
+   * @return a copy of the UUIDs, in the order the entities were first saved
+   */
+  public synchronized Set<UUID> ids() {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(index.keySet()));
+  }
+
+  /**
+   * Checks whether an entity with the given UUID is saved in the archive.
+   *
+   * @param id the UUID of the entity
+   * @return true if the entity is saved
+   */
+  public synchronized boolean contains(UUID id) {
+    return index.containsKey(id);
+  }
+
+  /**
+   * Retrieves the number of saved entities.
+   *
+   * @return the number of entities
+   */
+  public synchronized int size() {
+    return index.size();
+  }
+
+  /**
+   * Decodes the entity with the given UUID, and no other, from the archive.
+   *
+   * @param id the UUID of the entity
+   * @return an Optional containing the entity if it is saved
+   * @throws BinaryException if the record of the entity is corrupt
+   * @throws IllegalStateException if the archive is closed
+   */
+  public Optional<T> read(UUID id) {
+    requireNonNull(id, "Id cannot be null!");
+    ByteBuffer record;
+    synchronized (this) {
+      ensureOpen();
+      Slot slot = index.get(id);
+      if (slot == null) {
+        return Optional.empty();
+      }
+      record = slot.of(mapping);
+    }
+    // a record is never overwritten, so it is decoded without holding the lock
+    return Optional.of(decode(record));
+  }
+
+  /**
+   * Returns a stream that decodes the saved entities one at a time, as they are consumed.
+   *
+   * @return a stream of the saved entities, in the order they were first saved
+   * @throws IllegalStateException if the archive is closed
+   */
+  public Stream<T> readAll() {
+    var records = new ArrayList<ByteBuffer>();
+    synchronized (this) {
+      ensureOpen();
+      index.values().forEach(slot -> records.add(slot.of(mapping)));
+    }
+    return records.stream().map(this::decode);
+  }
+
+  /**
+   * Appends the changed entities and a tombstone for every removed one, then forces the archive to
+   * disk. Removed entities that are not saved are ignored.
+   *
+   * @param changed the entities to save, by their UUID
+   * @param removed the UUIDs of the entities to remove
+   * @throws BinaryException if the archive cannot be written
+   * @throws IllegalStateException if the archive is closed
+   */
+  public synchronized void write(Map<UUID, ? extends T> changed, Set<UUID> removed) {
+    requireNonNull(changed, "Changed entities cannot be null!");
+    requireNonNull(removed, "Removed ids cannot be null!");
+    ensureOpen();
+    // encode everything first, so a failing entity leaves the archive untouched
+    var saves = new LinkedHashMap<UUID, byte[]>();
+    changed.forEach((id, entity) -> saves.put(id, service.encode(Set.of(entity))));
+    saves.forEach(this::append);
+    for (UUID id : removed) {
+      if (!saves.containsKey(id) && index.containsKey(id)) {
+        append(id, null);
+      }
+    }
+    mapping.force();
+    if (wastedBytes > MIN_COMPACTION_WASTE && wastedBytes > end - wastedBytes) {
+      compact();
+    }
+  }
+
+  /**
+   * Rewrites the archive with only the live records, replacing the file atomically.
+   *
+   * @throws BinaryException if the archive cannot be rewritten
+   * @throws IllegalStateException if the archive is closed
+   */
+  public synchronized void compact() {
+    ensureOpen();
+    var live = new byte[end - (int) wastedBytes];
+    var out = ByteBuffer.wrap(live).putInt(MAGIC);
+    for (Slot slot : index.values()) {
+      int start = slot.offset() - RECORD_HEADER_SIZE;
+      out.put(mapping.slice(start, RECORD_HEADER_SIZE + slot.length()));
+    }
+    try {
+      closeChannel();
+      try {
+        FileUtil.writeAtomically(path, live);
+      } finally {
+        open();
+      }
+    } catch (IOException e) {
+      throw new BinaryException("Could not compact save archive " + path, e);
+    }
+  }
+
+  /**
+   * Forces the archive to disk, trims the unused tail of the file and closes it. Closing a closed
+   * archive has no effect.
+   *
+   * @throws BinaryException if the file cannot be closed
+   */
+  @Override
+  public synchronized void close() {
+    if (mapping == null) {
+      return;
+    }
+    try {
+      closeChannel();
+    } catch (IOException e) {
+      throw new BinaryException("Could not close save archive " + path, e);
+    }
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void open() throws IOException {
+    channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    long size = channel.size();
+    if (size > Integer.MAX_VALUE) {
+      throw new BinaryException("Save archive is too large to map: " + path);
+    }
+    mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, MIN_CAPACITY));
+    index.clear();
+    wastedBytes = 0;
+    if (size == 0) {
+      mapping.putInt(0, MAGIC);
+      end = HEADER_SIZE;
+    } else {
+      end = scan();
+    }
+  }
+
+  private int scan() {
+    if (mapping.getInt(0) != MAGIC) {
+      throw new BinaryException("Not a save archive: " + path);
+    }
+    int position = HEADER_SIZE;
+    while (position + RECORD_HEADER_SIZE <= mapping.capacity()) {
+      int length = mapping.getInt(position);
+      if (length == END) {
+        break;
+      }
+      int offset = position + RECORD_HEADER_SIZE;
+      int payload = length == TOMBSTONE ? 0 : length;
+      if (length < TOMBSTONE
+          || offset + payload > mapping.capacity()
+          || mapping.getInt(position + CHECKSUM_OFFSET) != checksum(position, payload)) {
+        // a record torn by a crash, so nothing after it was written completely either
+        LOGGER.warning("Ignoring incomplete save archive record at " + position + ": " + path);
+        break;
+      }
+      var id =
+          new UUID(
+              mapping.getLong(position + UUID_OFFSET),
+              mapping.getLong(position + UUID_OFFSET + Long.BYTES));
+      index(id, length == TOMBSTONE ? null : new Slot(offset, length));
+      position = offset + payload;
+    }
+    return position;
+  }
+
+  private void append(UUID id, byte[] save) {
+    int length = save == null ? 0 : save.length;
+    int offset = end + RECORD_HEADER_SIZE;
+    try {
+      ensureCapacity(offset + length + Integer.BYTES);
+    } catch (IOException e) {
+      throw new BinaryException("Could not grow save archive " + path, e);
+    }
+    mapping.putLong(end + UUID_OFFSET, id.getMostSignificantBits());
+    mapping.putLong(end + UUID_OFFSET + Long.BYTES, id.getLeastSignificantBits());
+    if (save != null) {
+      mapping.put(offset, save);
+    }
+    mapping.putInt(end + CHECKSUM_OFFSET, checksum(end, length));
+    // the length is written last, so a record cut short by a crashed process reads as the end
+    mapping.putInt(end, save == null ? TOMBSTONE : length);
+    index(id, save == null ? null : new Slot(offset, length));
+    end = offset + length;
+  }
+
+  /** Computes the checksum over the UUID and the save of the record at the given position. */
+  private int checksum(int position, int payload) {
+    var crc = new CRC32C();
+    crc.update(mapping.slice(position + UUID_OFFSET, 2 * Long.BYTES));
+    crc.update(mapping.slice(position + RECORD_HEADER_SIZE, payload));
+    return (int) crc.getValue();
+  }
+
+  private void index(UUID id, Slot slot) {
+    Slot previous = slot == null ? index.remove(id) : index.put(id, slot);
+    if (previous != null) {
+      wastedBytes += RECORD_HEADER_SIZE + previous.length();
+    }
+    if (slot == null) {
+      wastedBytes += RECORD_HEADER_SIZE;
+    }
+  }
+
+  private void ensureCapacity(long required) throws IOException {
+    if (required <= mapping.capacity()) {
+      return;
+    }
+    if (required > Integer.MAX_VALUE) {
+      throw new BinaryException("Save archive is too large to map: " + path);
+    }
+    long capacity = Math.min(Integer.MAX_VALUE, Math.max(required, 2L * mapping.capacity()));
+    mapping.force();
+    // earlier mappings stay valid, so records handed out by read are not affected
+    mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+  }
+
+  private void closeChannel() throws IOException {
+    mapping.force();
+    mapping = null;
+    try (var closing = channel) {
+      closing.truncate(end);
+    }
+  }
+
+  private void ensureOpen() {
+    if (mapping == null) {
+      throw new IllegalStateException("Save archive is closed!");
+    }
+  }
+
+  private T decode(ByteBuffer record) {
+    return service.decode(record).getFirst();
+  }
+
+  /** Where the save of an entity starts in the file, and its length. */
+  private record Slot(int offset, int length) {
+
+    ByteBuffer of(MappedByteBuffer mapping) {
+      return mapping.slice(offset, length);
+    }
+  }
+}
@@ -0,0 +1,381 @@
+package dev.nheggoe.boardgame.common.io.binary;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.core.model.Game;
+import dev.nheggoe.boardgame.core.model.GameSnapshot;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.core.simulation.ReplayRandom;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGameSnapshot;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Railroad;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Utility;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.CornerMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.FreeParkingMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.GoToJailMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.JailMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.StartMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TaxMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.Upgrade;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoard;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderGame;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderPlayer;
+import dev.nheggoe.boardgame.games.snake.model.tile.LadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeTile;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Encodes games and boards into the body of a binary save and decodes them back.
+ *
+ * <p>A tile is written as a one-byte type code followed by its payload. A game is written as its
+ * id, save name and board, followed by every seat with the player's name, figure, position and
+ * whether they are still in play, and then the turn cursor and round number. A Monopoly game adds
+ * the balance, owned assets and remaining jail rounds of every seat, with assets written as the
+ * position of their tile. A game that rolls with a {@link ReplayRandom} also keeps the seed and
+ * position of its generator, so it rolls on exactly as if it had never been saved. Decoded games
+ * are built with their public constructors, with the event bus and decision provider of the codec,
+ * and then brought to the saved state by restoring a snapshot.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+final class SaveCodec {
+
+  private final EventBus eventBus;
+  private final MonopolyDecisionProvider decisionProvider;
+
+  SaveCodec(EventBus eventBus, MonopolyDecisionProvider decisionProvider) {
+    this.eventBus = eventBus;
+    this.decisionProvider = decisionProvider;
+  }
+
+  // ------------------------  boards  ------------------------
+
+  void writeMonopolyBoard(SaveWriter out, MonopolyBoard board) {
+    out.writeVarint(board.tiles().size());
+    for (var tile : board.tiles()) {
+      switch (tile) {
+        case StartMonopolyTile start -> writeCorner(out, TileCode.START, start);
+        case JailMonopolyTile jail -> writeCorner(out, TileCode.JAIL, jail);
+        case FreeParkingMonopolyTile parking -> writeCorner(out, TileCode.FREE_PARKING, parking);
+        case GoToJailMonopolyTile goToJail -> writeCorner(out, TileCode.GO_TO_JAIL, goToJail);
+        case TaxMonopolyTile(int percentage) -> {
+          out.writeByte(TileCode.TAX.code);
+          out.writeVarint(percentage);
+        }
+        case OwnableMonopolyTile(Property property) -> {
+          out.writeByte(TileCode.PROPERTY.code);
+          out.writeString(property.getName());
+          out.writeByte(property.getColor().ordinal());
+          out.writeVarint(property.price());
+          var upgrades = property.getUpgrades();
+          out.writeVarint(upgrades.size());
+          for (var upgrade : upgrades) {
+            out.writeByte(upgrade.type().ordinal());
+            out.writeVarint(upgrade.rentMultiplierPercentage());
+          }
+        }
+        case OwnableMonopolyTile(Railroad railroad) -> {
+          out.writeByte(TileCode.RAILROAD.code);
+          out.writeVarint(railroad.price());
+        }
+        case OwnableMonopolyTile(Utility utility) -> {
+          out.writeByte(TileCode.UTILITY.code);
+          out.writeString(utility.name());
+          out.writeVarint(utility.price());
+        }
+      }
+    }
+  }
+
+  MonopolyBoard readMonopolyBoard(SaveReader in) {
+    int size = in.readCount();
+    var tiles = new ArrayList<MonopolyTile>(size);
+    for (int i = 0; i < size; i++) {
+      tiles.add(
+          switch (TileCode.of(in.readByte())) {
+            case START -> new StartMonopolyTile(readCorner(in));
+            case JAIL -> new JailMonopolyTile(readCorner(in));
+            case FREE_PARKING -> new FreeParkingMonopolyTile(readCorner(in));
+            case GO_TO_JAIL -> new GoToJailMonopolyTile(readCorner(in));
+            case TAX -> new TaxMonopolyTile(in.readInt());
+            case PROPERTY -> new OwnableMonopolyTile(readProperty(in));
+            case RAILROAD -> new OwnableMonopolyTile(new Railroad(in.readInt()));
+            case UTILITY -> new OwnableMonopolyTile(new Utility(in.readString(), in.readInt()));
+            default -> throw new BinaryException("Not a Monopoly tile");
+          });
+    }
+    return new MonopolyBoard(tiles);
+  }
+
+  void writeSnakeAndLadderBoard(SaveWriter out, SnakeAndLadderBoard board) {
+    out.writeVarint(board.tiles().size());
+    for (var tile : board.tiles()) {
+      switch (tile) {
+        case NormalTile ignored -> out.writeByte(TileCode.NORMAL.code);
+        case LadderTile(int tilesToSkip) -> {
+          out.writeByte(TileCode.LADDER.code);
+          out.writeVarint(tilesToSkip);
+        }
+        case SnakeTile(int tilesToSlideBack) -> {
+          out.writeByte(TileCode.SNAKE.code);
+          out.writeVarint(tilesToSlideBack);
+        }
+      }
+    }
+  }
+
+  SnakeAndLadderBoard readSnakeAndLadderBoard(SaveReader in) {
+    int size = in.readCount();
+    var tiles = new ArrayList<SnakeAndLadderTile>(size);
+    for (int i = 0; i < size; i++) {
+      tiles.add(
+          switch (TileCode.of(in.readByte())) {
+            case NORMAL -> new NormalTile();
+            case LADDER -> new LadderTile(in.readInt());
+            case SNAKE -> new SnakeTile(in.readInt());
+            default -> throw new BinaryException("Not a snake and ladder tile");
+          });
+    }
+    return new SnakeAndLadderBoard(tiles);
+  }
+
+  // ------------------------  games  ------------------------
+
+  void writeMonopolyGame(SaveWriter out, MonopolyGame game) {
+    var board = game.getBoard();
+    writeGame(out, game, () -> writeMonopolyBoard(out, board));
+
+    var assetTiles = new IdentityHashMap<Ownable, Integer>();
+    var tiles = board.tiles();
+    for (int position = 0; position < tiles.size(); position++) {
+      if (tiles.get(position) instanceof OwnableMonopolyTile(Ownable ownable)) {
+        assetTiles.put(ownable, position);
+      }
+    }
+    var prisoners = board.getJailTile().getPrisoners();
+    for (var player : game.getSeatedPlayers()) {
+      out.writeSignedVarint(player.getBalance());
+      var assets = player.getOwnedAssets();
+      out.writeVarint(assets.size());
+      for (var asset : assets) {
+        Integer position = assetTiles.get(asset);
+        if (position == null) {
+          throw new BinaryException("Owned asset is not on the board: " + asset);
+        }
+        out.writeVarint(position);
+      }
+      Integer jailRounds = prisoners.get(player);
+      out.writeVarint(jailRounds == null ? 0 : jailRounds + 1L);
+    }
+  }
+
+  MonopolyGame readMonopolyGame(SaveReader in) {
+    var saved =
+        readGame(
+            in,
+            this::readMonopolyBoard,
+            MonopolyPlayer::new,
+            (id, board, players, random) ->
+                new MonopolyGame(id, eventBus, board, players, decisionProvider, random));
+    var game = saved.game();
+    var tiles = game.getBoard().tiles();
+    var seats = game.getSeatedPlayers();
+
+    int[] balances = new int[seats.size()];
+    var ownedAssets = new ArrayList<List<Ownable>>(seats.size());
+    var prisoners = new HashMap<Player, Integer>();
+    for (int seat = 0; seat < balances.length; seat++) {
+      balances[seat] = in.readSignedInt();
+      int count = in.readCount();
+      var assets = new ArrayList<Ownable>(count);
+      for (int i = 0; i < count; i++) {
+        int position = in.readInt();
+        if (position >= tiles.size()
+            || !(tiles.get(position) instanceof OwnableMonopolyTile(Ownable ownable))) {
+          throw new BinaryException("No asset on tile " + position);
+        }
+        assets.add(ownable);
+      }
+      ownedAssets.add(assets);
+      int jailRounds = in.readInt();
+      if (jailRounds > 0) {
+        prisoners.put(seats.get(seat), jailRounds - 1);
+      }
+    }
+    var upgrades = new HashMap<Property, List<Upgrade>>();
+    for (var tile : tiles) {
+      if (tile instanceof OwnableMonopolyTile(Property property)
+          && !property.getUpgrades().isEmpty()) {
+        upgrades.put(property, property.getUpgrades());
+      }
+    }
+    game.restore(
+        MonopolyGameSnapshot.of(saved.turnState(), balances, ownedAssets, upgrades, prisoners));
+    return game;
+  }
+
+  void writeSnakeAndLadderGame(SaveWriter out, SnakeAndLadderGame game) {
+    writeGame(out, game, () -> writeSnakeAndLadderBoard(out, game.getBoard()));
+  }
+
+  SnakeAndLadderGame readSnakeAndLadderGame(SaveReader in) {
+    var saved =
+        readGame(
+            in,
+            this::readSnakeAndLadderBoard,
+            SnakeAndLadderPlayer::new,
+            (id, board, players, random) ->
+                new SnakeAndLadderGame(id, eventBus, board, players, random));
+    saved.game().restore(saved.turnState());
+    return saved.game();
+  }
+
+  // ------------------------  private  ------------------------
+
+  private static void writeCorner(SaveWriter out, TileCode code, CornerMonopolyTile tile) {
+    out.writeByte(code.code);
+    out.writeByte(tile.getPosition().ordinal());
+  }
+
+  private static CornerMonopolyTile.Position readCorner(SaveReader in) {
+    return enumOf(CornerMonopolyTile.Position.values(), in.readByte());
+  }
+
+  private static Property readProperty(SaveReader in) {
+    var property =
+        new Property(in.readString(), enumOf(Property.Color.values(), in.readByte()), in.readInt());
+    int count = in.readCount();
+    if (count > 0) {
+      var upgrades = new ArrayList<Upgrade>(count);
+      for (int i = 0; i < count; i++) {
+        upgrades.add(new Upgrade(enumOf(UpgradeType.values(), in.readByte()), in.readInt()));
+      }
+      property.restoreUpgrades(upgrades);
+    }
+    return property;
+  }
+
+  private static void writeGame(SaveWriter out, Game<?, ?> game, Runnable writeBoard) {
+    var snapshot = game.snapshot();
+    out.writeUuid(game.getId());
+    out.writeString(game.getGameSaveName());
+    out.writeBoolean(snapshot.isEnded());
+    var seed = game.getSeed();
+    out.writeBoolean(seed.isPresent());
+    if (seed.isPresent()) {
+      out.writeVarint(seed.getAsLong());
+      out.writeVarint(game.getDraws().orElseThrow());
+    }
+    writeBoard.run();
+
+    var seats = game.getSeatedPlayers();
+    out.writeVarint(seats.size());
+    for (int seat = 0; seat < seats.size(); seat++) {
+      var player = seats.get(seat);
+      out.writeString(player.getName());
+      out.writeByte(player.getFigure().ordinal());
+      out.writeSignedVarint(snapshot.getPosition(seat));
+      out.writeBoolean(snapshot.isSeatActive(seat));
+    }
+    out.writeSignedVarint(snapshot.getCurrentSeat());
+    out.writeVarint(snapshot.getRoundNumber());
+  }
+
+  private static <B, P extends Player, G extends Game<?, P>> SavedGame<G> readGame(
+      SaveReader in,
+      Function<SaveReader, B> readBoard,
+      BiFunction<String, Player.Figure, P> newPlayer,
+      GameConstructor<B, P, G> newGame) {
+    UUID id = in.readUuid();
+    String saveName = in.readString();
+    boolean ended = in.readBoolean();
+    ReplayRandom random;
+    if (in.readBoolean()) {
+      random = new ReplayRandom(in.readVarint());
+      random.jumpTo(in.readVarint());
+    } else {
+      random = ReplayRandom.withRandomSeed();
+    }
+    B board = readBoard.apply(in);
+
+    int seatCount = in.readCount();
+    var players = new ArrayList<P>(seatCount);
+    int[] positions = new int[seatCount];
+    boolean[] active = new boolean[seatCount];
+    for (int seat = 0; seat < seatCount; seat++) {
+      players.add(newPlayer.apply(in.readString(), enumOf(Player.Figure.values(), in.readByte())));
+      positions[seat] = in.readSignedInt();
+      active[seat] = in.readBoolean();
+    }
+    int currentSeat = in.readSignedInt();
+    int roundNumber = in.readInt();
+
+    G game = newGame.create(id, board, players, random);
+    game.setGameSaveName(saveName);
+    var turnState = game.snapshot().withState(positions, active, currentSeat, roundNumber, ended);
+    return new SavedGame<>(game, turnState);
+  }
+
+  private static <E extends Enum<E>> E enumOf(E[] values, int ordinal) {
+    if (ordinal >= values.length) {
+      throw new BinaryException("Unknown " + values[0].getDeclaringClass().getSimpleName());
+    }
+    return values[ordinal];
+  }
+
+  /** Builds a decoded game from its saved id, board, players and generator. */
+  @FunctionalInterface
+  private interface GameConstructor<B, P, G> {
+    G create(UUID id, B board, List<P> players, RandomGenerator random);
+  }
+
+  /** A decoded game and the saved turn state, which is restored once the rest is decoded. */
+  private record SavedGame<G>(G game, GameSnapshot turnState) {}
+
+  /** The code written in front of every tile. Codes must never change once released. */
+  private enum TileCode {
+    START(1),
+    JAIL(2),
+    FREE_PARKING(3),
+    GO_TO_JAIL(4),
+    TAX(5),
+    PROPERTY(6),
+    RAILROAD(7),
+    UTILITY(8),
+    NORMAL(9),
+    LADDER(10),
+    SNAKE(11);
+
+    private final int code;
+
+    TileCode(int code) {
+      this.code = code;
+    }
+
+    static TileCode of(int code) {
+      for (var tileCode : values()) {
+        if (tileCode.code == code) {
+          return tileCode;
+        }
+      }
+      throw new BinaryException("Unknown tile code: " + code);
+    }
+  }
+}
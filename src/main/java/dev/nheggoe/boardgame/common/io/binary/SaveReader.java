@@ -0,0 +1,116 @@
+package dev.nheggoe.boardgame.common.io.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Reads a binary save written by {@link SaveWriter}: the header and string table first, then the
+ * values of the body in the order they were written.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+final class SaveReader {
+
+  private static final int MAX_VARINT_BYTES = 10;
+
+  private final ByteBuffer buffer;
+  private String[] strings = new String[0];
+
+  SaveReader(ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Reads the header and the string table of the save.
+   *
+   * @param magic the four bytes that identify the file
+   * @param maxVersion the newest schema version that can be read
+   * @param kind the code of the type of the entities the save must hold
+   * @return the number of entities in the body
+   * @throws BinaryException if the header does not match
+   */
+  int readHeader(int magic, int maxVersion, int kind) {
+    if (buffer.remaining() < Integer.BYTES || buffer.getInt() != magic) {
+      throw new BinaryException("Not a binary save");
+    }
+    int version = readInt();
+    if (version < 1 || version > maxVersion) {
+      throw new BinaryException("Unsupported save schema version: " + version);
+    }
+    int savedKind = readByte();
+    if (savedKind != kind) {
+      throw new BinaryException("Save holds entities of kind " + savedKind + ", not " + kind);
+    }
+    strings = new String[readCount()];
+    for (int i = 0; i < strings.length; i++) {
+      byte[] utf8 = new byte[readCount()];
+      buffer.get(utf8);
+      strings[i] = new String(utf8, StandardCharsets.UTF_8);
+    }
+    return readCount();
+  }
+
+  int readByte() {
+    return buffer.get() & 0xFF;
+  }
+
+  boolean readBoolean() {
+    return buffer.get() != 0;
+  }
+
+  long readVarint() {
+    long value = 0;
+    for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+      int b = buffer.get();
+      value |= (long) (b & 0x7F) << (7 * i);
+      if (b >= 0) {
+        return value;
+      }
+    }
+    throw new BinaryException("Malformed varint");
+  }
+
+  int readInt() {
+    long value = readVarint();
+    // a ten-byte varint sets the sign bit
+    if (value < 0 || value > Integer.MAX_VALUE) {
+      throw new BinaryException("Number out of range: " + value);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Reads the number of items that follow, each of which takes at least one byte, so a corrupt
+   * count is rejected before anything is allocated for it.
+   *
+   * @return the number of items
+   * @throws BinaryException if the count is negative or more than the bytes left
+   */
+  int readCount() {
+    int count = readInt();
+    if (count > buffer.remaining()) {
+      throw new BinaryException(
+          "Count %d exceeds the %d bytes left".formatted(count, buffer.remaining()));
+    }
+    return count;
+  }
+
+  int readSignedInt() {
+    long encoded = readVarint();
+    return Math.toIntExact((encoded >>> 1) ^ -(encoded & 1));
+  }
+
+  UUID readUuid() {
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  String readString() {
+    int index = readInt();
+    if (index > strings.length) {
+      throw new BinaryException("String index out of range: " + index);
+    }
+    return index == 0 ? null : strings[index - 1];
+  }
+}
@@ -0,0 +1,113 @@
+package dev.nheggoe.boardgame.common.io.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes the body of a binary save into a growing byte array, and collects the strings it refers to
+ * in a table that is written once, in front of the body.
+ *
+ * <p>Unsigned numbers are written as varints of seven bits per byte, signed numbers are zigzag
+ * encoded first, and a string is written as its varint index in the table plus one, with zero for
+ * null.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+final class SaveWriter {
+
+  private final Map<String, Integer> stringIndices = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+  private byte[] bytes = new byte[256];
+  private int size;
+
+  void writeByte(int value) {
+    if (size == bytes.length) {
+      bytes = Arrays.copyOf(bytes, size * 2);
+    }
+    bytes[size++] = (byte) value;
+  }
+
+  void writeBoolean(boolean value) {
+    writeByte(value ? 1 : 0);
+  }
+
+  void writeVarint(long value) {
+    while ((value & ~0x7FL) != 0) {
+      writeByte((int) (value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    writeByte((int) value);
+  }
+
+  void writeSignedVarint(long value) {
+    writeVarint((value << 1) ^ (value >> 63));
+  }
+
+  void writeUuid(UUID id) {
+    writeLong(id.getMostSignificantBits());
+    writeLong(id.getLeastSignificantBits());
+  }
+
+  void writeString(String value) {
+    if (value == null) {
+      writeVarint(0);
+      return;
+    }
+    Integer index = stringIndices.get(value);
+    if (index == null) {
+      index = strings.size();
+      stringIndices.put(value, index);
+      strings.add(value);
+    }
+    writeVarint(index + 1L);
+  }
+
+  /**
+   * Assembles the save: the header, the string table, the number of entities and the body.
+   *
+   * @param magic the four bytes that identify the file
+   * @param version the schema version of the body
+   * @param kind the code of the type of the entities
+   * @param count the number of entities in the body
+   * @return the bytes of the save
+   */
+  byte[] toSave(int magic, int version, int kind, int count) {
+    var save = new SaveWriter();
+    for (int shift = 24; shift >= 0; shift -= 8) {
+      save.writeByte(magic >>> shift);
+    }
+    save.writeVarint(version);
+    save.writeByte(kind);
+    save.writeVarint(strings.size());
+    for (var string : strings) {
+      byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+      save.writeVarint(utf8.length);
+      save.writeBytes(utf8, utf8.length);
+    }
+    save.writeVarint(count);
+    save.writeBytes(bytes, size);
+    return Arrays.copyOf(save.bytes, save.size);
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void writeLong(long value) {
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      writeByte((int) (value >>> shift));
+    }
+  }
+
+  private void writeBytes(byte[] source, int length) {
+    if (size + length > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(size + length, bytes.length * 2));
+    }
+    System.arraycopy(source, 0, bytes, size, length);
+    size += length;
+  }
+}
@@ -0,0 +1,301 @@
+package dev.nheggoe.boardgame.common.io.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.common.event.EventListener;
+import dev.nheggoe.boardgame.common.event.type.CoreEvent;
+import dev.nheggoe.boardgame.common.event.type.Event;
+import dev.nheggoe.boardgame.common.event.type.MonopolyEvent;
+import dev.nheggoe.boardgame.common.event.type.SnakeAndLadderEvent;
+import dev.nheggoe.boardgame.common.event.type.UserInterfaceEvent;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.core.model.Tile;
+import dev.nheggoe.boardgame.core.model.dice.DiceRoll;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Records the events of a game to an append-only, memory-mapped binary log.
+ *
+ * <p>The journal listens to an event publisher and writes every dice roll, move, purchase, upgrade,
+ * jailing, removal and snake or ladder encounter as a one-byte tag followed by a compact payload.
+ * Players are written as their seat and assets as the first tile holding them, so an entry takes at
+ * most a few bytes. Messages for the user interface are not recorded.
+ *
+ * <p>The file is mapped one segment at a time and entries are written straight into the mapping, so
+ * recording an event costs no system call. Segments are forced to disk in batches, whenever the
+ * journal moves on to the next segment, on {@link #flush()} and on {@link #close()}. The unused
+ * tail of the last segment reads as tag 0, which marks the end of the journal even after a crash,
+ * and opening an existing journal appends to it.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class EventJournal implements EventListener {
+
+  private static final int MAGIC = 0x42474A31; // "BGJ1"
+  private static final int HEADER_SIZE = Integer.BYTES;
+  private static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+  private static final byte END = 0;
+  private static final int NONE = -1;
+  // a tag, a dice count and a face per die
+  private static final int MAX_ENTRY_SIZE = 2 + Byte.MAX_VALUE;
+
+  private final FileChannel channel;
+  private final int segmentSize;
+  private final Map<Player, Integer> seats;
+  private final Map<Ownable, Integer> assetTiles;
+  private MappedByteBuffer segment;
+  private long segmentStart;
+  private long entryCount;
+
+  /**
+   * Opens a journal at the given path, creating it if it does not exist.
+   *
+   * @param path the journal file
+   * @param seats the players of the game, in seat order
+   * @param tiles the tiles of the board, in board order
+   * @throws JournalException if the file cannot be opened or is not a journal
+   */
+  public EventJournal(Path path, List<? extends Player> seats, List<? extends Tile> tiles) {
+    this(path, seats, tiles, DEFAULT_SEGMENT_SIZE);
+  }
+
+  EventJournal(
+      Path path, List<? extends Player> seats, List<? extends Tile> tiles, int segmentSize) {
+    requireNonNull(path, "Path cannot be null!");
+    requireNonNull(seats, "Seats cannot be null!");
+    requireNonNull(tiles, "Tiles cannot be null!");
+    if (seats.size() > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("A journal holds at most 127 seats!");
+    }
+    this.segmentSize = Math.max(segmentSize, HEADER_SIZE + MAX_ENTRY_SIZE);
+    this.seats = new HashMap<>();
+    for (int seat = 0; seat < seats.size(); seat++) {
+      this.seats.putIfAbsent(seats.get(seat), seat);
+    }
+    this.assetTiles = new HashMap<>();
+    for (int position = 0; position < tiles.size(); position++) {
+      if (tiles.get(position) instanceof OwnableMonopolyTile(Ownable ownable)) {
+        assetTiles.putIfAbsent(ownable, position);
+      }
+    }
+    try {
+      this.channel =
+          FileChannel.open(
+              path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      long end = HEADER_SIZE;
+      if (channel.size() == 0) {
+        var header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).flip();
+        channel.write(header, 0);
+      } else {
+        var existing = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        end = scan(existing, entry -> entryCount++);
+      }
+      mapSegment(end);
+    } catch (IOException e) {
+      throw new JournalException("Could not open journal " + path, e);
+    }
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Reads every entry of the journal at the given path.
+   *
+   * @param path the journal file
+   * @return the entries, in the order they were recorded
+   * @throws JournalException if the file cannot be read or is not a journal
+   */
+  public static List<JournalEntry> readAll(Path path) {
+    var entries = new ArrayList<JournalEntry>();
+    forEachEntry(path, entries::add);
+    return entries;
+  }
+
+  /**
+   * Passes every entry of the journal at the given path to the given consumer, reading straight
+   * from a mapping of the file.
+   *
+   * @param path the journal file
+   * @param consumer receives the entries, in the order they were recorded
+   * @throws JournalException if the file cannot be read or is not a journal
+   */
+  public static void forEachEntry(Path path, Consumer<JournalEntry> consumer) {
+    requireNonNull(path, "Path cannot be null!");
+    requireNonNull(consumer, "Consumer cannot be null!");
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      scan(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), consumer);
+    } catch (IOException e) {
+      throw new JournalException("Could not read journal " + path, e);
+    }
+  }
+
+  /**
+   * Records the given event. Events without a journal encoding, such as output for the user
+   * interface, are ignored.
+   *
+   * @param event the event to record
+   * @throws IllegalStateException if the journal is closed
+   * @throws JournalException if the next segment cannot be mapped
+   */
+  @Override
+  public synchronized void onEvent(Event event) {
+    requireNonNull(event, "Event cannot be null!");
+    if (segment == null) {
+      throw new IllegalStateException("Journal is closed!");
+    }
+    if (segment.remaining() < MAX_ENTRY_SIZE) {
+      nextSegment();
+    }
+    switch (event) {
+      case CoreEvent.DiceRolled(DiceRoll diceRoll) -> {
+        int dice = diceRoll.getNumberOfDice();
+        segment.put(JournalEntry.Type.DICE_ROLLED.tag()).put((byte) dice);
+        for (int i = 0; i < dice; i++) {
+          segment.put((byte) diceRoll.getFace(i));
+        }
+      }
+      case CoreEvent.PlayerMoved(Player player) ->
+          putSeatAndTile(JournalEntry.Type.PLAYER_MOVED, player, player.getPosition());
+      case CoreEvent.PlayerRemoved(Player player) ->
+          segment.put(JournalEntry.Type.PLAYER_REMOVED.tag()).put(seatOf(player));
+      case MonopolyEvent.Purchased(var player, var ownable) ->
+          putSeatAndTile(JournalEntry.Type.PURCHASED, player, tileOf(ownable));
+      case MonopolyEvent.UpgradePurchased(var player, var ownable) -> {
+        putSeatAndTile(JournalEntry.Type.UPGRADE_PURCHASED, player, tileOf(ownable));
+        segment.put((byte) (ownable instanceof Property property ? upgradeLevel(property) : 0));
+      }
+      case MonopolyEvent.PlayerSentToJail(var player) ->
+          putSeatAndTile(JournalEntry.Type.SENT_TO_JAIL, player, player.getPosition());
+      case SnakeAndLadderEvent.SnakeEncountered(int position) ->
+          segment.put(JournalEntry.Type.SNAKE_ENCOUNTERED.tag()).putShort((short) position);
+      case SnakeAndLadderEvent.LadderEncountered(int position) ->
+          segment.put(JournalEntry.Type.LADDER_ENCOUNTERED.tag()).putShort((short) position);
+      case UserInterfaceEvent ignored -> {
+        return;
+      }
+    }
+    entryCount++;
+  }
+
+  /**
+   * Retrieves the number of entries in the journal, including those recorded before it was opened.
+   *
+   * @return the number of entries
+   */
+  public synchronized long size() {
+    return entryCount;
+  }
+
+  /**
+   * Forces the entries recorded so far to disk.
+   *
+   * @throws IllegalStateException if the journal is closed
+   */
+  public synchronized void flush() {
+    if (segment == null) {
+      throw new IllegalStateException("Journal is closed!");
+    }
+    segment.force();
+  }
+
+  /**
+   * Forces the remaining entries to disk, trims the unused tail of the file and closes it. Closing
+   * a closed journal has no effect.
+   *
+   * @throws JournalException if the file cannot be closed
+   */
+  @Override
+  public synchronized void close() {
+    if (segment == null) {
+      return;
+    }
+    segment.force();
+    long end = segmentStart + segment.position();
+    segment = null;
+    try (channel) {
+      channel.truncate(end);
+    } catch (IOException e) {
+      throw new JournalException("Could not close journal", e);
+    }
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void putSeatAndTile(JournalEntry.Type type, Player player, int tile) {
+    segment.put(type.tag()).put(seatOf(player)).putShort((short) tile);
+  }
+
+  private byte seatOf(Player player) {
+    return (byte) (int) seats.getOrDefault(player, NONE);
+  }
+
+  private int tileOf(Ownable ownable) {
+    return assetTiles.getOrDefault(ownable, NONE);
+  }
+
+  private static int upgradeLevel(Property property) {
+    return property.countHouses() + (property.hasHotel() ? 1 : 0);
+  }
+
+  private void nextSegment() {
+    segment.force();
+    try {
+      mapSegment(segmentStart + segment.position());
+    } catch (IOException e) {
+      throw new JournalException("Could not map the next journal segment", e);
+    }
+  }
+
+  private void mapSegment(long start) throws IOException {
+    segmentStart = start;
+    segment = channel.map(FileChannel.MapMode.READ_WRITE, start, segmentSize);
+  }
+
+  private static long scan(ByteBuffer buffer, Consumer<JournalEntry> consumer) {
+    if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+      throw new JournalException("Not an event journal");
+    }
+    while (buffer.hasRemaining()) {
+      byte tag = buffer.get();
+      if (tag == END) {
+        return buffer.position() - 1L;
+      }
+      consumer.accept(decode(JournalEntry.Type.ofTag(tag), buffer));
+    }
+    return buffer.position();
+  }
+
+  private static JournalEntry decode(JournalEntry.Type type, ByteBuffer buffer) {
+    return switch (type) {
+      case DICE_ROLLED -> {
+        int[] rolls = new int[buffer.get()];
+        for (int die = 0; die < rolls.length; die++) {
+          rolls[die] = buffer.get();
+        }
+        var diceRoll = rolls.length == 2 ? DiceRoll.of(rolls[0], rolls[1]) : new DiceRoll(rolls);
+        yield new JournalEntry(type, NONE, NONE, NONE, diceRoll);
+      }
+      case PLAYER_REMOVED -> new JournalEntry(type, buffer.get(), NONE, NONE, null);
+      case PLAYER_MOVED, PURCHASED, SENT_TO_JAIL ->
+          new JournalEntry(type, buffer.get(), buffer.getShort(), NONE, null);
+      case UPGRADE_PURCHASED ->
+          new JournalEntry(type, buffer.get(), buffer.getShort(), buffer.get(), null);
+      case SNAKE_ENCOUNTERED, LADDER_ENCOUNTERED ->
+          new JournalEntry(type, NONE, buffer.getShort(), NONE, null);
+    };
+  }
+}
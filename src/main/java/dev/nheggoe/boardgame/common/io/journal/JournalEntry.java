@@ -0,0 +1,73 @@
+package dev.nheggoe.boardgame.common.io.journal;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.core.model.dice.DiceRoll;
+
+/**
+ * One event read back from an {@link EventJournal}, with players and tiles as indices.
+ *
+ * @param type the kind of event
+ * @param seat the seat of the player the event is about, or -1 if none or unknown
+ * @param tile the board position the event is about, or -1 if none or unknown
+ * @param level the number of upgrades on the property after an upgrade, otherwise -1
+ * @param diceRoll the roll of a {@link Type#DICE_ROLLED} entry, otherwise {@code null}
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public record JournalEntry(Type type, int seat, int tile, int level, DiceRoll diceRoll) {
+
+  /**
+   * Validates the type of the entry.
+   *
+   * @throws NullPointerException if the type is null
+   */
+  public JournalEntry {
+    requireNonNull(type, "Type cannot be null!");
+  }
+
+  /** The kinds of event a journal records, each with its own compact encoding. */
+  public enum Type {
+    /** A roll of the dice: the number of dice followed by one byte per face. */
+    DICE_ROLLED,
+    /** A player moved: their seat and the tile they ended on. */
+    PLAYER_MOVED,
+    /** A player left the game: their seat. */
+    PLAYER_REMOVED,
+    /** A player bought an asset: their seat and the tile of the asset. */
+    PURCHASED,
+    /** A player upgraded a property: their seat, its tile and its upgrade count. */
+    UPGRADE_PURCHASED,
+    /** A player was sent to jail: their seat and the jail tile. */
+    SENT_TO_JAIL,
+    /** A player slid down a snake: the tile of the snake. */
+    SNAKE_ENCOUNTERED,
+    /** A player climbed a ladder: the tile of the ladder. */
+    LADDER_ENCOUNTERED;
+
+    private static final Type[] VALUES = values();
+
+    /**
+     * Retrieves the tag byte this type is written with. Tag 0 marks the end of the journal.
+     *
+     * @return the tag, starting at 1
+     */
+    byte tag() {
+      return (byte) (ordinal() + 1);
+    }
+
+    /**
+     * Looks up the type written with the given tag.
+     *
+     * @param tag the tag byte
+     * @return the type
+     * @throws JournalException if no type has the tag
+     */
+    static Type ofTag(byte tag) {
+      if (tag < 1 || tag > VALUES.length) {
+        throw new JournalException("Unknown journal entry tag: " + tag);
+      }
+      return VALUES[tag - 1];
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package dev.nheggoe.boardgame.common.io.journal;
+
+/**
+ * Custom exception used to indicate errors related to the event journal, such as a journal file
+ * that cannot be mapped or does not hold a valid journal.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class JournalException extends RuntimeException {
+
+  /**
+   * Constructs a new instance of {@code JournalException} with the specified detail message.
+   *
+   * @param message the detail message that describes the error
+   */
+  public JournalException(String message) {
+    super(message);
+  }
+
+  /**
+   * Constructs a new instance of {@code JournalException} with the specified detail message and the
+   * I/O failure that caused it.
+   *
+   * @param message the detail message that describes the error
+   * @param cause the underlying failure
+   */
+  public JournalException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
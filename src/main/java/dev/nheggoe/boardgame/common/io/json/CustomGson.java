@@ -16,31 +16,48 @@ import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
  * the same instance of the custom gson is used throughout the application.
  *
  * @author Nick Heggø
- * @version 2025.05.20
+ * @version 2025.06.02
  */
 public class CustomGson {
 
   private static Gson gson;
+  private static Gson compactGson;
 
   private CustomGson() {}
 
   /**
    * Provides a singleton instance of {@link Gson} for use throughout the application. If the
-   * instance does not already exist, it is created and returned.
+   * instance does not already exist, it is created and returned. Its output is pretty printed, for
+   * JSON meant to be read by people.
    *
    * @return a shared instance of {@link Gson} with config applied
    */
   public static Gson getInstance() {
     if (gson == null) {
-      gson =
-          new GsonBuilder()
-              .registerTypeAdapter(Ownable.class, new OwnableAdapter())
-              .registerTypeAdapter(Board.class, new BoardAdapter())
-              .registerTypeAdapter(MonopolyTile.class, new MonopolyTileAdapter())
-              .registerTypeAdapter(SnakeAndLadderTile.class, new SnakeAndLadderTileAdapter())
-              .setPrettyPrinting()
-              .create();
+      gson = newBuilder().setPrettyPrinting().create();
     }
     return gson;
   }
+
+  /**
+   * Provides a singleton instance of {@link Gson} with the same config as {@link #getInstance()},
+   * but without pretty printing. Its output has no whitespace, which makes it the default for saves
+   * written and read by the application itself.
+   *
+   * @return a shared instance of {@link Gson} that writes compact JSON
+   */
+  public static Gson getCompactInstance() {
+    if (compactGson == null) {
+      compactGson = newBuilder().create();
+    }
+    return compactGson;
+  }
+
+  private static GsonBuilder newBuilder() {
+    return new GsonBuilder()
+        .registerTypeAdapter(Ownable.class, new OwnableAdapter())
+        .registerTypeAdapter(Board.class, new BoardAdapter())
+        .registerTypeAdapter(MonopolyTile.class, new MonopolyTileAdapter())
+        .registerTypeAdapter(SnakeAndLadderTile.class, new SnakeAndLadderTileAdapter());
+  }
 }
@@ -0,0 +1,171 @@
+package dev.nheggoe.boardgame.common.io.json;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.reflect.TypeToken;
+import dev.nheggoe.boardgame.common.io.FileUtil;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Stores every entity of a type in a JSON file of its own, named after its id, next to a manifest
+ * listing the ids of the stored entities.
+ *
+ * <p>Saving a change only writes the files of the entities that changed, so its cost does not grow
+ * with the number of stored entities. The manifest is only rewritten when entities are added or
+ * removed. Files of new entities are written before the manifest that lists them, and files of
+ * removed entities are deleted after the manifest that drops them, so the manifest never lists an
+ * entity without a file. Every file is replaced atomically and holds compact JSON.
+ *
+ * @param <T> the type of the stored entities
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class JsonEntityStore<T> {
+
+  private static final Logger LOGGER = Logger.getLogger(JsonEntityStore.class.getName());
+
+  private static final String MANIFEST_FILE = "manifest.json";
+  private static final Type MANIFEST_TYPE = new TypeToken<List<UUID>>() {}.getType();
+
+  private final Gson gson = CustomGson.getCompactInstance();
+  private final Class<T> targetClass;
+  private final Path directory;
+  private Set<UUID> ids;
+
+  /**
+   * Creates a store that keeps its files in the given directory. The directory is created on the
+   * first write.
+   *
+   * @param targetClass the class of the stored entities
+   * @param directory the directory holding the entity files and the manifest
+   */
+  public JsonEntityStore(Class<T> targetClass, Path directory) {
+    this.targetClass = requireNonNull(targetClass, "Target class must not be null");
+    this.directory = requireNonNull(directory, "Directory must not be null");
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Checks whether the store has been written to before.
+   *
+   * @return true if the store has a manifest
+   */
+  public boolean exists() {
+    return Files.exists(directory.resolve(MANIFEST_FILE));
+  }
+
+  /**
+   * Reads every entity listed in the manifest. Entities whose file is missing are skipped.
+   *
+   * @return a stream of the stored entities, or an empty stream if the store has no manifest
+   * @throws JsonException if a file cannot be read
+   */
+  public synchronized Stream<T> load() {
+    var entities = new ArrayList<T>();
+    for (UUID id : ids()) {
+      var file = fileOf(id);
+      if (Files.notExists(file)) {
+        LOGGER.warning(() -> "Skipping missing entity file: " + file);
+        continue;
+      }
+      try (Reader reader = Files.newBufferedReader(file)) {
+        entities.add(gson.fromJson(reader, targetClass));
+      } catch (IOException e) {
+        throw new JsonException("Could not parse from JSON file: " + file + "\n" + e.getMessage());
+      }
+    }
+    return entities.stream();
+  }
+
+  /**
+   * Writes the files of the changed entities and deletes the files of the removed ones, updating
+   * the manifest if the set of stored ids changed.
+   *
+   * @param changed the entities to write, by id
+   * @param removed the ids of the entities to delete
+   * @throws JsonException if a file cannot be written or deleted
+   */
+  public synchronized void write(Map<UUID, ? extends T> changed, Set<UUID> removed) {
+    requireNonNull(changed, "Changed entities cannot be null!");
+    requireNonNull(removed, "Removed ids cannot be null!");
+    try {
+      Files.createDirectories(directory);
+      boolean manifestChanged = false;
+      for (var entry : changed.entrySet()) {
+        T entity = entry.getValue();
+        FileUtil.writeAtomically(
+            fileOf(entry.getKey()), writer -> gson.toJson(entity, targetClass, writer));
+        manifestChanged |= ids().add(entry.getKey());
+      }
+      for (UUID id : removed) {
+        manifestChanged |= ids().remove(id);
+      }
+      if (manifestChanged || !exists()) {
+        var manifest = List.copyOf(ids());
+        FileUtil.writeAtomically(
+            directory.resolve(MANIFEST_FILE),
+            writer -> gson.toJson(manifest, MANIFEST_TYPE, writer));
+      }
+      for (UUID id : removed) {
+        Files.deleteIfExists(fileOf(id));
+      }
+    } catch (IOException | JsonIOException e) {
+      ids = null; // read the manifest again, in case it was not written
+      throw new JsonException(
+          "Could not write to JSON store: " + directory + "\n" + e.getMessage());
+    }
+  }
+
+  /**
+   * Replaces the content of the store with the given entities: writes their files and deletes the
+   * files of every stored entity that is not among them.
+   *
+   * @param entities every entity the store must hold, by id
+   * @throws JsonException if a file cannot be written or deleted
+   */
+  public synchronized void replace(Map<UUID, ? extends T> entities) {
+    requireNonNull(entities, "Entities cannot be null!");
+    var removed = new HashSet<>(ids());
+    removed.removeAll(entities.keySet());
+    write(entities, removed);
+  }
+
+  // ------------------------  private  ------------------------
+
+  private Set<UUID> ids() {
+    if (ids == null) {
+      ids = new LinkedHashSet<>();
+      if (exists()) {
+        try (Reader reader = Files.newBufferedReader(directory.resolve(MANIFEST_FILE))) {
+          List<UUID> listed = gson.fromJson(reader, MANIFEST_TYPE);
+          if (listed != null) {
+            ids.addAll(listed);
+          }
+        } catch (IOException e) {
+          throw new JsonException("Could not parse JSON manifest in: " + directory);
+        }
+      }
+    }
+    return ids;
+  }
+
+  private Path fileOf(UUID id) {
+    return directory.resolve(id + ".json");
+  }
+}
@@ -3,12 +3,25 @@ package dev.nheggoe.boardgame.common.io.json;
 import static java.util.Objects.requireNonNull;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonToken;
 import dev.nheggoe.boardgame.common.io.FileUtil;
-import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.Set;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utility class for reading JSON files and deserializing their content into objects of a specified
@@ -22,12 +35,16 @@ import java.util.stream.Stream;
  * class for efficient JSON operations.
  *
  * @author Nick Heggø
- * @version 2025.03.28
+ * @version 2025.06.02
  */
 public class JsonReader<T> {
 
+  // files of this many bytes or more are deserialized in parallel
+  private static final long PARALLEL_THRESHOLD = 8L << 20;
+
   private final Gson gson = CustomGson.getInstance();
   private final Class<T> targetClass;
+  private final Path jsonFile;
 
   /**
    * Constructs a new instance of the JsonReader class for reading JSON files and deserializing
@@ -39,7 +56,22 @@ public class JsonReader<T> {
    * @throws IllegalArgumentException if the targetClass parameter is null
    */
   public JsonReader(Class<T> targetClass) {
+    this(
+        targetClass,
+        FileUtil.generateFilePath(
+            requireNonNull(targetClass, "Target class must not be null").getSimpleName(), "json"));
+  }
+
+  /**
+   * Constructs a new instance of the JsonReader class that reads the given JSON file.
+   *
+   * @param targetClass the class of object that will be used to serialize
+   * @param jsonFile the JSON file to read
+   * @throws NullPointerException if either parameter is null
+   */
+  public JsonReader(Class<T> targetClass, Path jsonFile) {
     this.targetClass = requireNonNull(targetClass, "Target class must not be null");
+    this.jsonFile = requireNonNull(jsonFile, "JSON file must not be null");
   }
 
   /**
@@ -49,21 +81,140 @@ public class JsonReader<T> {
    * file does not exist, it will be created as an empty file and an empty stream is returned.
    * Otherwise, the JSON content will be deserialized into objects of the target class.
    *
+   * <p>The stream is lazy: the top-level array is read one element at a time as the stream is
+   * consumed, so the whole file is never held in memory. Files larger than a few megabytes are
+   * deserialized in parallel on the common pool. The file is closed when the stream is exhausted or
+   * closed.
+   *
    * @return a stream of objects deserialized from the JSON file; an empty stream if the file is
    *     newly created
+   * @throws JsonException if the file cannot be read
    */
   public Stream<T> parseJsonStream() {
-    var jsonFile = FileUtil.generateFilePath(targetClass.getSimpleName(), "json");
-
     try {
       FileUtil.ensureFileAndDirectoryExists(jsonFile);
-
-      try (BufferedReader reader = Files.newBufferedReader(jsonFile)) {
-        Set<T> entities = gson.fromJson(reader, JsonType.getType(targetClass));
-        return entities.stream();
+      if (Files.size(jsonFile) >= PARALLEL_THRESHOLD) {
+        return parseJsonStream(
+            ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors());
       }
     } catch (IOException e) {
       throw new JsonException("Could not parse from JSON file: " + jsonFile);
     }
+    return stream(0, null);
+  }
+
+  /**
+   * Parses a JSON file into a stream of the specified target class type, deserializing the elements
+   * of the top-level array in parallel.
+   *
+   * <p>The file is still read by the consuming thread, one element at a time, but turning each
+   * element into an object is handed to the executor. At most {@code parallelism} elements are in
+   * flight at once, which bounds the memory used, and the objects are returned in file order.
+   *
+   * @param executor the executor that deserializes the elements
+   * @param parallelism the maximum number of elements deserialized at once
+   * @return a stream of objects deserialized from the JSON file
+   * @throws IllegalArgumentException if the parallelism is not positive
+   * @throws JsonException if the file cannot be read
+   */
+  public Stream<T> parseJsonStream(Executor executor, int parallelism) {
+    requireNonNull(executor, "Executor must not be null");
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive");
+    }
+    return stream(parallelism, executor);
+  }
+
+  private Stream<T> stream(int parallelism, Executor executor) {
+    try {
+      FileUtil.ensureFileAndDirectoryExists(jsonFile);
+      var reader = gson.newJsonReader(Files.newBufferedReader(jsonFile));
+      var elements = new ArraySpliterator(reader, parallelism, executor);
+      return StreamSupport.stream(elements, false).onClose(elements::close);
+    } catch (IOException e) {
+      throw new JsonException("Could not parse from JSON file: " + jsonFile);
+    }
+  }
+
+  /** Walks the top-level array of the file, yielding its elements as objects. */
+  private final class ArraySpliterator extends Spliterators.AbstractSpliterator<T> {
+
+    private final com.google.gson.stream.JsonReader reader;
+    private final TypeAdapter<T> adapter = gson.getAdapter(targetClass);
+    private final Deque<CompletableFuture<T>> inFlight = new ArrayDeque<>();
+    private final int parallelism;
+    private final Executor executor;
+    private boolean started;
+    private boolean closed;
+
+    private ArraySpliterator(
+        com.google.gson.stream.JsonReader reader, int parallelism, Executor executor) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.reader = reader;
+      this.parallelism = parallelism;
+      this.executor = executor;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      try {
+        if (!closed && !started) {
+          started = true;
+          openArray();
+        }
+        while (!closed && inFlight.size() < Math.max(parallelism, 1) && reader.hasNext()) {
+          if (parallelism == 0) {
+            action.accept(adapter.read(reader));
+            return true;
+          }
+          var element = JsonParser.parseReader(reader);
+          inFlight.add(
+              CompletableFuture.supplyAsync(() -> adapter.fromJsonTree(element), executor));
+        }
+        if (inFlight.isEmpty()) {
+          close();
+          return false;
+        }
+        action.accept(inFlight.poll().join());
+        return true;
+      } catch (IOException e) {
+        close();
+        throw new JsonException("Could not parse from JSON file: " + jsonFile);
+      } catch (CompletionException e) {
+        close();
+        throw e.getCause() instanceof RuntimeException cause ? cause : e;
+      }
+    }
+
+    // an empty or null document holds no elements
+    private void openArray() throws IOException {
+      JsonToken token;
+      try {
+        token = reader.peek();
+      } catch (EOFException e) {
+        close();
+        return;
+      }
+      if (token == JsonToken.NULL) {
+        reader.nextNull();
+        close();
+      } else {
+        reader.beginArray();
+      }
+    }
+
+    private void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      inFlight.forEach(future -> future.cancel(false));
+      inFlight.clear();
+      try {
+        reader.close();
+      } catch (IOException e) {
+        throw new JsonException("Could not close JSON file: " + jsonFile);
+      }
+    }
   }
 }
@@ -1,7 +1,13 @@
 package dev.nheggoe.boardgame.common.io.json;
 
+import static java.util.Objects.requireNonNull;
+
 import dev.nheggoe.boardgame.common.io.DAO;
+import dev.nheggoe.boardgame.common.io.FileUtil;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 /**
@@ -19,6 +25,7 @@ public class JsonService<T> implements DAO<T> {
 
   private final JsonReader<T> jsonReader;
   private final JsonWriter<T> jsonWriter;
+  private final JsonEntityStore<T> entityStore;
 
   /**
    * Constructs a new instance of the JsonService class for reading from and writing to JSON files.
@@ -30,25 +37,50 @@ public class JsonService<T> implements DAO<T> {
    * @throws IllegalArgumentException if the targetClass parameter is null
    */
   public JsonService(Class<T> targetClass) {
+    this(
+        targetClass,
+        FileUtil.generateFilePath(
+                requireNonNull(targetClass, "Target class must not be null").getSimpleName(),
+                "json")
+            .getParent());
+  }
+
+  /**
+   * Constructs a new instance of the JsonService class that keeps its files in the given directory:
+   * a single JSON file named after the target class, and a subdirectory of the same name with one
+   * file per entity.
+   *
+   * @param targetClass the class of the objects to read and write
+   * @param directory the directory holding the JSON files
+   * @throws UnsupportedOperationException if the {@link JsonType} does not contain the necessary
+   *     type for serialization
+   * @throws NullPointerException if either parameter is null
+   */
+  public JsonService(Class<T> targetClass, Path directory) {
+    requireNonNull(targetClass, "Target class must not be null");
+    requireNonNull(directory, "Directory must not be null");
     if (JsonType.getType(targetClass) == null) {
       throw new UnsupportedOperationException("Unsupported target class type: " + targetClass);
     }
-    jsonReader = new JsonReader<>(targetClass);
-    jsonWriter = new JsonWriter<>(targetClass);
+    var name = targetClass.getSimpleName();
+    jsonReader = new JsonReader<>(targetClass, directory.resolve(name + ".json"));
+    jsonWriter = new JsonWriter<>(targetClass, directory.resolve(name + ".json"));
+    entityStore = new JsonEntityStore<>(targetClass, directory.resolve(name));
   }
 
   /**
    * Loads a collection of objects from a JSON file. The JSON file is dynamically located based on
    * the target class type and whether the operation is performed in a test or production
    * environment. If the file does not exist, it is created and an empty list is returned. If the
-   * file exists, the data in the file is deserialized into a list.
+   * file exists, the data in the file is deserialized into a list. Once entities have been saved
+   * one file per entity with {@link #serializeChanges(Map, Set)}, those files are read instead.
    *
    * @return a stream of objects deserialized from the JSON file, or an empty stream if the file is
    *     newly created
    */
   @Override
   public Stream<T> deserializeFromSource() {
-    return jsonReader.parseJsonStream();
+    return hasEntityFiles() ? entityStore.load() : jsonReader.parseJsonStream();
   }
 
   /**
@@ -57,10 +89,53 @@ public class JsonService<T> implements DAO<T> {
    * production environment. The method ensures that the directory structure exists before writing.
    * It will update existing data if present
    *
+   * <p>Once entities have been saved one file per entity, the single JSON file is no longer read,
+   * so writing it would lose the entities without notice. Such entities must be saved with {@link
+   * #serializeAll(Map)} instead.
+   *
    * @param entities the set of objects to be written into the JSON file
+   * @throws JsonException if the entities are already saved one file per entity
    */
   @Override
   public void serializeToSource(Set<T> entities) {
+    if (hasEntityFiles()) {
+      throw new JsonException(
+          "Entities are saved one file per entity, the single JSON file would not be read!");
+    }
     jsonWriter.writeJsonFile(entities);
   }
+
+  /**
+   * Saves changes one file per entity: writes the files of the changed entities and deletes the
+   * files of the removed ones, leaving every other file untouched. A small manifest lists the ids
+   * of the saved entities and is only rewritten when entities are added or removed.
+   *
+   * @param changed the entities to write, by id
+   * @param removed the ids of the entities to delete
+   * @throws JsonException if a file cannot be written or deleted
+   */
+  public void serializeChanges(Map<UUID, ? extends T> changed, Set<UUID> removed) {
+    entityStore.write(changed, removed);
+  }
+
+  /**
+   * Replaces every saved entity with the given ones, one file per entity: writes the files of the
+   * given entities and deletes the files of all others.
+   *
+   * @param entities every entity to keep, by id
+   * @throws JsonException if a file cannot be written or deleted
+   */
+  public void serializeAll(Map<UUID, ? extends T> entities) {
+    entityStore.replace(entities);
+  }
+
+  /**
+   * Checks whether entities have been saved one file per entity, in which case they are loaded from
+   * those files rather than from the single JSON file.
+   *
+   * @return true if entity files have been written
+   */
+  public boolean hasEntityFiles() {
+    return entityStore.exists();
+  }
 }
@@ -22,7 +22,7 @@ import java.util.Set;
 public class JsonType {
   private static final Map<Class<?>, Type> TYPE_MAP =
       Map.of(
-          MonopolyGame.class, new TypeToken<Set<MonopolyBoard>>() {}.getType(),
+          MonopolyGame.class, new TypeToken<Set<MonopolyGame>>() {}.getType(),
           Player.class, new TypeToken<Set<Player>>() {}.getType(),
           SnakeAndLadderGame.class, new TypeToken<Set<SnakeAndLadderGame>>() {}.getType(),
           SnakeAndLadderBoard.class, new TypeToken<Set<SnakeAndLadderBoard>>() {}.getType(),
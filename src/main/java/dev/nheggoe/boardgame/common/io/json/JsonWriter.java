@@ -3,10 +3,10 @@ package dev.nheggoe.boardgame.common.io.json;
 import static java.util.Objects.requireNonNull;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
 import dev.nheggoe.boardgame.common.io.FileUtil;
-import java.io.BufferedWriter;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
 
 /**
@@ -22,12 +22,13 @@ import java.util.Set;
  * individual objects directly.
  *
  * @author Nick Heggø
- * @version 2025.05.22
+ * @version 2025.06.02
  */
 public class JsonWriter<T> {
 
-  private final Gson gson = CustomGson.getInstance();
+  private final Gson gson = CustomGson.getCompactInstance();
   private final Class<T> targetClass;
+  private final Path jsonFile;
 
   /**
    * Constructs a new instance of the JsonWriter class for serializing collections of objects to a
@@ -38,7 +39,22 @@ public class JsonWriter<T> {
    * @throws IllegalArgumentException if the targetClass parameter is null
    */
   public JsonWriter(Class<T> targetClass) {
+    this(
+        targetClass,
+        FileUtil.generateFilePath(
+            requireNonNull(targetClass, "Target class must not be null").getSimpleName(), "json"));
+  }
+
+  /**
+   * Constructs a new instance of the JsonWriter class that writes to the given JSON file.
+   *
+   * @param targetClass the class type of the objects to be serialized; must not be null
+   * @param jsonFile the JSON file to write
+   * @throws NullPointerException if either parameter is null
+   */
+  public JsonWriter(Class<T> targetClass, Path jsonFile) {
     this.targetClass = requireNonNull(targetClass, "Target class must not be null");
+    this.jsonFile = requireNonNull(jsonFile, "JSON file must not be null");
   }
 
   /**
@@ -47,20 +63,16 @@ public class JsonWriter<T> {
    * production environment. The method ensures that the necessary directory structure exists before
    * writing the file.
    *
+   * <p>The objects are serialized as compact JSON straight into a temporary file, which then
+   * replaces the JSON file atomically, so a crash never leaves a partly written file behind.
+   *
    * @param set the set of objects to serialize and write into the JSON file
    */
   public void writeJsonFile(Set<T> set) {
-    var jsonFile = FileUtil.generateFilePath(targetClass.getSimpleName(), "json");
-
     try {
-      FileUtil.ensureFileAndDirectoryExists(jsonFile);
-
-      String json = gson.toJson(set, JsonType.getType(targetClass));
-
-      try (BufferedWriter writer = Files.newBufferedWriter(jsonFile)) {
-        writer.write(json);
-      }
-    } catch (IOException e) {
+      FileUtil.writeAtomically(
+          jsonFile, writer -> gson.toJson(set, JsonType.getType(targetClass), writer));
+    } catch (IOException | JsonIOException e) {
       throw new JsonException("Could not write to JSON file: " + jsonFile + "\n" + e.getMessage());
     }
   }
@@ -7,10 +7,14 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.reflect.TypeToken;
 import dev.nheggoe.boardgame.core.model.Board;
 import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
 import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoard;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
 import java.lang.reflect.Type;
+import java.util.List;
 
 /**
  * Specialized Gson adapter for the Board interface. Handles serialization/deserialization of
@@ -23,6 +27,9 @@ public class BoardAdapter implements JsonSerializer<Board<?>>, JsonDeserializer<
 
   private static final String TYPE_KEY = "boardType";
   private static final String DATA_KEY = "data";
+  private static final Type MONOPOLY_TILES_TYPE = new TypeToken<List<MonopolyTile>>() {}.getType();
+  private static final Type SNAKE_TILES_TYPE =
+      new TypeToken<List<SnakeAndLadderTile>>() {}.getType();
 
   @Override
   public JsonElement serialize(Board<?> board, Type type, JsonSerializationContext context) {
@@ -31,11 +38,17 @@ public class BoardAdapter implements JsonSerializer<Board<?>>, JsonDeserializer<
     switch (board) {
       case MonopolyBoard monopolyBoard -> {
         result.addProperty(TYPE_KEY, "monopoly");
-        result.add(DATA_KEY, context.serialize(monopolyBoard, MonopolyBoard.class));
+        // the tile index is rebuilt from the tiles when the board is read back
+        var data = new JsonObject();
+        data.add("tiles", context.serialize(monopolyBoard.tiles(), MONOPOLY_TILES_TYPE));
+        result.add(DATA_KEY, data);
       }
       case SnakeAndLadderBoard snakeBoard -> {
         result.addProperty(TYPE_KEY, "snakeAndLadder");
-        result.add(DATA_KEY, context.serialize(snakeBoard, SnakeAndLadderBoard.class));
+        // the destinations are derived from the tiles when the board is read back
+        var data = new JsonObject();
+        data.add("tiles", context.serialize(snakeBoard.tiles(), SNAKE_TILES_TYPE));
+        result.add(DATA_KEY, data);
       }
       default -> {
         // Use generic interface adapter for unknown Board implementations
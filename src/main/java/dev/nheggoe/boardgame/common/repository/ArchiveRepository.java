@@ -0,0 +1,201 @@
+package dev.nheggoe.boardgame.common.repository;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.common.io.binary.SaveArchive;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * An abstract base class for repositories that keep their entities in a memory-mapped {@link
+ * SaveArchive}, for large collections of saves such as an archive of finished games.
+ *
+ * <p>Unlike {@link JsonRepository}, this repository does not decode every entity when it is
+ * created. Opening the archive only builds an index from UUID to record, {@link #getById} decodes
+ * the one requested entity straight from the mapped file, and {@link #getAll()} decodes the
+ * entities one at a time as the stream is consumed. Entities that were looked up, added or updated
+ * are kept in memory, so looking one up twice returns the same instance.
+ *
+ * <p>The repository remembers which entities were added, updated or removed since the last save,
+ * and {@link #saveChanges()} appends only those to the archive. Entities are mutable, so a changed
+ * entity must be passed to {@link #update} to be saved.
+ *
+ * @param <T> The type of entities this repository will manage.
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public abstract class ArchiveRepository<T> implements DataRepository<T>, AutoCloseable {
+
+  private final SaveArchive<T> archive;
+  private final Function<T, UUID> idExtractor;
+  private final ConcurrentMap<UUID, T> loaded;
+  private final Set<UUID> dirtyIds;
+  private final Set<UUID> removedIds;
+
+  /**
+   * Constructs an instance of the ArchiveRepository class on top of the given archive.
+   *
+   * @param archive the archive holding the saved entities
+   * @param idExtractor a function for extracting the unique identifier (UUID) from an entity
+   * @throws NullPointerException if either archive or idExtractor is null
+   */
+  protected ArchiveRepository(SaveArchive<T> archive, Function<T, UUID> idExtractor) {
+    this.archive = requireNonNull(archive, "archive cannot be null!");
+    this.idExtractor = requireNonNull(idExtractor, "idExtractor cannot be null!");
+    this.loaded = new ConcurrentHashMap<>();
+    this.dirtyIds = ConcurrentHashMap.newKeySet();
+    this.removedIds = ConcurrentHashMap.newKeySet();
+  }
+
+  @Override
+  public Stream<T> loadFromSource() {
+    return archive.readAll();
+  }
+
+  /**
+   * Appends the given entities to the archive. Other saved entities are left untouched.
+   *
+   * @param entities the set of entities to save to the data source
+   */
+  @Override
+  public void saveToSource(Set<T> entities) {
+    requireNonNull(entities, "Entities cannot be null!");
+    var byId = new HashMap<UUID, T>();
+    entities.forEach(entity -> byId.put(idExtractor.apply(entity), entity));
+    archive.write(byId, Set.of());
+  }
+
+  /**
+   * Appends the entities added or updated since the last save and a tombstone for the removed ones.
+   * If saving fails, the changes are kept for the next attempt.
+   *
+   * @throws dev.nheggoe.boardgame.common.io.binary.BinaryException if the changes cannot be written
+   */
+  @Override
+  public void saveChanges() {
+    var changed = new HashMap<UUID, T>();
+    for (var iterator = dirtyIds.iterator(); iterator.hasNext(); ) {
+      UUID id = iterator.next();
+      iterator.remove();
+      T entity = loaded.get(id);
+      if (entity != null) {
+        changed.put(id, entity);
+      }
+    }
+    var removed = new HashSet<UUID>();
+    for (var iterator = removedIds.iterator(); iterator.hasNext(); ) {
+      removed.add(iterator.next());
+      iterator.remove();
+    }
+    if (changed.isEmpty() && removed.isEmpty()) {
+      return;
+    }
+    try {
+      archive.write(changed, removed);
+    } catch (RuntimeException e) {
+      dirtyIds.addAll(changed.keySet());
+      removedIds.addAll(removed);
+      throw e;
+    }
+  }
+
+  /**
+   * Checks whether the repository holds changes that have not been saved yet.
+   *
+   * @return true if an entity was added, updated or removed since the last save
+   */
+  public boolean hasUnsavedChanges() {
+    return !dirtyIds.isEmpty() || !removedIds.isEmpty();
+  }
+
+  @Override
+  public T add(T entity) {
+    UUID id = idExtractor.apply(entity);
+    removedIds.remove(id);
+    T previous = loaded.put(id, entity);
+    dirtyIds.add(id);
+    return previous;
+  }
+
+  /**
+   * Gets all entities managed by this repository. Entities that are not in memory are decoded from
+   * the archive as the stream is consumed, and are not kept.
+   *
+   * @return a stream of all entities
+   */
+  @Override
+  public Stream<T> getAll() {
+    var ids = new LinkedHashSet<>(archive.ids());
+    ids.addAll(loaded.keySet());
+    ids.removeAll(removedIds);
+    return ids.stream()
+        .map(id -> Optional.ofNullable(loaded.get(id)).or(() -> archive.read(id)).orElse(null))
+        .filter(Objects::nonNull);
+  }
+
+  /**
+   * Gets an entity by its unique identifier, decoding only that entity from the archive if it is
+   * not in memory yet.
+   *
+   * @param id the UUID of the entity
+   * @return an Optional containing the entity if found
+   */
+  @Override
+  public Optional<T> getById(UUID id) {
+    if (removedIds.contains(id)) {
+      return Optional.empty();
+    }
+    T entity = loaded.get(id);
+    if (entity != null) {
+      return Optional.of(entity);
+    }
+    return archive
+        .read(id)
+        .map(read -> Objects.requireNonNullElse(loaded.putIfAbsent(id, read), read));
+  }
+
+  @Override
+  public T update(T entity) {
+    UUID id = idExtractor.apply(entity);
+    if (!exists(id)) {
+      return null;
+    }
+    loaded.put(id, entity);
+    dirtyIds.add(id);
+    return entity;
+  }
+
+  @Override
+  public boolean remove(UUID id) {
+    if (!exists(id)) {
+      return false;
+    }
+    loaded.remove(id);
+    dirtyIds.remove(id);
+    removedIds.add(id);
+    return true;
+  }
+
+  /**
+   * Closes the underlying archive. Changes that were not saved are lost.
+   *
+   * @throws dev.nheggoe.boardgame.common.io.binary.BinaryException if the archive cannot be closed
+   */
+  @Override
+  public void close() {
+    archive.close();
+  }
+
+  private boolean exists(UUID id) {
+    return !removedIds.contains(id) && (loaded.containsKey(id) || archive.contains(id));
+  }
+}
@@ -3,6 +3,7 @@ package dev.nheggoe.boardgame.common.repository;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -28,6 +29,15 @@ public interface DataRepository<T> {
    */
   void saveToSource(Set<T> entities);
 
+  /**
+   * Persists the changes made through {@link #add}, {@link #update} and {@link #remove} since the
+   * last save. By default, every entity is written again; repositories that track changes only
+   * write the changed ones.
+   */
+  default void saveChanges() {
+    saveToSource(getAll().collect(Collectors.toSet()));
+  }
+
   /**
    * Adds a new entity in the repository.
    *
@@ -3,6 +3,8 @@ package dev.nheggoe.boardgame.common.repository;
 import static java.util.Objects.requireNonNull;
 
 import dev.nheggoe.boardgame.common.io.json.JsonService;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -17,15 +19,21 @@ import java.util.stream.Stream;
  * serialization and deserialization of entities and provides methods that adhere to the contract
  * defined in the {@link DataRepository} interface.
  *
+ * <p>The repository remembers which entities were added, updated or removed since the last save,
+ * and {@link #saveChanges()} writes only those, one file per entity, so saving one game costs the
+ * same however many games are stored. Entities are mutable, so a changed entity must be passed to
+ * {@link #update} to be saved.
+ *
  * @param <T> The type of entities this repository will manage.
  * @author Nick Heggø
- * @version 2025.05.20
+ * @version 2025.06.02
  */
 public abstract class JsonRepository<T> implements DataRepository<T> {
 
   private final ConcurrentMap<UUID, T> entities;
   private final JsonService<T> jsonService;
   private final Function<T, UUID> idExtractor;
+  private final Set<UUID> dirtyIds;
 
   /**
    * Constructs an instance of the JsonRepository class. This protected constructor allows
@@ -42,11 +50,16 @@ public abstract class JsonRepository<T> implements DataRepository<T> {
     this.jsonService = requireNonNull(jsonService, "jsonService cannot be null!");
     this.idExtractor = requireNonNull(idExtractor, "idExtractor cannot be null!");
     this.entities = new ConcurrentHashMap<>();
+    this.dirtyIds = ConcurrentHashMap.newKeySet();
     initializeEntities();
   }
 
   private void initializeEntities() {
     loadFromSource().forEach(entity -> entities.put(idExtractor.apply(entity), entity));
+    if (!jsonService.hasEntityFiles()) {
+      // entities read from the single JSON file move to one file each on the next save
+      dirtyIds.addAll(entities.keySet());
+    }
   }
 
   @Override
@@ -54,14 +67,70 @@ public abstract class JsonRepository<T> implements DataRepository<T> {
     return jsonService.deserializeFromSource();
   }
 
+  /**
+   * Replaces the saved entities with the given ones, one file per entity. Saved entities that are
+   * not in the set are deleted. The changes made before the call are settled by the replacement, so
+   * a later {@link #saveChanges()} neither writes them again nor brings back deleted entities.
+   *
+   * @param entities the set of entities to save to the data source
+   */
   @Override
   public void saveToSource(Set<T> entities) {
-    jsonService.serializeToSource(entities);
+    requireNonNull(entities, "Entities cannot be null!");
+    var byId = new HashMap<UUID, T>();
+    entities.forEach(entity -> byId.put(idExtractor.apply(entity), entity));
+    var settled = new HashSet<>(dirtyIds);
+    jsonService.serializeAll(byId);
+    dirtyIds.removeAll(settled);
+  }
+
+  /**
+   * Writes the entities added or updated since the last save and deletes the removed ones. If
+   * saving fails, the changes are kept for the next attempt.
+   *
+   * @throws dev.nheggoe.boardgame.common.io.json.JsonException if the changes cannot be written
+   */
+  @Override
+  public void saveChanges() {
+    var changed = new HashMap<UUID, T>();
+    var removed = new HashSet<UUID>();
+    for (var iterator = dirtyIds.iterator(); iterator.hasNext(); ) {
+      UUID id = iterator.next();
+      iterator.remove();
+      T entity = entities.get(id);
+      if (entity == null) {
+        removed.add(id);
+      } else {
+        changed.put(id, entity);
+      }
+    }
+    if (changed.isEmpty() && removed.isEmpty()) {
+      return;
+    }
+    try {
+      jsonService.serializeChanges(changed, removed);
+    } catch (RuntimeException e) {
+      dirtyIds.addAll(changed.keySet());
+      dirtyIds.addAll(removed);
+      throw e;
+    }
+  }
+
+  /**
+   * Checks whether the repository holds changes that have not been saved yet.
+   *
+   * @return true if an entity was added, updated or removed since the last save
+   */
+  public boolean hasUnsavedChanges() {
+    return !dirtyIds.isEmpty();
   }
 
   @Override
   public T add(T entity) {
-    return entities.put(idExtractor.apply(entity), entity);
+    UUID id = idExtractor.apply(entity);
+    T previous = entities.put(id, entity);
+    dirtyIds.add(id);
+    return previous;
   }
 
   @Override
@@ -76,11 +145,20 @@ public abstract class JsonRepository<T> implements DataRepository<T> {
 
   @Override
   public T update(T entity) {
-    return entities.computeIfPresent(idExtractor.apply(entity), (k, v) -> entity);
+    UUID id = idExtractor.apply(entity);
+    T updated = entities.computeIfPresent(id, (k, v) -> entity);
+    if (updated != null) {
+      dirtyIds.add(id);
+    }
+    return updated;
   }
 
   @Override
   public boolean remove(UUID id) {
-    return entities.remove(id) != null;
+    if (entities.remove(id) == null) {
+      return false;
+    }
+    dirtyIds.add(id);
+    return true;
   }
 }
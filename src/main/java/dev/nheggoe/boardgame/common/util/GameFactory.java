@@ -2,12 +2,22 @@ package dev.nheggoe.boardgame.common.util;
 
 import dev.nheggoe.boardgame.common.event.EventBus;
 import dev.nheggoe.boardgame.core.PlayerManager;
+import dev.nheggoe.boardgame.core.simulation.DecisionLog;
+import dev.nheggoe.boardgame.core.simulation.ReplayRandom;
 import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
 import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
 import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoardFactory;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AlertDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.RecordingDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoard;
 import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoardFactory;
 import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderGame;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderPlayer;
 import java.io.IOException;
+import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Factory class responsible for creating instances of game objects. This class provides static
@@ -25,7 +35,8 @@ public class GameFactory {
   /**
    * Creates and initializes a new instance of a Monopoly game with the necessary configurations.
    * This includes generating a default Monopoly board layout, loading player data, and binding it
-   * to an event bus.
+   * to an event bus. The game rolls with a {@link ReplayRandom} and records the decisions of its
+   * players, so it can be replayed from its seed and decision log.
    *
    * @param eventBus the event bus used to handle game events and notifications
    * @param playerManager the player manager responsible for loading player information and
@@ -35,8 +46,41 @@ public class GameFactory {
    */
   public static MonopolyGame createMonopolyGame(EventBus eventBus, PlayerManager playerManager)
       throws IOException {
-    var board = MonopolyBoardFactory.generateBoard(MonopolyBoard.Layout.NORMAL);
-    return new MonopolyGame(eventBus, board, playerManager.loadCsvAsMonopolyPlayers());
+    var random = ReplayRandom.withRandomSeed();
+    var board = MonopolyBoardFactory.generateBoard(MonopolyBoard.Layout.NORMAL, random);
+    return new MonopolyGame(
+        eventBus,
+        board,
+        playerManager.loadCsvAsMonopolyPlayers(),
+        new RecordingDecisionProvider(new AlertDecisionProvider(), new DecisionLog()),
+        random);
+  }
+
+  /**
+   * Creates a Monopoly game on a freshly generated default board that takes every decision from the
+   * given provider. Every call generates new tiles, so games created this way share no mutable
+   * state and can be played on separate threads. The board is shuffled and the dice are rolled with
+   * the given generator, so a game can be recreated from the generator's seed. The decisions are
+   * recorded in the game's {@link MonopolyGame#getDecisionLog() decision log}.
+   *
+   * @param eventBus the event bus used to handle game events and notifications
+   * @param players the players taking part in the game
+   * @param decisionProvider the provider answering purchase, upgrade and doubles prompts
+   * @param random the generator owned by the new game
+   * @return a new instance of MonopolyGame configured with the default board
+   */
+  public static MonopolyGame createMonopolyGame(
+      EventBus eventBus,
+      List<MonopolyPlayer> players,
+      MonopolyDecisionProvider decisionProvider,
+      RandomGenerator random) {
+    var board = MonopolyBoardFactory.generateBoard(MonopolyBoard.Layout.NORMAL, random);
+    return new MonopolyGame(
+        eventBus,
+        board,
+        players,
+        new RecordingDecisionProvider(decisionProvider, new DecisionLog()),
+        random);
   }
 
   /**
@@ -56,4 +100,22 @@ public class GameFactory {
     var board = SnakeAndLadderBoardFactory.createBoard();
     return new SnakeAndLadderGame(eventBus, board, playerManager.loadCsvAsSnakeAndLadderPlayers());
   }
+
+  /**
+   * Creates a Snake and Ladder game on the given board. Boards are immutable, so the same board can
+   * be shared between any number of games.
+   *
+   * @param eventBus the event bus used to handle game events and notifications
+   * @param board the board to play on
+   * @param players the players taking part in the game
+   * @param random the generator owned by the new game
+   * @return a new instance of SnakeAndLadderGame on the given board
+   */
+  public static SnakeAndLadderGame createSnakeGame(
+      EventBus eventBus,
+      SnakeAndLadderBoard board,
+      List<SnakeAndLadderPlayer> players,
+      RandomGenerator random) {
+    return new SnakeAndLadderGame(eventBus, board, players, random);
+  }
 }
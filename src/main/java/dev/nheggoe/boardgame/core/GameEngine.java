@@ -3,6 +3,7 @@ package dev.nheggoe.boardgame.core;
 import static java.util.Objects.requireNonNull;
 
 import dev.nheggoe.boardgame.core.model.Game;
+import dev.nheggoe.boardgame.core.model.GameStateView;
 import dev.nheggoe.boardgame.core.model.Player;
 import dev.nheggoe.boardgame.core.model.Tile;
 import java.util.List;
@@ -33,12 +34,34 @@ public record GameEngine<T extends Tile, P extends Player>(Game<T, P> game) {
     requireNonNull(game, "Game cannot be null!");
   }
 
+  /**
+   * Retrieves the players still in play from the game's current state view. The returned list is
+   * immutable and shared until the state of the game changes.
+   *
+   * @return the players still in play
+   */
   public List<P> getPlayers() {
-    return List.copyOf(game.getPlayers());
+    return game.getStateView().players();
   }
 
+  /**
+   * Retrieves the tiles of the board from the game's current state view. The returned list is
+   * immutable and shared.
+   *
+   * @return the tiles of the board
+   */
   public List<T> getTiles() {
-    return List.copyOf(game.getTiles());
+    return game.getStateView().tiles();
+  }
+
+  /**
+   * Retrieves the game's current state view. Readers can compare its version with the one they have
+   * already processed to skip work when nothing has changed.
+   *
+   * @return the current state view
+   */
+  public GameStateView<T, P> getStateView() {
+    return game.getStateView();
   }
 
   /**
@@ -6,9 +6,12 @@ import dev.nheggoe.boardgame.common.event.EventBus;
 import dev.nheggoe.boardgame.common.event.type.CoreEvent;
 import dev.nheggoe.boardgame.common.event.type.UserInterfaceEvent;
 import dev.nheggoe.boardgame.core.model.dice.DiceRoll;
+import dev.nheggoe.boardgame.core.simulation.ReplayRandom;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 /**
  * An abstract representation of a generic game that involves a board, players, and game mechanics.
@@ -34,23 +37,73 @@ public abstract class Game<T extends Tile, P extends Player> {
   @SuppressWarnings("java:S2065")
   private final transient EventBus eventBus;
 
+  @SuppressWarnings("java:S2065")
+  private final transient RandomGenerator random;
+
   private final Board<T> board;
 
+  // published state, built by the thread playing the game and read by any thread
+  @SuppressWarnings("java:S2065")
+  private transient long version;
+
+  @SuppressWarnings("java:S2065")
+  private transient List<P> publishedPlayers;
+
+  @SuppressWarnings("java:S2065")
+  private transient List<T> publishedTiles;
+
+  @SuppressWarnings("java:S2065")
+  private transient volatile GameStateView<T, P> stateView;
+
   /**
    * Constructs a new game instance with the specified event bus, game board, and list of players.
    * Initializes the game with a unique identifier, a default non-ended state, and a turn manager
-   * for managing the sequence of player turns.
+   * for managing the sequence of player turns. The game draws its dice from a {@link ReplayRandom}
+   * with a new, random seed, which {@link #getSeed()} records so the game can be replayed.
    *
    * @param eventBus the {@link EventBus} to use for event management; must not be null
    * @param board the game {@link Board} containing tiles; must not be null
    * @param players the list of players participating in the game; must not be null or empty
    */
   protected Game(EventBus eventBus, Board<T> board, List<P> players) {
-    this.id = UUID.randomUUID();
+    this(eventBus, board, players, ReplayRandom.withRandomSeed());
+  }
+
+  /**
+   * Constructs a new game instance that draws all of its randomness from the given generator. A
+   * game created with a generator seeded with the same value, on the same board and with the same
+   * players and decisions, plays out identically.
+   *
+   * @param eventBus the {@link EventBus} to use for event management; must not be null
+   * @param board the game {@link Board} containing tiles; must not be null
+   * @param players the list of players participating in the game; must not be null or empty
+   * @param random the generator owned by this game; must not be shared with other games
+   */
+  protected Game(EventBus eventBus, Board<T> board, List<P> players, RandomGenerator random) {
+    this(UUID.randomUUID(), eventBus, board, players, random);
+  }
+
+  /**
+   * Constructs a game with the given identifier, e.g. a game read back from a save. The identifier
+   * of a game never changes once it is constructed.
+   *
+   * @param id the unique identifier of the game; must not be null
+   * @param eventBus the {@link EventBus} to use for event management; must not be null
+   * @param board the game {@link Board} containing tiles; must not be null
+   * @param players the list of players participating in the game; must not be null or empty
+   * @param random the generator owned by this game; must not be shared with other games
+   */
+  protected Game(
+      UUID id, EventBus eventBus, Board<T> board, List<P> players, RandomGenerator random) {
+    this.id = requireNonNull(id, "Id cannot be null!");
     this.isEnded = false;
     this.turnManager = new TurnManager<>(players);
     this.eventBus = requireNonNull(eventBus, "EventBus cannot be null!");
     this.board = requireNonNull(board, "Board cannot be null!");
+    this.random = requireNonNull(random, "Random generator cannot be null!");
+    this.publishedPlayers = List.copyOf(turnManager.getPlayers());
+    this.publishedTiles = List.copyOf(board.tiles());
+    publishStateView();
   }
 
   // ------------------------  API  ------------------------
@@ -97,6 +150,57 @@ public abstract class Game<T extends Tile, P extends Player> {
    */
   public void endGame() {
     isEnded = true;
+    stateChanged();
+  }
+
+  /**
+   * Retrieves an immutable view of the current state of the game. The view is built by the thread
+   * playing the game whenever the state changes and published in a single volatile write, so any
+   * thread may call this method, and the same instance is returned until the state changes.
+   *
+   * @return the view of the current state
+   */
+  public GameStateView<T, P> getStateView() {
+    return stateView;
+  }
+
+  /**
+   * Takes a snapshot of the mutable state of the game: the position of every seated player, the
+   * turn cursor and whether the game has ended. Games with more state override this method and
+   * extend the snapshot.
+   *
+   * @return a snapshot that can later be passed to {@link #restore(GameSnapshot)}
+   */
+  public GameSnapshot snapshot() {
+    var seats = turnManager.getSeatedPlayers();
+    int[] positions = new int[seats.size()];
+    for (int seat = 0; seat < positions.length; seat++) {
+      positions[seat] = seats.get(seat).getPosition();
+    }
+    return new GameSnapshot(this, positions, turnManager.saveState(), isEnded);
+  }
+
+  /**
+   * Restores the state captured by a snapshot of this game. The same snapshot may be restored any
+   * number of times.
+   *
+   * @param snapshot a snapshot taken from this game
+   * @throws IllegalArgumentException if the snapshot was taken from another game
+   */
+  public void restore(GameSnapshot snapshot) {
+    requireNonNull(snapshot, "Snapshot cannot be null!");
+    if (!snapshot.isSnapshotOf(this)) {
+      throw new IllegalArgumentException("Snapshot was taken from a different game!");
+    }
+    var seats = turnManager.getSeatedPlayers();
+    int[] positions = snapshot.positions();
+    for (int seat = 0; seat < positions.length; seat++) {
+      seats.get(seat).setPosition(positions[seat]);
+    }
+    turnManager.restoreState(snapshot.turnState());
+    isEnded = snapshot.isEnded();
+    publishedPlayers = List.copyOf(turnManager.getPlayers());
+    stateChanged();
   }
 
   // ------------------------  internal  ------------------------
@@ -149,6 +253,7 @@ public abstract class Game<T extends Tile, P extends Player> {
     if (oldPositon > newPosition) {
       completeRoundAction(player);
     }
+    stateChanged();
     notifyPlayerMoved(player);
   }
 
@@ -162,9 +267,26 @@ public abstract class Game<T extends Tile, P extends Player> {
    */
   protected void removePlayer(P player) {
     turnManager.removePlayer(player);
+    publishedPlayers = List.copyOf(turnManager.getPlayers());
+    stateChanged();
     eventBus.publishEvent(new CoreEvent.PlayerRemoved(player));
   }
 
+  /**
+   * Marks the state of the game as changed and publishes a new version of the {@link
+   * #getStateView() state view}. Subclasses call this whenever they change state outside of {@link
+   * #movePlayer(Player, int)}, {@link #removePlayer(Player)} and {@link #endGame()}. Only the
+   * thread playing the game may call it.
+   */
+  protected void stateChanged() {
+    version++;
+    publishStateView();
+  }
+
+  private void publishStateView() {
+    stateView = new GameStateView<>(version, publishedPlayers, publishedTiles, isEnded);
+  }
+
   /**
    * Completes the round-specific action for the given player. This method is intended to be
    * implemented in subclasses of the game to define custom behavior that occurs when a player
@@ -259,6 +381,40 @@ public abstract class Game<T extends Tile, P extends Player> {
     return eventBus;
   }
 
+  /**
+   * Retrieves the random generator owned by this game. All dice of the game are drawn from it.
+   *
+   * @return the game's random generator
+   */
+  protected RandomGenerator getRandom() {
+    return random;
+  }
+
+  /**
+   * Retrieves the seed of the generator the game rolls its dice with, from which the game can be
+   * replayed. Only a {@link ReplayRandom} records its seed.
+   *
+   * @return the seed, or an empty OptionalLong if the generator is not a {@link ReplayRandom}
+   */
+  public OptionalLong getSeed() {
+    return random instanceof ReplayRandom replayRandom
+        ? OptionalLong.of(replayRandom.getSeed())
+        : OptionalLong.empty();
+  }
+
+  /**
+   * Retrieves how many values the game has drawn from its generator so far, which together with
+   * {@link #getSeed()} is the exact point of the sequence the game is at.
+   *
+   * @return the number of draws, or an empty OptionalLong if the generator is not a {@link
+   *     ReplayRandom}
+   */
+  public OptionalLong getDraws() {
+    return random instanceof ReplayRandom replayRandom
+        ? OptionalLong.of(replayRandom.getDraws())
+        : OptionalLong.empty();
+  }
+
   /**
    * Retrieves the next player in the turn order. This method leverages the {@code TurnManager} to
    * determine and return the player whose turn is next in the sequence.
@@ -269,6 +425,16 @@ public abstract class Game<T extends Tile, P extends Player> {
     return turnManager.getNextPlayer();
   }
 
+  /**
+   * Retrieves every player that took part in the game, including removed players, indexed by the
+   * seat they were given when the game was created.
+   *
+   * @return an unmodifiable list of all players in seat order
+   */
+  public List<P> getSeatedPlayers() {
+    return turnManager.getSeatedPlayers();
+  }
+
   /**
    * Retrieves the game board associated with this game instance.
    *
@@ -280,7 +446,8 @@ public abstract class Game<T extends Tile, P extends Player> {
 
   /**
    * Retrieves the list of players participating in the game. This method delegates the call to the
-   * underlying turn manager to obtain a copy of the current players list.
+   * underlying turn manager, which returns a read-only live view of the players still in play in
+   * seat order, without copying.
    *
    * @return a list of players of type {@code P} participating in the game
    */
@@ -0,0 +1,143 @@
+package dev.nheggoe.boardgame.core.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A copy of the mutable state of a game, taken with {@link Game#snapshot()} and put back with
+ * {@link Game#restore(GameSnapshot)}. It holds the position of every seated player, the turn cursor
+ * with the seats still in play, and whether the game has ended. Games with more state extend this
+ * class.
+ *
+ * <p>A snapshot only copies primitive state and references to the game's own objects, so taking one
+ * is cheap and it can be restored any number of times, which allows a game to be branched for
+ * rollouts and what-if analysis. It can only be restored into the game it was taken from. The
+ * game's random generator is not part of the snapshot, so every branch rolls its own dice.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class GameSnapshot {
+
+  private final Game<?, ?> game;
+  private final int[] positions;
+  private final TurnManager.State turnState;
+  private final boolean ended;
+
+  GameSnapshot(Game<?, ?> game, int[] positions, TurnManager.State turnState, boolean ended) {
+    this.game = requireNonNull(game, "Game cannot be null!");
+    this.positions = requireNonNull(positions, "Positions cannot be null!");
+    this.turnState = requireNonNull(turnState, "Turn state cannot be null!");
+    this.ended = ended;
+  }
+
+  /**
+   * Creates a snapshot that shares the state captured by the given base snapshot. Used by games
+   * that add their own state on top of the common state.
+   *
+   * @param base the snapshot of the common game state
+   */
+  protected GameSnapshot(GameSnapshot base) {
+    this(base.game, base.positions, base.turnState, base.ended);
+  }
+
+  /**
+   * Checks whether this snapshot was taken from the given game.
+   *
+   * @param game the game to check
+   * @return true if the snapshot can be restored into the game
+   */
+  public boolean isSnapshotOf(Game<?, ?> game) {
+    return this.game == game;
+  }
+
+  /**
+   * Retrieves whether the game had ended when the snapshot was taken.
+   *
+   * @return true if the game had ended
+   */
+  public boolean isEnded() {
+    return ended;
+  }
+
+  /**
+   * Creates a snapshot of the same game with the common state replaced. Used to write state that
+   * was advanced outside of the game, for example by a simulation kernel, back into the game.
+   *
+   * @param positions the position of every seated player, indexed by seat
+   * @param activeSeats which seats are still in play, indexed by seat
+   * @param currentSeat the seat whose turn it is, or -1 before the first turn
+   * @param roundNumber the current round number
+   * @param ended whether the game has ended
+   * @return a snapshot that can be restored into the same game
+   * @throws IllegalArgumentException if the arrays do not have one entry per seat or the current
+   *     seat does not exist
+   */
+  public GameSnapshot withState(
+      int[] positions, boolean[] activeSeats, int currentSeat, int roundNumber, boolean ended) {
+    requireNonNull(positions, "Positions cannot be null!");
+    requireNonNull(activeSeats, "Active seats cannot be null!");
+    if (positions.length != getSeatCount() || activeSeats.length != getSeatCount()) {
+      throw new IllegalArgumentException("There must be exactly one entry per seat!");
+    }
+    return new GameSnapshot(
+        game,
+        positions.clone(),
+        TurnManager.State.of(activeSeats, currentSeat, roundNumber),
+        ended);
+  }
+
+  /**
+   * Retrieves the number of seats in the game, including seats of removed players.
+   *
+   * @return the number of seats
+   */
+  public int getSeatCount() {
+    return positions.length;
+  }
+
+  /**
+   * Retrieves the position of the player in the given seat.
+   *
+   * @param seat the zero-based seat
+   * @return the position of the player
+   */
+  public int getPosition(int seat) {
+    return positions[seat];
+  }
+
+  /**
+   * Checks whether the player in the given seat was still in play.
+   *
+   * @param seat the zero-based seat
+   * @return true if the player had not been removed
+   */
+  public boolean isSeatActive(int seat) {
+    return turnState.active()[seat];
+  }
+
+  /**
+   * Retrieves the seat whose turn it was.
+   *
+   * @return the zero-based seat, or -1 if no turn had been played
+   */
+  public int getCurrentSeat() {
+    return turnState.currentSeat();
+  }
+
+  /**
+   * Retrieves the round number of the game.
+   *
+   * @return the round number
+   */
+  public int getRoundNumber() {
+    return turnState.roundNumber();
+  }
+
+  int[] positions() {
+    return positions;
+  }
+
+  TurnManager.State turnState() {
+    return turnState;
+  }
+}
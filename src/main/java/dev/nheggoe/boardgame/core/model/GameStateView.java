@@ -0,0 +1,28 @@
+package dev.nheggoe.boardgame.core.model;
+
+import java.util.List;
+
+/**
+ * An immutable, versioned view of a game that readers such as user interface components can hold on
+ * to. A game hands out the same view until its state changes, so a reader only has to compare
+ * {@link #version()} with the version it last rendered to know whether anything needs to be
+ * redrawn.
+ *
+ * <p>The lists are immutable, but the players in them are the live player objects of the game.
+ *
+ * @param version the state version of the game when the view was taken; increases with every change
+ * @param players the players still in play, in seat order
+ * @param tiles the tiles of the board
+ * @param ended whether the game had ended when the view was taken
+ * @param <T> the type of tiles used in the game
+ * @param <P> the type of players participating in the game
+ */
+public record GameStateView<T extends Tile, P extends Player>(
+    long version, List<P> players, List<T> tiles, boolean ended) {
+
+  /** Ensures both lists are immutable, without copying lists that already are. */
+  public GameStateView {
+    players = List.copyOf(players);
+    tiles = List.copyOf(tiles);
+  }
+}
@@ -2,44 +2,82 @@ package dev.nheggoe.boardgame.core.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * The {@code TurnManager} class is responsible for managing the turn order and round progression of
  * players in a game. It allows for managing a sequence of players, retrieving the current or next
  * player, removing players from the turn sequence, and tracking the current round number.
  *
+ * <p>Every player keeps the seat they were given at construction. The seats still in play form a
+ * circular doubly linked ring over seat indices, so advancing the turn and removing a player both
+ * take constant time, and a round is completed whenever the turn wraps around to a lower seat.
+ *
  * @param <P> the type parameter representing a {@link Player}
  */
 public class TurnManager<P extends Player> {
 
-  private final List<P> players;
+  private static final int NO_SEAT = -1;
+
+  private final List<P> seats;
+  private final Map<Player, Integer> seatIndices;
+  private final int[] nextSeats;
+  private final int[] previousSeats;
+  private final boolean[] active;
+  private final List<P> activePlayers = new ActivePlayers();
+
+  private int firstSeat;
+  private int currentSeat = NO_SEAT;
+  private int activeCount;
   private int roundNumber = 0;
-  private Iterator<P> iterator;
-  private P currentPlayer;
 
   /**
-   * Constructs a {@code TurnManager} to manage the turn order for a list of players.
+   * Constructs a {@code TurnManager} to manage the turn order for a list of players. The order of
+   * the list decides the seat of every player.
    *
    * @param players the list of players to be managed in the turn sequence; must not be null
    * @throws NullPointerException if the players list is null
+   * @throws IllegalArgumentException if the list is empty or contains the same player twice
    */
   protected TurnManager(List<P> players) {
     requireNonNull(players, "Players cannot be null!");
-    this.players = new ArrayList<>(players);
-    this.iterator = players.iterator();
-    this.currentPlayer = players.getFirst();
+    if (players.isEmpty()) {
+      throw new IllegalArgumentException("Players cannot be empty!");
+    }
+    this.seats = List.copyOf(players);
+    int size = seats.size();
+    this.seatIndices = HashMap.newHashMap(size);
+    this.nextSeats = new int[size];
+    this.previousSeats = new int[size];
+    this.active = new boolean[size];
+    for (int seat = 0; seat < size; seat++) {
+      if (seatIndices.putIfAbsent(seats.get(seat), seat) != null) {
+        throw new IllegalArgumentException("Players must be unique!");
+      }
+      nextSeats[seat] = (seat + 1) % size;
+      previousSeats[seat] = (seat + size - 1) % size;
+      active[seat] = true;
+    }
+    this.firstSeat = 0;
+    this.activeCount = size;
   }
 
   /**
-   * Retrieves the current player in the turn sequence.
+   * Retrieves the current player in the turn sequence. Before the first turn this is the player in
+   * the first seat still in play.
    *
    * @return the current player of type P
    */
   protected P getCurrentPlayer() {
-    return currentPlayer;
+    if (currentSeat == NO_SEAT) {
+      return activeCount == 0 ? null : seats.get(firstSeat);
+    }
+    return seats.get(currentSeat);
   }
 
   /**
@@ -47,42 +85,50 @@ public class TurnManager<P extends Player> {
    * it starts over from the beginning, and increments the round number.
    *
    * @return the next player in the turn sequence
+   * @throws NoSuchElementException if every player has been removed
    */
   protected P getNextPlayer() {
-    if (!iterator.hasNext()) {
-      iterator = players.iterator();
+    if (activeCount == 0) {
+      throw new NoSuchElementException("There are no players left in the game!");
+    }
+    int nextSeat = currentSeat == NO_SEAT ? firstSeat : nextSeats[currentSeat];
+    if (currentSeat != NO_SEAT && nextSeat <= currentSeat) {
       roundNumber++;
     }
-    currentPlayer = iterator.next();
-    return currentPlayer;
+    currentSeat = nextSeat;
+    return seats.get(currentSeat);
   }
 
   /**
-   * Removes the specified player from the turn manager's player list. If the player to be removed
-   * is the current player, they are directly removed. Otherwise, the method iterates through the
-   * list to locate and remove the player, then resets the iterator to maintain the correct position
-   * in the turn order.
+   * Removes the specified player from the turn sequence in constant time. If the removed player is
+   * the current player, the turn passes to the player seated after them on the next call to {@link
+   * #getNextPlayer()}. Removing a player that is not in play has no effect.
    *
    * @param player the player to be removed from the turn manager; must not be null
    * @throws NullPointerException if the player is null
    */
   protected void removePlayer(Player player) {
     requireNonNull(player, "Player to remove cannot be null!");
-    if (player.equals(currentPlayer)) {
-      iterator.remove();
-    } else {
-      // new iterator
-      iterator = players.iterator();
-      while (iterator.hasNext()) {
-        if (iterator.next().equals(player)) {
-          iterator.remove();
-        }
-      }
-      // reset back to the current position
-      iterator = players.iterator();
-      while (iterator.hasNext() && !iterator.next().equals(currentPlayer)) {
-        // iterate until it found the previous user
-      }
+    Integer seat = seatIndices.get(player);
+    if (seat == null || !active[seat]) {
+      return;
+    }
+    active[seat] = false;
+    activeCount--;
+    if (activeCount == 0) {
+      return;
+    }
+
+    int previous = previousSeats[seat];
+    int next = nextSeats[seat];
+    nextSeats[previous] = next;
+    previousSeats[next] = previous;
+    if (firstSeat == seat) {
+      firstSeat = next;
+    }
+    // a removed current seat keeps pointing at its successor, which must stay in play
+    if (currentSeat != NO_SEAT && !active[currentSeat] && nextSeats[currentSeat] == seat) {
+      nextSeats[currentSeat] = next;
     }
   }
 
@@ -96,11 +142,186 @@ public class TurnManager<P extends Player> {
   }
 
   /**
-   * Retrieves an unmodifiable view of the list of players managed by the turn manager.
+   * Retrieves the seat the player was given when the turn manager was created. Seats never change,
+   * even when other players are removed.
+   *
+   * @param player the player to look up
+   * @return the zero-based seat of the player, or -1 if the player never took part
+   */
+  protected int getSeat(Player player) {
+    return seatIndices.getOrDefault(player, NO_SEAT);
+  }
+
+  /**
+   * Retrieves every player that was given a seat, including players that have since been removed.
+   *
+   * @return an unmodifiable list of all players, indexed by seat
+   */
+  protected List<P> getSeatedPlayers() {
+    return seats;
+  }
+
+  /**
+   * Captures the turn cursor, the round number and which seats are still in play.
+   *
+   * @return a copy of the turn state
+   */
+  State saveState() {
+    return new State(
+        nextSeats.clone(),
+        previousSeats.clone(),
+        active.clone(),
+        firstSeat,
+        currentSeat,
+        activeCount,
+        roundNumber);
+  }
+
+  /**
+   * Restores a turn state previously captured from this turn manager.
    *
-   * @return a list of players as an unmodifiable copy of the internal player list
+   * @param state the state to restore
+   */
+  void restoreState(State state) {
+    System.arraycopy(state.nextSeats(), 0, nextSeats, 0, nextSeats.length);
+    System.arraycopy(state.previousSeats(), 0, previousSeats, 0, previousSeats.length);
+    System.arraycopy(state.active(), 0, active, 0, active.length);
+    firstSeat = state.firstSeat();
+    currentSeat = state.currentSeat();
+    activeCount = state.activeCount();
+    roundNumber = state.roundNumber();
+  }
+
+  /**
+   * Retrieves a read-only view of the players still in play, in seat order. The view is live: it
+   * reflects later removals and is never copied.
+   *
+   * @return an unmodifiable view of the players in play
    */
   protected List<P> getPlayers() {
-    return List.copyOf(players);
+    return activePlayers;
+  }
+
+  /** Copy of the mutable turn state, owned by a {@link GameSnapshot}. */
+  @SuppressWarnings("java:S6218")
+  record State(
+      int[] nextSeats,
+      int[] previousSeats,
+      boolean[] active,
+      int firstSeat,
+      int currentSeat,
+      int activeCount,
+      int roundNumber) {
+
+    /**
+     * Builds the turn state of a ring where exactly the given seats are still in play. Seats out of
+     * play point at the next seat in play, so a removed current seat hands the turn on like it does
+     * after {@link #removePlayer(Player)}.
+     *
+     * @param active which seats are still in play
+     * @param currentSeat the seat whose turn it is, or -1 before the first turn
+     * @param roundNumber the current round number
+     * @return the turn state
+     * @throws IllegalArgumentException if the current seat does not exist
+     */
+    static State of(boolean[] active, int currentSeat, int roundNumber) {
+      int size = active.length;
+      if (currentSeat < NO_SEAT || currentSeat >= size) {
+        throw new IllegalArgumentException("Current seat is out of range!");
+      }
+      int[] nextSeats = new int[size];
+      int[] previousSeats = new int[size];
+      int firstSeat = NO_SEAT;
+      int lastSeat = NO_SEAT;
+      int activeCount = 0;
+      for (int seat = 0; seat < size; seat++) {
+        if (!active[seat]) {
+          continue;
+        }
+        if (firstSeat == NO_SEAT) {
+          firstSeat = seat;
+        } else {
+          nextSeats[lastSeat] = seat;
+          previousSeats[seat] = lastSeat;
+        }
+        lastSeat = seat;
+        activeCount++;
+      }
+      if (activeCount == 0) {
+        return new State(nextSeats, previousSeats, active.clone(), 0, currentSeat, 0, roundNumber);
+      }
+      nextSeats[lastSeat] = firstSeat;
+      previousSeats[firstSeat] = lastSeat;
+
+      // walk backwards so every seat out of play learns the next seat in play after it
+      int upcoming = firstSeat;
+      for (int seat = size - 1; seat >= 0; seat--) {
+        if (active[seat]) {
+          upcoming = seat;
+        } else {
+          nextSeats[seat] = upcoming;
+          previousSeats[seat] = previousSeats[upcoming];
+        }
+      }
+      return new State(
+          nextSeats,
+          previousSeats,
+          active.clone(),
+          firstSeat,
+          currentSeat,
+          activeCount,
+          roundNumber);
+    }
+  }
+
+  /** Unmodifiable view that walks the ring of seats still in play. */
+  private final class ActivePlayers extends AbstractList<P> {
+
+    @Override
+    public P get(int index) {
+      if (index < 0 || index >= activeCount) {
+        throw new IndexOutOfBoundsException(index);
+      }
+      int seat = firstSeat;
+      for (int i = 0; i < index; i++) {
+        seat = nextSeats[seat];
+      }
+      return seats.get(seat);
+    }
+
+    @Override
+    public int size() {
+      return activeCount;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      Integer seat = o instanceof Player player ? seatIndices.get(player) : null;
+      return seat != null && active[seat];
+    }
+
+    @Override
+    public Iterator<P> iterator() {
+      return new Iterator<>() {
+        private int seat = firstSeat;
+        private int remaining = activeCount;
+
+        @Override
+        public boolean hasNext() {
+          return remaining > 0;
+        }
+
+        @Override
+        public P next() {
+          if (remaining == 0) {
+            throw new NoSuchElementException();
+          }
+          P player = seats.get(seat);
+          seat = nextSeats[seat];
+          remaining--;
+          return player;
+        }
+      };
+    }
   }
 }
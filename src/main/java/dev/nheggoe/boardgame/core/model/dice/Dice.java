@@ -1,32 +1,59 @@
 package dev.nheggoe.boardgame.core.model.dice;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
- * Singleton class representing a die with two six-sided dice. Uses lazy initialization to ensure
- * only one instance is created when needed. Uses Singleton to ensure non-biased dice rolls.
+ * Utility class for rolling six-sided dice. The source of randomness is supplied by the caller, so
+ * every game can own its own seeded generator and be replayed from that seed.
  *
  * @author Mihailo Hranisavljevic and Nick Heggø
- * @version 2025.05.08
+ * @version 2025.06.02
  */
 public class Dice {
 
-  private static final Random random = new Random();
-
   private Dice() {}
 
   /**
-   * Simulates rolling the specified number of dice, each with a face value ranging from 1 to 6.
+   * Simulates rolling the specified number of dice using the current thread's random generator.
+   * Rolls made this way cannot be reproduced; games should use {@link #roll(int, RandomGenerator)}
+   * with their own generator instead.
    *
    * @param numberOfDice the number of dice to roll; must be greater than or equal to 1
    * @return a {@link DiceRoll} object representing the results of the dice rolls
    * @throws IllegalArgumentException if {@code numberOfDice} is less than 1
    */
   public static DiceRoll roll(int numberOfDice) {
+    return roll(numberOfDice, ThreadLocalRandom.current());
+  }
+
+  /**
+   * Simulates rolling the specified number of dice, each with a face value ranging from 1 to 6,
+   * drawing every face from the given generator.
+   *
+   * @param numberOfDice the number of dice to roll; must be greater than or equal to 1
+   * @param random the generator to draw the face values from
+   * @return a {@link DiceRoll} object representing the results of the dice rolls
+   * @throws IllegalArgumentException if {@code numberOfDice} is less than 1
+   */
+  public static DiceRoll roll(int numberOfDice, RandomGenerator random) {
+    if (numberOfDice < 1) {
+      throw new IllegalArgumentException("Dice roll must contain at least one dice");
+    }
+    if (numberOfDice == 1) {
+      return DiceRoll.of(rollFace(random));
+    }
+    if (numberOfDice == 2) {
+      return DiceRoll.of(rollFace(random), rollFace(random));
+    }
     int[] rolls = new int[numberOfDice];
     for (int i = 0; i < rolls.length; i++) {
-      rolls[i] = random.nextInt(6) + 1;
+      rolls[i] = rollFace(random);
     }
     return new DiceRoll(rolls);
   }
+
+  private static int rollFace(RandomGenerator random) {
+    return random.nextInt(6) + 1;
+  }
 }
@@ -7,11 +7,27 @@ import java.util.Arrays;
  * dice rolled. The class is implemented as a record to provide a concise and immutable way to
  * encapsulate the roll results.
  *
+ * <p>All 6 single-die and 36 two-dice results are created once and shared through {@link #of(int)}
+ * and {@link #of(int, int)}, so the common rolls never allocate.
+ *
  * @author Nick Heggø
- * @version 2025.05.08
+ * @version 2025.06.02
  */
 public record DiceRoll(int... rolls) {
 
+  private static final int FACES = 6;
+  private static final DiceRoll[] SINGLE_ROLLS = new DiceRoll[FACES];
+  private static final DiceRoll[] DOUBLE_ROLLS = new DiceRoll[FACES * FACES];
+
+  static {
+    for (int first = 1; first <= FACES; first++) {
+      SINGLE_ROLLS[first - 1] = new DiceRoll(first);
+      for (int second = 1; second <= FACES; second++) {
+        DOUBLE_ROLLS[(first - 1) * FACES + second - 1] = new DiceRoll(first, second);
+      }
+    }
+  }
+
   /**
    * Constructs a {@link DiceRoll} instance that encapsulates the face values of one or more dice
    * rolls. The constructor validates that each dice roll is within valid bounds (1 to 6 inclusive)
@@ -27,16 +43,76 @@ public record DiceRoll(int... rolls) {
       throw new IllegalArgumentException("Dice roll must contain at least one dice");
     }
     for (int roll : rolls) {
-      if (roll < 1) {
-        throw new IllegalArgumentException("Face value of dice cannot be less than 1");
-      }
-      if (roll > 6) {
-        throw new IllegalArgumentException("Face value of dice cannot exceed 6");
-      }
+      assertFace(roll);
     }
     rolls = Arrays.copyOf(rolls, rolls.length);
   }
 
+  /**
+   * Retrieves the shared instance for a roll of one die.
+   *
+   * @param face the face value of the die, between 1 and 6 inclusive
+   * @return the interned roll
+   * @throws IllegalArgumentException if the face value is out of range
+   */
+  public static DiceRoll of(int face) {
+    assertFace(face);
+    return SINGLE_ROLLS[face - 1];
+  }
+
+  /**
+   * Retrieves the shared instance for a roll of two dice.
+   *
+   * @param first the face value of the first die, between 1 and 6 inclusive
+   * @param second the face value of the second die, between 1 and 6 inclusive
+   * @return the interned roll
+   * @throws IllegalArgumentException if a face value is out of range
+   */
+  public static DiceRoll of(int first, int second) {
+    assertFace(first);
+    assertFace(second);
+    return DOUBLE_ROLLS[(first - 1) * FACES + second - 1];
+  }
+
+  private static void assertFace(int face) {
+    if (face < 1) {
+      throw new IllegalArgumentException("Face value of dice cannot be less than 1");
+    }
+    if (face > FACES) {
+      throw new IllegalArgumentException("Face value of dice cannot exceed 6");
+    }
+  }
+
+  /**
+   * Retrieves a copy of the face values, so that shared instances cannot be modified.
+   *
+   * @return the face values of all dice in the roll
+   */
+  @Override
+  public int[] rolls() {
+    return Arrays.copyOf(rolls, rolls.length);
+  }
+
+  /**
+   * Retrieves the number of dice in the roll.
+   *
+   * @return the number of dice
+   */
+  public int getNumberOfDice() {
+    return rolls.length;
+  }
+
+  /**
+   * Retrieves the face value of a single die without copying the roll.
+   *
+   * @param index the zero-based index of the die
+   * @return the face value of the die
+   * @throws ArrayIndexOutOfBoundsException if the index is out of range
+   */
+  public int getFace(int index) {
+    return rolls[index];
+  }
+
   /**
    * Checks if all dice in the roll have the same face value.
    *
@@ -46,7 +122,12 @@ public record DiceRoll(int... rolls) {
     if (rolls.length < 2) {
       throw new UnsupportedOperationException("Dice roll must contain at least two dice");
     }
-    return Arrays.stream(rolls).allMatch(face -> face == rolls[0]);
+    for (int i = 1; i < rolls.length; i++) {
+      if (rolls[i] != rolls[0]) {
+        return false;
+      }
+    }
+    return true;
   }
 
   /**
@@ -55,7 +136,11 @@ public record DiceRoll(int... rolls) {
    * @return the total sum of all face values in the dice roll
    */
   public int getTotal() {
-    return Arrays.stream(rolls).sum();
+    int total = 0;
+    for (int roll : rolls) {
+      total += roll;
+    }
+    return total;
   }
 
   @Override
@@ -75,10 +160,10 @@ public record DiceRoll(int... rolls) {
 
   @Override
   public boolean equals(Object o) {
-    if (!(o instanceof DiceRoll(int[] other))) {
+    if (!(o instanceof DiceRoll other)) {
       return false;
     }
-    return Arrays.equals(rolls, other);
+    return Arrays.equals(rolls, other.rolls);
   }
 
   @Override
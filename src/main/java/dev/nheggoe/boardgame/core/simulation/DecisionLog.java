@@ -0,0 +1,203 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+
+/**
+ * The yes-or-no decisions the players of a game made, in the order they were asked.
+ *
+ * <p>Together with the configuration of a game and the seed of its {@link ReplayRandom}, the log is
+ * all a {@link GameReplay} needs to play the game again exactly. Every decision takes two bits, and
+ * {@link #encode()} turns the log into a short string that fits in a bug report, with one letter
+ * per decision: {@code P} or {@code p} for an accepted or declined purchase, and {@code U} or
+ * {@code u} for an accepted or declined upgrade.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class DecisionLog {
+
+  private final BitSet upgrades = new BitSet();
+  private final BitSet accepted = new BitSet();
+  private int size;
+
+  /** The kinds of question a player can be asked. */
+  public enum Kind {
+    /** Whether to buy the asset the player landed on. */
+    PURCHASE,
+    /** Whether to build an upgrade on a property the player owns. */
+    UPGRADE
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Decodes a log from the string {@link #encode()} produced.
+   *
+   * @param encoded the encoded decisions
+   * @return the decoded log
+   * @throws IllegalArgumentException if the string contains anything but {@code PpUu}
+   */
+  public static DecisionLog decode(String encoded) {
+    requireNonNull(encoded, "Encoded log cannot be null!");
+    var log = new DecisionLog();
+    for (int i = 0; i < encoded.length(); i++) {
+      char letter = encoded.charAt(i);
+      switch (letter) {
+        case 'P', 'p' -> log.append(Kind.PURCHASE, letter == 'P');
+        case 'U', 'u' -> log.append(Kind.UPGRADE, letter == 'U');
+        default -> throw new IllegalArgumentException("Invalid decision: " + letter);
+      }
+    }
+    return log;
+  }
+
+  /**
+   * Appends a decision to the log.
+   *
+   * @param kind the kind of question
+   * @param accepted whether the player said yes
+   */
+  public void append(Kind kind, boolean accepted) {
+    requireNonNull(kind, "Kind cannot be null!");
+    upgrades.set(size, kind == Kind.UPGRADE);
+    this.accepted.set(size, accepted);
+    size++;
+  }
+
+  /**
+   * Retrieves the kind of question behind a decision.
+   *
+   * @param index the zero-based index of the decision
+   * @return the kind of question
+   * @throws IndexOutOfBoundsException if there is no such decision
+   */
+  public Kind getKind(int index) {
+    checkIndex(index);
+    return upgrades.get(index) ? Kind.UPGRADE : Kind.PURCHASE;
+  }
+
+  /**
+   * Retrieves whether the player said yes.
+   *
+   * @param index the zero-based index of the decision
+   * @return true if the player accepted
+   * @throws IndexOutOfBoundsException if there is no such decision
+   */
+  public boolean isAccepted(int index) {
+    checkIndex(index);
+    return accepted.get(index);
+  }
+
+  /**
+   * Retrieves the number of decisions in the log.
+   *
+   * @return the number of decisions
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Encodes the log as one letter per decision.
+   *
+   * @return the encoded log, which {@link #decode(String)} turns back into an equal log
+   */
+  public String encode() {
+    var builder = new StringBuilder(size);
+    for (int i = 0; i < size; i++) {
+      char letter = upgrades.get(i) ? 'u' : 'p';
+      builder.append(accepted.get(i) ? Character.toUpperCase(letter) : letter);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Creates a cursor that reads the log from the first decision.
+   *
+   * @return a new cursor
+   */
+  public Cursor cursor() {
+    return new Cursor();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof DecisionLog other
+        && size == other.size
+        && upgrades.equals(other.upgrades)
+        && accepted.equals(other.accepted);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * (31 * size + upgrades.hashCode()) + accepted.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "DecisionLog[" + encode() + "]";
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+  }
+
+  /** Answers the questions of a replayed game from the log, one decision at a time. */
+  public final class Cursor {
+
+    private int position;
+
+    private Cursor() {}
+
+    /**
+     * Answers the next question from the log.
+     *
+     * @param kind the kind of question the game asks
+     * @return whether the recorded player said yes
+     * @throws ReplayException if the log is exhausted or recorded another kind of question
+     */
+    public boolean next(Kind kind) {
+      requireNonNull(kind, "Kind cannot be null!");
+      if (position >= size) {
+        throw new ReplayException(
+            "Decision log exhausted after %d decisions, but a %s was asked"
+                .formatted(size, kind.name().toLowerCase()));
+      }
+      if (getKind(position) != kind) {
+        throw new ReplayException(
+            "Decision %d was a %s, but a %s was asked"
+                .formatted(
+                    position, getKind(position).name().toLowerCase(), kind.name().toLowerCase()));
+      }
+      return isAccepted(position++);
+    }
+
+    /**
+     * Retrieves the index of the next decision to read.
+     *
+     * @return the zero-based position of the cursor
+     */
+    public int getPosition() {
+      return position;
+    }
+
+    /**
+     * Moves the cursor to the given decision.
+     *
+     * @param position the zero-based index of the next decision to read
+     * @throws IndexOutOfBoundsException if the position is outside of the log
+     */
+    public void seek(int position) {
+      if (position < 0 || position > size) {
+        throw new IndexOutOfBoundsException(position);
+      }
+      this.position = position;
+    }
+  }
+}
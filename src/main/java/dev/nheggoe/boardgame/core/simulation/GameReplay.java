@@ -0,0 +1,174 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.core.GameEngine;
+import dev.nheggoe.boardgame.core.model.Game;
+import dev.nheggoe.boardgame.core.model.GameSnapshot;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.core.model.Tile;
+import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays a recorded game again, exactly, from its configuration, its seed and the decisions of its
+ * players.
+ *
+ * <p>A game can be replayed if it rolled its dice with a {@link ReplayRandom} and its decisions
+ * were recorded in a {@link DecisionLog}. Games roll with a {@link ReplayRandom} unless given
+ * another generator, and so do the games of a {@link GameSimulator}, so the seed of any game is
+ * available from {@link Game#getSeed()}. Monopoly games created through {@code GameFactory} record
+ * their decisions with a {@code RecordingDecisionProvider}. The replay builds the game afresh with
+ * the factory, handing it a generator with the recorded seed and a cursor over the log, and then
+ * plays it turn by turn at simulation speed.
+ *
+ * <p>Every few turns the replay stores a checkpoint: a {@link GameSnapshot} together with the
+ * position of the generator and of the cursor. {@link #seek(int)} restores the nearest checkpoint
+ * at or before the requested turn and only plays the turns after it, so jumping back and forth
+ * through a long game is cheap.
+ *
+ * @param <T> the type of tiles in the replayed game
+ * @param <P> the type of players in the replayed game
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class GameReplay<T extends Tile, P extends Player> {
+
+  private final Game<T, P> game;
+  private final GameEngine<T, P> engine;
+  private final ReplayRandom random;
+  private final DecisionLog.Cursor decisions;
+  private final int checkpointInterval;
+  private final TreeMap<Integer, Checkpoint> checkpoints = new TreeMap<>();
+  private int turn;
+
+  /**
+   * Builds the recorded game, ready to replay from its first turn.
+   *
+   * @param factory builds the game from its recorded configuration
+   * @param seed the seed of the generator the recorded game rolled its dice with
+   * @param decisionLog the decisions the players of the recorded game made
+   * @param checkpointInterval the number of turns between two checkpoints
+   * @throws IllegalArgumentException if the checkpoint interval is not positive
+   */
+  public GameReplay(
+      Factory<T, P> factory, long seed, DecisionLog decisionLog, int checkpointInterval) {
+    requireNonNull(factory, "Factory cannot be null!");
+    requireNonNull(decisionLog, "Decision log cannot be null!");
+    if (checkpointInterval < 1) {
+      throw new IllegalArgumentException("Checkpoint interval must be positive!");
+    }
+    this.random = new ReplayRandom(seed);
+    this.decisions = decisionLog.cursor();
+    this.game = requireNonNull(factory.create(random, decisions), "Factory returned no game!");
+    this.engine = new GameEngine<>(game);
+    this.checkpointInterval = checkpointInterval;
+    saveCheckpoint();
+  }
+
+  /**
+   * Builds a game for a replay from its recorded configuration.
+   *
+   * @param <T> the type of tiles in the game
+   * @param <P> the type of players in the game
+   */
+  @FunctionalInterface
+  public interface Factory<T extends Tile, P extends Player> {
+
+    /**
+     * Builds a new game that rolls its dice with the given generator and takes every decision of
+     * its players from the given cursor.
+     *
+     * @param random the generator the game must roll its dice with
+     * @param decisions the recorded decisions, to be read in the order the game asks for them
+     * @return the new game
+     */
+    Game<T, P> create(RandomGenerator random, DecisionLog.Cursor decisions);
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Moves the game to the state after the given number of turns, or to its end if it ended earlier.
+   *
+   * @param turn the number of turns played
+   * @return the number of turns actually played, smaller than requested if the game ended first
+   * @throws IllegalArgumentException if the turn is negative
+   * @throws ReplayException if the decision log does not match the game
+   */
+  public int seek(int turn) {
+    if (turn < 0) {
+      throw new IllegalArgumentException("Turn cannot be negative!");
+    }
+    var checkpoint = checkpoints.floorEntry(turn).getValue();
+    if (turn < this.turn || checkpoint.turn() > this.turn) {
+      restore(checkpoint);
+    }
+    while (this.turn < turn && !engine.isEnded()) {
+      playTurn();
+    }
+    return this.turn;
+  }
+
+  /**
+   * Plays the game on from its current turn until it ends or the turn limit is reached.
+   *
+   * @param maxTurns the turn after which to stop if the game has not ended
+   * @return the number of turns played
+   * @throws ReplayException if the decision log does not match the game
+   */
+  public int playToEnd(int maxTurns) {
+    return seek(Math.max(maxTurns, turn));
+  }
+
+  /**
+   * Retrieves the replayed game, in the state of the current turn.
+   *
+   * @return the game
+   */
+  public Game<T, P> getGame() {
+    return game;
+  }
+
+  /**
+   * Retrieves the number of turns played so far.
+   *
+   * @return the current turn
+   */
+  public int getTurn() {
+    return turn;
+  }
+
+  /**
+   * Retrieves the number of checkpoints stored so far, including the one before the first turn.
+   *
+   * @return the number of checkpoints
+   */
+  public int getCheckpointCount() {
+    return checkpoints.size();
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void playTurn() {
+    engine.nextTurn();
+    turn++;
+    if (turn % checkpointInterval == 0 && !checkpoints.containsKey(turn)) {
+      saveCheckpoint();
+    }
+  }
+
+  private void saveCheckpoint() {
+    checkpoints.put(
+        turn, new Checkpoint(turn, game.snapshot(), random.getDraws(), decisions.getPosition()));
+  }
+
+  private void restore(Checkpoint checkpoint) {
+    game.restore(checkpoint.snapshot());
+    random.jumpTo(checkpoint.draws());
+    decisions.seek(checkpoint.decision());
+    turn = checkpoint.turn();
+  }
+
+  private record Checkpoint(int turn, GameSnapshot snapshot, long draws, int decision) {}
+}
@@ -0,0 +1,215 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.core.GameEngine;
+import dev.nheggoe.boardgame.core.model.Game;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.core.model.Tile;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays many independent games to completion in parallel and aggregates their outcome.
+ *
+ * <p>Every game is built fresh from the supplied factory, wrapped in a {@link GameEngine} and
+ * driven through {@link GameEngine#nextTurn()} until it ends or reaches the turn limit. Games are
+ * spread over a work-stealing pool with one worker per core, and results are aggregated on the
+ * calling thread in the order the games finish. The factory must therefore return games that do not
+ * share mutable state and do not need a user interface, e.g. a {@code MonopolyGame} with a headless
+ * decision provider.
+ *
+ * <p>Every game receives its own {@link ReplayRandom}, seeded from a stream that is derived from
+ * the seed of the run in submission order. A run with the same seed therefore plays the same games
+ * regardless of how many threads are used, and any single game can be played again from the seed
+ * recorded in its {@link SimulationResult}, either whole with {@link #replay(long)} or turn by turn
+ * with a {@link GameReplay}.
+ *
+ * @param <T> the type of tiles in the simulated games
+ * @param <P> the type of players in the simulated games
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class GameSimulator<T extends Tile, P extends Player> {
+
+  private static final int TASKS_PER_WORKER = 4;
+
+  private final Function<RandomGenerator, ? extends Game<T, P>> gameFactory;
+  private final int maxTurnsPerGame;
+  private final int parallelism;
+
+  /**
+   * Creates a simulator that uses every available core.
+   *
+   * @param gameFactory creates a new, independent game that rolls its dice with the given generator
+   * @param maxTurnsPerGame the number of turns after which an unfinished game is abandoned
+   */
+  public GameSimulator(
+      Function<RandomGenerator, ? extends Game<T, P>> gameFactory, int maxTurnsPerGame) {
+    this(gameFactory, maxTurnsPerGame, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a simulator with an explicit number of worker threads.
+   *
+   * @param gameFactory creates a new, independent game that rolls its dice with the given generator
+   * @param maxTurnsPerGame the number of turns after which an unfinished game is abandoned
+   * @param parallelism the number of games played at the same time
+   * @throws IllegalArgumentException if the turn limit or parallelism is not positive
+   */
+  public GameSimulator(
+      Function<RandomGenerator, ? extends Game<T, P>> gameFactory,
+      int maxTurnsPerGame,
+      int parallelism) {
+    this.gameFactory = requireNonNull(gameFactory, "Game factory cannot be null!");
+    if (maxTurnsPerGame < 1) {
+      throw new IllegalArgumentException("Max turns per game must be positive!");
+    }
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive!");
+    }
+    this.maxTurnsPerGame = maxTurnsPerGame;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Simulates the given number of games from a random seed and returns the aggregated statistics.
+   *
+   * @param numberOfGames the number of games to play
+   * @return the summary over all games
+   */
+  public SimulationSummary run(int numberOfGames) {
+    return run(numberOfGames, new SplittableRandom().nextLong(), result -> {});
+  }
+
+  /**
+   * Simulates the given number of games from the given seed and returns the aggregated statistics.
+   *
+   * @param numberOfGames the number of games to play
+   * @param seed the seed from which the seed of every game is derived
+   * @return the summary over all games
+   */
+  public SimulationSummary run(int numberOfGames, long seed) {
+    return run(numberOfGames, seed, result -> {});
+  }
+
+  /**
+   * Simulates the given number of games, handing every result to the listener as soon as its game
+   * has finished. The listener is always called on the calling thread.
+   *
+   * @param numberOfGames the number of games to play
+   * @param seed the seed from which the seed of every game is derived
+   * @param resultListener receives the result of every game
+   * @return the summary over all games
+   * @throws SimulationException if a game cannot be created, fails, or the run is interrupted
+   */
+  public SimulationSummary run(
+      int numberOfGames, long seed, Consumer<? super SimulationResult<P>> resultListener) {
+    requireNonNull(resultListener, "Result listener cannot be null!");
+    if (numberOfGames < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative!");
+    }
+
+    var seeds = new SplittableRandom(seed);
+    var aggregator = new Aggregator();
+    var executor = Executors.newWorkStealingPool(parallelism);
+    try {
+      CompletionService<SimulationResult<P>> completionService =
+          new ExecutorCompletionService<>(executor);
+
+      // keep a bounded number of games in flight so millions of games do not queue up at once
+      int submitted = 0;
+      int maxInFlight = parallelism * TASKS_PER_WORKER;
+      while (submitted < Math.min(numberOfGames, maxInFlight)) {
+        submit(completionService, submitted++, seeds.nextLong());
+      }
+      for (int completed = 0; completed < numberOfGames; completed++) {
+        var result = completionService.take().get();
+        if (submitted < numberOfGames) {
+          submit(completionService, submitted++, seeds.nextLong());
+        }
+        aggregator.add(result);
+        resultListener.accept(result);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SimulationException("Simulation was interrupted", e);
+    } catch (ExecutionException e) {
+      throw new SimulationException("Simulated game failed", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+    return aggregator.toSummary();
+  }
+
+  /**
+   * Plays a single game from the given seed on the calling thread. Passing the seed of a {@link
+   * SimulationResult} reproduces that game exactly, provided the factory is deterministic.
+   *
+   * @param seed the seed of the game to play
+   * @return the result of the game, with a game index of 0
+   */
+  public SimulationResult<P> replay(long seed) {
+    return play(0, seed);
+  }
+
+  private void submit(
+      CompletionService<SimulationResult<P>> completionService, int gameIndex, long gameSeed) {
+    completionService.submit(() -> play(gameIndex, gameSeed));
+  }
+
+  private SimulationResult<P> play(int gameIndex, long seed) {
+    var game = gameFactory.apply(new ReplayRandom(seed));
+    var engine = new GameEngine<>(game);
+    int turns = 0;
+    while (!engine.isEnded() && turns < maxTurnsPerGame) {
+      engine.nextTurn();
+      turns++;
+    }
+    var winners = game.getPlayers().isEmpty() ? null : game.getWinners();
+    return new SimulationResult<>(gameIndex, seed, turns, engine.isEnded(), winners);
+  }
+
+  /** Accumulates results on the calling thread. */
+  private static final class Aggregator {
+    private final Map<String, Long> winsByPlayer = new HashMap<>();
+    private int gamesPlayed;
+    private int gamesEnded;
+    private long totalTurns;
+    private int shortestGame = Integer.MAX_VALUE;
+    private int longestGame;
+
+    private void add(SimulationResult<?> result) {
+      gamesPlayed++;
+      // an abandoned game was cut off by the turn limit, so its length and leader mean nothing
+      if (!result.ended()) {
+        return;
+      }
+      gamesEnded++;
+      totalTurns += result.turns();
+      shortestGame = Math.min(shortestGame, result.turns());
+      longestGame = Math.max(longestGame, result.turns());
+      for (var winner : result.winningPlayers()) {
+        winsByPlayer.merge(winner.getName(), 1L, Long::sum);
+      }
+    }
+
+    private SimulationSummary toSummary() {
+      return new SimulationSummary(
+          gamesPlayed,
+          gamesEnded,
+          totalTurns,
+          gamesEnded == 0 ? 0 : shortestGame,
+          longestGame,
+          winsByPlayer);
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+/**
+ * Thrown when a replayed game asks for a decision its decision log cannot give, which means the
+ * replay has diverged from the game that was recorded.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class ReplayException extends RuntimeException {
+
+  /**
+   * Constructs a new replay exception.
+   *
+   * @param message the detail message
+   */
+  public ReplayException(String message) {
+    super(message);
+  }
+}
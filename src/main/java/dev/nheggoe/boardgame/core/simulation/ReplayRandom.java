@@ -0,0 +1,87 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * A seeded random generator that can jump to any point of its sequence, for games that must be
+ * replayed exactly.
+ *
+ * <p>The generator uses the SplitMix64 mixing function on a counter, so the value of every draw
+ * depends only on the seed and on how many values were drawn before it. {@link #jumpTo(long)}
+ * therefore restores the generator to any earlier or later point in constant time, which is what
+ * lets a {@link GameReplay} resume from a checkpoint instead of replaying every turn before it.
+ *
+ * <p>A generator is not safe for use by multiple threads.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class ReplayRandom implements RandomGenerator {
+
+  private static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+  private final long seed;
+  private long draws;
+
+  /**
+   * Creates a generator at the start of the sequence of the given seed.
+   *
+   * @param seed the seed
+   */
+  public ReplayRandom(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Creates a generator at the start of the sequence of a new, randomly chosen seed. The seed can
+   * be read back with {@link #getSeed()}, so a game rolling with the generator can be replayed.
+   *
+   * @return the new generator
+   */
+  public static ReplayRandom withRandomSeed() {
+    return new ReplayRandom(new SplittableRandom().nextLong());
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  @Override
+  public long nextLong() {
+    long z = seed + ++draws * GAMMA;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Moves the generator to the point of its sequence after the given number of draws.
+   *
+   * @param draws the number of values drawn before the next one
+   * @throws IllegalArgumentException if the number of draws is negative
+   */
+  public void jumpTo(long draws) {
+    if (draws < 0) {
+      throw new IllegalArgumentException("Draws cannot be negative!");
+    }
+    this.draws = draws;
+  }
+
+  /**
+   * Retrieves the seed of the generator.
+   *
+   * @return the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Retrieves how many values have been drawn, which is the point of the sequence the generator is
+   * at.
+   *
+   * @return the number of draws
+   */
+  public long getDraws() {
+    return draws;
+  }
+}
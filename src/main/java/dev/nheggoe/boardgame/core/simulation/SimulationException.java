@@ -0,0 +1,20 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+/**
+ * Thrown when a simulated game cannot be created or fails while it is being played.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class SimulationException extends RuntimeException {
+
+  /**
+   * Constructs a new simulation exception.
+   *
+   * @param message the detail message
+   * @param cause the failure that stopped the simulation
+   */
+  public SimulationException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,28 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+import dev.nheggoe.boardgame.core.model.Player;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a single simulated game.
+ *
+ * @param gameIndex the zero-based index of the game within its simulation run
+ * @param seed the seed of the game's random generator, from which the game can be replayed
+ * @param turns the number of turns the game was driven through
+ * @param ended whether the game reached its end condition before the turn limit
+ * @param winners the final {@code getWinners()} entry of the game
+ * @param <P> the type of players in the game
+ */
+public record SimulationResult<P extends Player>(
+    int gameIndex, long seed, int turns, boolean ended, Map.Entry<Integer, List<P>> winners) {
+
+  /**
+   * Retrieves the players that share the winning score.
+   *
+   * @return the winning players, empty if the game has no players left
+   */
+  public List<P> winningPlayers() {
+    return winners == null ? List.of() : winners.getValue();
+  }
+}
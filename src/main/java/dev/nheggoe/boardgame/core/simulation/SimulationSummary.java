@@ -0,0 +1,50 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+import java.util.Map;
+
+/**
+ * Aggregated statistics over every game of a simulation run.
+ *
+ * <p>Games that were abandoned at the turn limit are counted by {@link #gamesAbandoned()} only.
+ * Their length is the turn limit and their leader has not won, so the game lengths and wins are
+ * taken over the ended games alone.
+ *
+ * @param gamesPlayed the number of games that were simulated
+ * @param gamesEnded the number of games that reached their end condition before the turn limit
+ * @param totalTurns the sum of turns over the ended games
+ * @param shortestGame the lowest number of turns of any ended game, or 0 if none ended
+ * @param longestGame the highest number of turns of any ended game, or 0 if none ended
+ * @param winsByPlayer the number of ended games each player name has won, ties count for every
+ *     winner
+ */
+public record SimulationSummary(
+    int gamesPlayed,
+    int gamesEnded,
+    long totalTurns,
+    int shortestGame,
+    int longestGame,
+    Map<String, Long> winsByPlayer) {
+
+  /** Defensively copies the wins per player. */
+  public SimulationSummary {
+    winsByPlayer = Map.copyOf(winsByPlayer);
+  }
+
+  /**
+   * Retrieves the number of games that were abandoned at the turn limit before they ended.
+   *
+   * @return the number of abandoned games
+   */
+  public int gamesAbandoned() {
+    return gamesPlayed - gamesEnded;
+  }
+
+  /**
+   * Calculates the mean number of turns per ended game.
+   *
+   * @return the average game length in turns, or 0 if no games ended
+   */
+  public double averageTurns() {
+    return gamesEnded == 0 ? 0 : (double) totalTurns / gamesEnded;
+  }
+}
@@ -0,0 +1,114 @@
+package dev.nheggoe.boardgame.core.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.common.event.EventListener;
+import dev.nheggoe.boardgame.common.event.type.Event;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javafx.application.Platform;
+
+/**
+ * Merges the events arriving between two JavaFX pulses, so a component renders at most once per
+ * frame however many events it receives.
+ *
+ * <p>Every event is filed under a key, and a later event with the same key replaces the earlier one
+ * while keeping its place in line. Keying movement events by player keeps only the latest move of
+ * every player, and keying purchases by asset leaves one entry per dirty tile. The first event
+ * after a flush schedules the next flush on the JavaFX application thread, which hands the merged
+ * events to the renderer in one batch.
+ *
+ * <p>Events may arrive from any thread.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class EventCoalescer implements EventListener {
+
+  private final Function<Event, Object> keyOf;
+  private final Consumer<List<Event>> renderer;
+  private final Consumer<Runnable> scheduler;
+
+  private Map<Object, Event> pending = new LinkedHashMap<>();
+  private boolean scheduled;
+  private long receivedCount;
+  private long flushCount;
+
+  /**
+   * Creates a coalescer that flushes on the JavaFX application thread.
+   *
+   * @param keyOf the key an event is merged under; events with equal keys replace each other
+   * @param renderer receives the merged events, in the order their keys first arrived
+   */
+  public EventCoalescer(Function<Event, Object> keyOf, Consumer<List<Event>> renderer) {
+    this(keyOf, renderer, Platform::runLater);
+  }
+
+  EventCoalescer(
+      Function<Event, Object> keyOf, Consumer<List<Event>> renderer, Consumer<Runnable> scheduler) {
+    this.keyOf = requireNonNull(keyOf, "Key function cannot be null!");
+    this.renderer = requireNonNull(renderer, "Renderer cannot be null!");
+    this.scheduler = requireNonNull(scheduler, "Scheduler cannot be null!");
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  @Override
+  public void onEvent(Event event) {
+    requireNonNull(event, "Event cannot be null!");
+    var key = requireNonNull(keyOf.apply(event), "Event key cannot be null!");
+    boolean schedule;
+    synchronized (this) {
+      pending.put(key, event);
+      receivedCount++;
+      schedule = !scheduled;
+      scheduled = true;
+    }
+    if (schedule) {
+      scheduler.accept(this::flush);
+    }
+  }
+
+  /**
+   * Retrieves how many events this coalescer has received.
+   *
+   * @return the number of received events
+   */
+  public synchronized long getReceivedCount() {
+    return receivedCount;
+  }
+
+  /**
+   * Retrieves how many batches this coalescer has handed to its renderer.
+   *
+   * @return the number of flushes
+   */
+  public synchronized long getFlushCount() {
+    return flushCount;
+  }
+
+  /** Discards the events waiting for the next flush. */
+  @Override
+  public synchronized void close() {
+    pending.clear();
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void flush() {
+    List<Event> batch;
+    synchronized (this) {
+      batch = List.copyOf(pending.values());
+      pending = new LinkedHashMap<>();
+      scheduled = false;
+      if (batch.isEmpty()) {
+        return;
+      }
+      flushCount++;
+    }
+    renderer.accept(batch);
+  }
+}
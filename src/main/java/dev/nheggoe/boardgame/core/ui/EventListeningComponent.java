@@ -7,6 +7,7 @@ import dev.nheggoe.boardgame.common.event.EventListener;
 import dev.nheggoe.boardgame.common.event.type.Event;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Represents an abstract component that listens for specific events on an {@link EventBus}. This
@@ -15,11 +16,14 @@ import java.util.List;
  * EventListener#onEvent(Event)}.
  *
  * <p>The component automatically registers itself as a listener for the events provided during
- * construction, and unregisters upon closure.
+ * construction, and unregisters upon closure. Components that redraw on every event can instead
+ * subscribe through an {@link EventCoalescer} and render merged batches in {@link #onEvents(List)},
+ * at most once per JavaFX pulse.
  */
 public abstract class EventListeningComponent extends Component implements EventListener {
 
   private final EventBus eventBus;
+  private final EventCoalescer coalescer;
   private final List<Class<? extends Event>> subscribedEvents;
 
   /**
@@ -36,13 +40,51 @@ public abstract class EventListeningComponent extends Component implements Event
   @SafeVarargs
   protected EventListeningComponent(EventBus eventBus, Class<? extends Event>... eventType) {
     this.eventBus = requireNonNull(eventBus, "Event bus cannot be null!");
+    this.coalescer = null;
     this.subscribedEvents = List.copyOf(Arrays.asList(eventType));
     subscribedEvents.forEach(event -> eventBus.addListener(event, this));
   }
 
+  /**
+   * Constructs an {@link EventListeningComponent} that receives the specified event types merged
+   * per JavaFX pulse. The events are collected by an {@link EventCoalescer} and handed to {@link
+   * #onEvents(List)} on the JavaFX application thread.
+   *
+   * @param eventBus the {@link EventBus} used to register the component as a listener
+   * @param coalesceKey the key events are merged under; later events replace earlier ones with an
+   *     equal key
+   * @param eventType the event types this component subscribes to, must be subclasses of {@link
+   *     Event}
+   * @throws NullPointerException if {@code eventBus}, {@code coalesceKey} or any of the {@code
+   *     eventType} values are {@code null}
+   */
+  @SafeVarargs
+  protected EventListeningComponent(
+      EventBus eventBus, Function<Event, Object> coalesceKey, Class<? extends Event>... eventType) {
+    this.eventBus = requireNonNull(eventBus, "Event bus cannot be null!");
+    this.coalescer = new EventCoalescer(coalesceKey, this::onEvents);
+    this.subscribedEvents = List.copyOf(Arrays.asList(eventType));
+    subscribedEvents.forEach(event -> eventBus.addListener(event, coalescer));
+  }
+
+  /**
+   * Handles a batch of merged events on the JavaFX application thread. Only called for components
+   * constructed with a coalesce key; by default every event is passed on to {@link
+   * #onEvent(Event)}.
+   *
+   * @param events the merged events, in the order their keys first arrived
+   */
+  protected void onEvents(List<Event> events) {
+    events.forEach(this::onEvent);
+  }
+
   @Override
   public void close() {
-    subscribedEvents.forEach(event -> eventBus.removeListener(event, this));
+    EventListener listener = coalescer == null ? this : coalescer;
+    subscribedEvents.forEach(event -> eventBus.removeListener(event, listener));
+    if (coalescer != null) {
+      coalescer.close();
+    }
   }
 
   /**
@@ -75,7 +75,7 @@ public class DiceView extends EventListeningComponent {
    */
   public void animateDiceRoll(DiceRoll diceRoll) {
     getChildren().clear();
-    int diceCount = diceRoll.rolls().length;
+    int diceCount = diceRoll.getNumberOfDice();
     var diceImages = new ImageView[diceCount];
     for (int i = 0; i < diceCount; i++) {
       ImageView imageView = new ImageView();
@@ -105,7 +105,7 @@ public class DiceView extends EventListeningComponent {
     timeline.setOnFinished(
         event -> {
           for (int i = 0; i < diceImages.length; i++) {
-            int face = diceRoll.rolls()[i];
+            int face = diceRoll.getFace(i);
             diceImages[i].setImage(loadFace(face));
           }
         });
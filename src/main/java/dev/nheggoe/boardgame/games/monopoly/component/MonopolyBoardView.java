@@ -19,7 +19,9 @@ import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.StartMonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.TaxMonopolyTile;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Supplier;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -47,6 +49,10 @@ import javafx.scene.text.FontWeight;
  * based on game events like player movements, property ownership changes, and upgrades. It
  * leverages suppliers to dynamically retrieve the current game state for tiles and players. The
  * class also binds to the scene properties to ensure a responsive layout during gameplay.
+ *
+ * <p>Events arriving within one JavaFX pulse are merged before the board is redrawn: only the
+ * latest position of every player is drawn, and only the tiles whose asset was bought or upgraded
+ * are refreshed.
  */
 public class MonopolyBoardView extends EventListeningComponent {
   private final GridPane board;
@@ -76,6 +82,7 @@ public class MonopolyBoardView extends EventListeningComponent {
       Supplier<List<MonopolyTile>> tilesSupplier) {
     super(
         eventBus,
+        MonopolyBoardView::coalesceKey,
         CoreEvent.PlayerMoved.class,
         MonopolyEvent.Purchased.class,
         MonopolyEvent.UpgradePurchased.class,
@@ -101,6 +108,39 @@ public class MonopolyBoardView extends EventListeningComponent {
     }
   }
 
+  /**
+   * Redraws the board once for a batch of events merged within one pulse, moving every player that
+   * moved and refreshing only the tiles of assets that were bought or upgraded.
+   *
+   * @param events the merged events, at most one per player and one per asset
+   */
+  @Override
+  protected void onEvents(List<Event> events) {
+    var dirtyAssets = new HashSet<Ownable>();
+    for (var event : events) {
+      switch (event) {
+        case MonopolyEvent.Purchased(MonopolyPlayer ignored, Ownable ownable) ->
+            dirtyAssets.add(ownable);
+        case MonopolyEvent.UpgradePurchased(MonopolyPlayer ignored, Ownable ownable) ->
+            dirtyAssets.add(ownable);
+        default -> onEvent(event);
+      }
+    }
+    if (!dirtyAssets.isEmpty()) {
+      updateProperties(dirtyAssets);
+    }
+  }
+
+  private static Object coalesceKey(Event event) {
+    return switch (event) {
+      case CoreEvent.PlayerMoved(Player player) -> player;
+      case MonopolyEvent.PlayerSentToJail(MonopolyPlayer player) -> player;
+      case MonopolyEvent.Purchased(MonopolyPlayer ignored, Ownable ownable) -> ownable;
+      case MonopolyEvent.UpgradePurchased(MonopolyPlayer ignored, Ownable ownable) -> ownable;
+      default -> event;
+    };
+  }
+
   /**
    * Updates the visual representation of a player's position on the game board. This method is
    * called when a player moves to a new position on the board.
@@ -180,7 +220,8 @@ public class MonopolyBoardView extends EventListeningComponent {
 
     // Override any inline styles that might be affecting the border
     tilePane.setStyle(
-        "-fx-border-color: transparent; -fx-effect: dropshadow(three-pass-box, deepskyblue, 10, 0.5, 0, 0);");
+        "-fx-border-color: transparent; -fx-effect: dropshadow(three-pass-box, deepskyblue, 10,"
+            + " 0.5, 0, 0);");
   }
 
   /** Removes light ring effects from all tiles on the board. */
@@ -656,8 +697,19 @@ public class MonopolyBoardView extends EventListeningComponent {
    * purchase events or when the board is refreshed.
    */
   private void updateAllProperties() {
+    updateProperties(null);
+  }
+
+  /**
+   * Updates the tiles of the given assets to reflect current ownership and upgrades.
+   *
+   * @param assets the assets whose tiles are refreshed, or {@code null} for every tile
+   */
+  private void updateProperties(Set<Ownable> assets) {
     for (javafx.scene.Node node : board.getChildren()) {
-      if (node instanceof StackPane tilePane && tilePane.getUserData() != null) {
+      if (node instanceof StackPane tilePane
+          && tilePane.getUserData() != null
+          && (assets == null || assets.contains(tilePane.getUserData()))) {
         if (tilePane.getUserData() instanceof Property property) {
           updatePropertyOwnership(tilePane, property);
           updatePropertyUpgrades(tilePane, property);
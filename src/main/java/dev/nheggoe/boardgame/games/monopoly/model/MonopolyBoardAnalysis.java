@@ -0,0 +1,313 @@
+package dev.nheggoe.boardgame.games.monopoly.model;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.GoToJailMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Long-run landing statistics of a {@link MonopolyBoard}, derived from the Markov chain of a single
+ * player taking turns by the rules of {@link MonopolyGame}: two dice, another roll after doubles,
+ * jail after too many doubles in a row or after landing on the {@link GoToJailMonopolyTile}, and
+ * turns spent waiting in jail.
+ *
+ * <p>The chain has one state per tile for a player who is free to roll, and one per remaining jail
+ * round. Its stationary distribution is solved exactly, and every tile landed on during a turn is
+ * counted, including the ones passed through while rolling doubles. Purchases, rent and bankruptcy
+ * do not change where a player goes, so they are not part of the chain.
+ *
+ * <p>On top of that, the expected rent a tile earns is tabulated for every upgrade level, so that
+ * questions like "what is a hotel here worth per round" are answered by a single lookup. Analyses
+ * are immutable and cached by board layout with {@link #of(MonopolyBoard)}, so boards that are
+ * built separately but place the same kinds of tiles with the same rents share one analysis.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class MonopolyBoardAnalysis {
+
+  private static final int FACES = 6;
+  private static final double ROLL_PROBABILITY = 1.0 / (FACES * FACES);
+  private static final int LEVELS = MonopolyKernel.HOTEL_LEVEL + 1;
+
+  private static final int CACHE_SIZE = 32;
+
+  // least recently used layouts are evicted, since every shuffled board has a layout of its own
+  private static final Map<List<TileLayout>, MonopolyBoardAnalysis> CACHE =
+      new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(
+            Map.Entry<List<TileLayout>, MonopolyBoardAnalysis> eldest) {
+          return size() > CACHE_SIZE;
+        }
+      };
+
+  private final int size;
+  private final double[] landingsPerTurn;
+  private final double[] landingFrequencies;
+  private final double[] occupancy;
+  private final double[] rentPerRound;
+
+  private MonopolyBoardAnalysis(MonopolyBoard board) {
+    this.size = board.size();
+    int jailPosition = board.getJailPosition();
+    boolean[] goesToJail = new boolean[size];
+    for (int position = 0; position < size; position++) {
+      goesToJail[position] = board.getTileAtIndex(position) instanceof GoToJailMonopolyTile;
+    }
+
+    // states 0 .. size - 1 are free players, size + r - 1 a prisoner with r rounds left
+    int states = size + MonopolyGame.JAIL_ROUNDS;
+    double[][] transitions = new double[states][states];
+    double[][] landings = new double[size][size];
+    for (int from = 0; from < size; from++) {
+      playTurn(from, goesToJail, transitions[from], landings[from]);
+    }
+    for (int rounds = 1; rounds <= MonopolyGame.JAIL_ROUNDS; rounds++) {
+      // the last round in jail releases the player without a roll
+      int next = rounds == 1 ? jailPosition : size + rounds - 2;
+      transitions[size + rounds - 1][next] = 1;
+    }
+
+    double[] stationary = solveStationary(transitions);
+    this.landingsPerTurn = new double[size];
+    for (int from = 0; from < size; from++) {
+      for (int to = 0; to < size; to++) {
+        landingsPerTurn[to] += stationary[from] * landings[from][to];
+      }
+    }
+    double totalLandings = 0;
+    for (double landingsOnTile : landingsPerTurn) {
+      totalLandings += landingsOnTile;
+    }
+    this.landingFrequencies = new double[size];
+    for (int position = 0; position < size; position++) {
+      landingFrequencies[position] = landingsPerTurn[position] / totalLandings;
+    }
+    this.occupancy = new double[size];
+    System.arraycopy(stationary, 0, occupancy, 0, size);
+    for (int state = size; state < states; state++) {
+      occupancy[jailPosition] += stationary[state];
+    }
+
+    this.rentPerRound = new double[size * LEVELS];
+    for (int position = 0; position < size; position++) {
+      if (board.getTileAtIndex(position) instanceof OwnableMonopolyTile(var ownable)) {
+        for (int level = 0; level < LEVELS; level++) {
+          rentPerRound[position * LEVELS + level] =
+              landingsPerTurn[position] * MonopolyKernel.rentOf(ownable, level);
+        }
+      }
+    }
+  }
+
+  /**
+   * Retrieves the analysis of the given board, computing it on first use. Boards with the same
+   * layout share one analysis, even if their tiles are separate instances: the same kind of tile at
+   * every position, with the same colour, price and rent at every upgrade level.
+   *
+   * @param board the board to analyse
+   * @return the analysis of the board
+   */
+  public static MonopolyBoardAnalysis of(MonopolyBoard board) {
+    requireNonNull(board, "Board cannot be null!");
+    var layout = layoutOf(board);
+    synchronized (CACHE) {
+      var analysis = CACHE.get(layout);
+      if (analysis == null) {
+        analysis = new MonopolyBoardAnalysis(board);
+        CACHE.put(layout, analysis);
+      }
+      return analysis;
+    }
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Retrieves the share of all landings that end on the given tile in the long run. The shares of
+   * all tiles add up to one.
+   *
+   * @param position the zero-based position of the tile
+   * @return the landing frequency of the tile
+   * @throws IndexOutOfBoundsException if the position is not on the board
+   */
+  public double getLandingFrequency(int position) {
+    return landingFrequencies[position];
+  }
+
+  /**
+   * Retrieves the expected number of times a player lands on the given tile during one of their
+   * turns in the long run. A turn with doubles lands on more than one tile, and a turn in jail on
+   * none.
+   *
+   * @param position the zero-based position of the tile
+   * @return the expected number of landings per turn
+   * @throws IndexOutOfBoundsException if the position is not on the board
+   */
+  public double getLandingsPerTurn(int position) {
+    return landingsPerTurn[position];
+  }
+
+  /**
+   * Retrieves the probability that a player stands on the given tile at the end of a turn in the
+   * long run. Prisoners count as standing on the jail tile.
+   *
+   * @param position the zero-based position of the tile
+   * @return the occupancy probability of the tile
+   * @throws IndexOutOfBoundsException if the position is not on the board
+   */
+  public double getOccupancy(int position) {
+    return occupancy[position];
+  }
+
+  /**
+   * Retrieves the rent the owner of the given tile can expect from each opponent per round, if the
+   * tile is at the given upgrade level, before any colour-group bonus. Assets other than properties
+   * cannot be upgraded and earn the same at every level.
+   *
+   * @param position the zero-based position of the tile
+   * @param level the number of houses, or {@link MonopolyKernel#HOTEL_LEVEL} with a hotel
+   * @return the expected rent per opponent and round, or 0 if the tile cannot be owned
+   * @throws IndexOutOfBoundsException if the position is not on the board or the level is invalid
+   */
+  public double getExpectedRentPerRound(int position, int level) {
+    if (position < 0 || position >= size || level < 0 || level >= LEVELS) {
+      throw new IndexOutOfBoundsException(
+          "No tile at position %d with upgrade level %d!".formatted(position, level));
+    }
+    return rentPerRound[position * LEVELS + level];
+  }
+
+  /**
+   * Retrieves the number of tiles on the analysed board.
+   *
+   * @return the number of tiles
+   */
+  public int size() {
+    return size;
+  }
+
+  // ------------------------  private  ------------------------
+
+  /**
+   * Lists what the analysis depends on for every tile, independent of the identity of the tiles and
+   * of the upgrades currently built on them.
+   */
+  private static List<TileLayout> layoutOf(MonopolyBoard board) {
+    var layout = new ArrayList<TileLayout>(board.size());
+    for (int position = 0; position < board.size(); position++) {
+      layout.add(TileLayout.of(board.getTileAtIndex(position)));
+    }
+    return List.copyOf(layout);
+  }
+
+  /**
+   * Fills in where a free player on the given tile ends their turn and how often they land on each
+   * tile on the way, rolling again after doubles exactly like {@link MonopolyGame#nextTurn()}.
+   */
+  private void playTurn(int from, boolean[] goesToJail, double[] endStates, double[] landings) {
+    int jailed = size + MonopolyGame.JAIL_ROUNDS - 1;
+    double[] rolling = new double[size];
+    double[] next = new double[size];
+    rolling[from] = 1;
+    for (int doubleCount = 0; doubleCount <= MonopolyGame.MAX_DOUBLES; doubleCount++) {
+      Arrays.fill(next, 0);
+      for (int position = 0; position < size; position++) {
+        if (rolling[position] == 0) {
+          continue;
+        }
+        double probability = rolling[position] * ROLL_PROBABILITY;
+        for (int first = 1; first <= FACES; first++) {
+          for (int second = 1; second <= FACES; second++) {
+            int target = (position + first + second) % size;
+            landings[target] += probability;
+            if (goesToJail[target]) {
+              endStates[jailed] += probability;
+            } else if (first != second) {
+              endStates[target] += probability;
+            } else if (doubleCount >= MonopolyGame.MAX_DOUBLES) {
+              endStates[jailed] += probability;
+            } else {
+              next[target] += probability;
+            }
+          }
+        }
+      }
+      double[] swap = rolling;
+      rolling = next;
+      next = swap;
+    }
+  }
+
+  /**
+   * Solves {@code pi = pi * P} with {@code sum(pi) = 1} by Gaussian elimination. The chain is
+   * small, so a direct solve is both faster and more accurate than power iteration.
+   */
+  private static double[] solveStationary(double[][] transitions) {
+    int states = transitions.length;
+    // row i of the system is column i of P - I; the last row is replaced by the normalisation
+    double[][] system = new double[states][states + 1];
+    for (int row = 0; row < states - 1; row++) {
+      for (int column = 0; column < states; column++) {
+        system[row][column] = transitions[column][row];
+      }
+      system[row][row] -= 1;
+    }
+    Arrays.fill(system[states - 1], 1);
+
+    for (int pivot = 0; pivot < states; pivot++) {
+      int best = pivot;
+      for (int row = pivot + 1; row < states; row++) {
+        if (Math.abs(system[row][pivot]) > Math.abs(system[best][pivot])) {
+          best = row;
+        }
+      }
+      double[] swap = system[pivot];
+      system[pivot] = system[best];
+      system[best] = swap;
+      for (int row = 0; row < states; row++) {
+        if (row == pivot || system[row][pivot] == 0) {
+          continue;
+        }
+        double factor = system[row][pivot] / system[pivot][pivot];
+        for (int column = pivot; column <= states; column++) {
+          system[row][column] -= factor * system[pivot][column];
+        }
+      }
+    }
+    double[] stationary = new double[states];
+    for (int state = 0; state < states; state++) {
+      // states nobody ever ends a turn in come out as rounding noise around zero
+      stationary[state] = Math.max(0, system[state][states] / system[state][state]);
+    }
+    return stationary;
+  }
+
+  /**
+   * The kind of a tile or of the asset on it and, if it can be owned, its colour, price and rent at
+   * every level.
+   */
+  private record TileLayout(Class<?> kind, Property.Color color, int price, List<Integer> rents) {
+
+    static TileLayout of(MonopolyTile tile) {
+      if (!(tile instanceof OwnableMonopolyTile(var ownable))) {
+        return new TileLayout(tile.getClass(), null, 0, List.of());
+      }
+      var rents = new ArrayList<Integer>(LEVELS);
+      for (int level = 0; level < LEVELS; level++) {
+        rents.add(MonopolyKernel.rentOf(ownable, level));
+      }
+      var color = ownable instanceof Property property ? property.getColor() : null;
+      return new TileLayout(ownable.getClass(), color, ownable.price(), List.copyOf(rents));
+    }
+  }
+}
@@ -3,16 +3,23 @@ package dev.nheggoe.boardgame.games.monopoly.model;
 import dev.nheggoe.boardgame.common.event.EventBus;
 import dev.nheggoe.boardgame.common.event.type.MonopolyEvent;
 import dev.nheggoe.boardgame.common.event.type.UserInterfaceEvent;
-import dev.nheggoe.boardgame.common.util.AlertFactory;
 import dev.nheggoe.boardgame.common.util.StringFormatter;
 import dev.nheggoe.boardgame.core.model.Game;
+import dev.nheggoe.boardgame.core.model.GameSnapshot;
 import dev.nheggoe.boardgame.core.model.TileAction;
 import dev.nheggoe.boardgame.core.model.dice.Dice;
 import dev.nheggoe.boardgame.core.model.dice.DiceRoll;
+import dev.nheggoe.boardgame.core.simulation.DecisionLog;
+import dev.nheggoe.boardgame.core.simulation.ReplayRandom;
 import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AlertDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.RecordingDecisionProvider;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.InsufficientFundsException;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.NetWorthLeaderboard;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.OwnershipIndex;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.Railroad;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.Utility;
@@ -26,14 +33,13 @@ import dev.nheggoe.boardgame.games.monopoly.model.tile.TaxMonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.upgrade.Upgrade;
 import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
-import javafx.application.Platform;
-import javafx.scene.control.Alert;
-import javafx.scene.control.ButtonType;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a Monopoly game. It is an extension of the generic {@code Game} class tailored to
@@ -42,11 +48,26 @@ import javafx.scene.control.ButtonType;
  */
 public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
 
+  static final int STARTING_BALANCE = 200;
+  static final int PASS_START_BONUS = 200;
+  static final int JAIL_ROUNDS = 2;
+  static final int MAX_DOUBLES = 3;
+  static final int HOUSE_COST = 50;
+  static final int HOTEL_COST = 100;
+  static final Upgrade HOUSE = new Upgrade(UpgradeType.HOUSE, 20);
+  static final Upgrade HOTEL = new Upgrade(UpgradeType.HOTEL, 100);
+
+  private final transient MonopolyDecisionProvider decisionProvider;
+  private final transient OwnershipIndex ownershipIndex;
+  private final transient NetWorthLeaderboard leaderboard;
+
   /**
    * Constructs a new instance of the MonopolyGame class.
    *
    * <p>This constructor initializes the game with the provided event bus, game board, and list of
-   * players. Additionally, each player is given an initial balance of 200 units.
+   * players. Additionally, each player is given an initial balance of 200 units. Decisions are
+   * asked through JavaFX dialogs and recorded, so together with {@link #getSeed()} the game can be
+   * replayed from {@link #getDecisionLog()}.
    *
    * @param eventBus the event bus used for managing game-related events
    * @param monopolyBoard the game board used in the Monopoly game
@@ -54,8 +75,81 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
    */
   public MonopolyGame(
       EventBus eventBus, MonopolyBoard monopolyBoard, List<MonopolyPlayer> players) {
-    super(eventBus, monopolyBoard, players);
-    players.forEach(player -> player.addBalance(200));
+    this(
+        eventBus,
+        monopolyBoard,
+        players,
+        new RecordingDecisionProvider(new AlertDecisionProvider(), new DecisionLog()));
+  }
+
+  /**
+   * Constructs a new instance of the MonopolyGame class that takes every purchase, upgrade and
+   * doubles decision from the given provider. Passing a headless provider allows the game to be
+   * played without a JavaFX toolkit.
+   *
+   * @param eventBus the event bus used for managing game-related events
+   * @param monopolyBoard the game board used in the Monopoly game
+   * @param players the list of players participating in the game
+   * @param decisionProvider the provider answering the questions asked during a turn
+   */
+  public MonopolyGame(
+      EventBus eventBus,
+      MonopolyBoard monopolyBoard,
+      List<MonopolyPlayer> players,
+      MonopolyDecisionProvider decisionProvider) {
+    this(eventBus, monopolyBoard, players, decisionProvider, ReplayRandom.withRandomSeed());
+  }
+
+  /**
+   * Constructs a new instance of the MonopolyGame class that takes every decision from the given
+   * provider and rolls its dice with the given generator. Seeding the generator makes the game
+   * reproducible as long as the decisions are too.
+   *
+   * @param eventBus the event bus used for managing game-related events
+   * @param monopolyBoard the game board used in the Monopoly game
+   * @param players the list of players participating in the game
+   * @param decisionProvider the provider answering the questions asked during a turn
+   * @param random the generator owned by this game
+   */
+  public MonopolyGame(
+      EventBus eventBus,
+      MonopolyBoard monopolyBoard,
+      List<MonopolyPlayer> players,
+      MonopolyDecisionProvider decisionProvider,
+      RandomGenerator random) {
+    this(UUID.randomUUID(), eventBus, monopolyBoard, players, decisionProvider, random);
+  }
+
+  /**
+   * Constructs a new instance of the MonopolyGame class with the given identifier, e.g. a game read
+   * back from a save, that takes every decision from the given provider and rolls its dice with the
+   * given generator.
+   *
+   * @param id the unique identifier of the game
+   * @param eventBus the event bus used for managing game-related events
+   * @param monopolyBoard the game board used in the Monopoly game
+   * @param players the list of players participating in the game
+   * @param decisionProvider the provider answering the questions asked during a turn
+   * @param random the generator owned by this game
+   */
+  public MonopolyGame(
+      UUID id,
+      EventBus eventBus,
+      MonopolyBoard monopolyBoard,
+      List<MonopolyPlayer> players,
+      MonopolyDecisionProvider decisionProvider,
+      RandomGenerator random) {
+    super(id, eventBus, monopolyBoard, players, random);
+    this.decisionProvider =
+        Objects.requireNonNull(decisionProvider, "Decision provider cannot be null!");
+    this.ownershipIndex = new OwnershipIndex(monopolyBoard);
+    this.leaderboard = new NetWorthLeaderboard();
+    players.forEach(
+        player -> {
+          player.addBalance(STARTING_BALANCE);
+          ownershipIndex.track(player);
+          leaderboard.track(player);
+        });
   }
 
   @Override
@@ -77,27 +171,34 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
             "%s got %d rounds left in jail."
                 .formatted(player.getName(), jail.getNumberOfRoundsLeft(player)));
       }
+      stateChanged();
       return;
     }
 
     var diceRoll = playTurn(player);
 
-    while (diceRoll.areDiceEqual()) {
-      if (doubleCount >= 3) {
-        AlertFactory.createAlert(
-                Alert.AlertType.INFORMATION,
-                "Player has rolled doubles 3 times in a row. They are forced to go to jail.")
-            .showAndWait();
+    while (diceRoll.areDiceEqual() && canRollAgain(player)) {
+      if (doubleCount >= MAX_DOUBLES) {
+        decisionProvider.inform(
+            player, "Player has rolled doubles 3 times in a row. They are forced to go to jail.");
         sendPlayerToJail(player);
         break;
       }
-      AlertFactory.createAlert(
-              Alert.AlertType.INFORMATION,
-              "Player %s rolled a double! They need to move again.".formatted(player.getName()))
-          .showAndWait();
+      decisionProvider.inform(
+          player,
+          "Player %s rolled a double! They need to move again.".formatted(player.getName()));
       diceRoll = playTurn(player);
       doubleCount++;
     }
+    stateChanged();
+  }
+
+  /**
+   * A double only grants another roll while the player is still in play, i.e. not bankrupt, not
+   * sent to jail by the tile they landed on, and the game has not ended.
+   */
+  private boolean canRollAgain(MonopolyPlayer player) {
+    return !isEnded() && getPlayers().contains(player) && !getJailTile().isPlayerInJail(player);
   }
 
   /**
@@ -108,7 +209,7 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
    * @param player the player to play a turn (roll -> move -> action)
    */
   private DiceRoll playTurn(MonopolyPlayer player) {
-    var diceRoll = Dice.roll(2);
+    var diceRoll = Dice.roll(2, getRandom());
     notifyDiceRolled(diceRoll);
     movePlayer(player, diceRoll.getTotal());
     var action = tileActionOf(getTile(player.getPosition()));
@@ -123,34 +224,103 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
   @Override
   protected void removePlayer(MonopolyPlayer player) {
     println("%s has gone bankrupt and is removed from the game.".formatted(player.getName()));
+    ownershipIndex.releaseAll(player);
+    leaderboard.remove(player);
     super.removePlayer(player);
 
     if (getPlayers().size() == 1) {
       MonopolyPlayer winner = getPlayers().getFirst();
       println("%s has won the game!".formatted(winner.getName()));
 
-      Platform.runLater(
-          () -> {
-            AlertFactory.createAlert(
-                    Alert.AlertType.INFORMATION, "%s has won the game!".formatted(winner.getName()))
-                .showAndWait();
-            endGame();
-          });
+      endGame();
+      decisionProvider.announceWinner(winner, "%s has won the game!".formatted(winner.getName()));
     }
   }
 
   @Override
   protected void completeRoundAction(MonopolyPlayer player) {
-    player.addBalance(200);
+    player.addBalance(PASS_START_BONUS);
   }
 
   @Override
   public Map.Entry<Integer, List<MonopolyPlayer>> getWinners() {
-    var treeMap = new TreeMap<Integer, List<MonopolyPlayer>>();
-    for (var player : getPlayers()) {
-      treeMap.computeIfAbsent(player.getNetWorth(), unused -> new ArrayList<>()).add(player);
+    return leaderboard.getLeaders();
+  }
+
+  /**
+   * Retrieves the players in play ranked by net worth, the richest first and ties in seat order.
+   *
+   * @return the standings of the players still in the game
+   */
+  public List<MonopolyPlayer> getStandings() {
+    return leaderboard.getStandings();
+  }
+
+  /**
+   * Takes a snapshot of the game including balances, owned assets, property upgrades and the
+   * prisoners in jail.
+   *
+   * @return a snapshot that can later be passed to {@link #restore(GameSnapshot)}
+   */
+  @Override
+  public MonopolyGameSnapshot snapshot() {
+    var seats = getSeatedPlayers();
+    int[] balances = new int[seats.size()];
+    var ownedAssets = new ArrayList<List<Ownable>>(seats.size());
+    var upgrades = new HashMap<Property, List<Upgrade>>();
+    for (int seat = 0; seat < balances.length; seat++) {
+      var player = seats.get(seat);
+      balances[seat] = player.getBalance();
+      var assets = player.getOwnedAssets();
+      ownedAssets.add(List.copyOf(assets));
+      for (var asset : assets) {
+        if (asset instanceof Property property && !property.getUpgrades().isEmpty()) {
+          upgrades.put(property, property.getUpgrades());
+        }
+      }
+    }
+    return new MonopolyGameSnapshot(
+        super.snapshot(),
+        balances,
+        List.copyOf(ownedAssets),
+        Map.copyOf(upgrades),
+        getJailTile().getPrisoners());
+  }
+
+  /**
+   * Restores a snapshot taken from this game with {@link #snapshot()}.
+   *
+   * @param snapshot a snapshot taken from this game
+   * @throws IllegalArgumentException if the snapshot was not taken from this game
+   */
+  @Override
+  public void restore(GameSnapshot snapshot) {
+    if (!(snapshot instanceof MonopolyGameSnapshot monopolySnapshot)) {
+      throw new IllegalArgumentException("Snapshot was not taken from a Monopoly game!");
     }
-    return treeMap.reversed().firstEntry();
+    super.restore(monopolySnapshot);
+
+    // properties upgraded after the snapshot are owned by someone now, so clear those first
+    var seats = getSeatedPlayers();
+    for (var player : seats) {
+      for (var asset : player.getOwnedAssets()) {
+        if (asset instanceof Property property) {
+          property.restoreUpgrades(monopolySnapshot.upgrades().getOrDefault(property, List.of()));
+        }
+      }
+    }
+    monopolySnapshot.upgrades().forEach(Property::restoreUpgrades);
+
+    for (int seat = 0; seat < seats.size(); seat++) {
+      seats
+          .get(seat)
+          .restoreHoldings(
+              monopolySnapshot.balances()[seat], monopolySnapshot.ownedAssets().get(seat));
+    }
+    // bankrupt players got their holdings back as well, but they do not own anything in play
+    ownershipIndex.rebuild(getPlayers());
+    leaderboard.reset(getPlayers());
+    getJailTile().restorePrisoners(monopolySnapshot.prisoners());
   }
 
   @Override
@@ -158,8 +328,29 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
     return (MonopolyBoard) super.getBoard();
   }
 
+  /**
+   * Retrieves the decisions the players have made so far, if the game records them. A game records
+   * its decisions when its decision provider is a {@link RecordingDecisionProvider}.
+   *
+   * @return an Optional containing the decision log, or an empty Optional if decisions are not
+   *     recorded
+   */
+  public Optional<DecisionLog> getDecisionLog() {
+    return decisionProvider instanceof RecordingDecisionProvider recording
+        ? Optional.of(recording.getLog())
+        : Optional.empty();
+  }
+
   // ------------------------  APIs  ------------------------
 
+  List<MonopolyPlayer> seatedPlayers() {
+    return getSeatedPlayers();
+  }
+
+  int rentOf(Ownable ownable) {
+    return ownershipIndex.getRent(ownable);
+  }
+
   private JailMonopolyTile getJailTile() {
     return getBoard().getJailTile();
   }
@@ -260,7 +451,7 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
         .append(System.lineSeparator())
         .append(System.lineSeparator());
 
-    int rent = ownable.rent();
+    int rent = ownershipIndex.getRent(ownable);
     try {
       player.pay(rent);
       owner.addBalance(rent);
@@ -283,13 +474,14 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
   }
 
   private void sendPlayerToJail(MonopolyPlayer player) {
-    player.setPosition(getBoard().getTilePosition(getJailTile()));
-    getJailTile().jailForNumberOfRounds(player, 2);
+    player.setPosition(getBoard().getJailPosition());
+    getJailTile().jailForNumberOfRounds(player, JAIL_ROUNDS);
+    stateChanged();
     getEventBus().publishEvent(new MonopolyEvent.PlayerSentToJail(player));
     getEventBus()
         .publishEvent(
             new UserInterfaceEvent.Output(
-                "%s sent to jail for 2 rounds".formatted(player.getName())));
+                "%s sent to jail for %d rounds".formatted(player.getName(), JAIL_ROUNDS)));
   }
 
   private PurchaseOption processTransaction(MonopolyPlayer player, Ownable ownable) {
@@ -310,9 +502,7 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
               "Do you want to purchase %s for $%d?".formatted(name, price);
         };
 
-    var result = AlertFactory.createAlert(Alert.AlertType.CONFIRMATION, prompt).showAndWait();
-
-    if (result.isEmpty() || result.get() == ButtonType.CANCEL) {
+    if (!decisionProvider.confirmPurchase(player, ownable, prompt)) {
       return PurchaseOption.DENY;
     }
     return processPurchase(player, ownable)
@@ -367,17 +557,14 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
     println(
         "%s has %d houses on %s."
             .formatted(player.getName(), property.countHouses(), property.getName()));
-    var alert =
-        AlertFactory.createAlert(
-            Alert.AlertType.CONFIRMATION,
-            "Would you like to build a house on %s for $50?".formatted(property.getName()));
-    var result = alert.showAndWait();
-
-    if (result.isPresent() && result.get() == ButtonType.OK) {
-      int houseCost = 50;
-      if (player.hasSufficientFunds(houseCost)) {
-        player.pay(houseCost);
-        property.addUpgrade(new Upgrade(UpgradeType.HOUSE, 20));
+    var prompt =
+        "Would you like to build a house on %s for $%d?".formatted(property.getName(), HOUSE_COST);
+
+    if (decisionProvider.confirmUpgrade(player, property, UpgradeType.HOUSE, prompt)) {
+      if (player.hasSufficientFunds(HOUSE_COST)) {
+        player.pay(HOUSE_COST);
+        property.addUpgrade(HOUSE);
+        getEventBus().publishEvent(new MonopolyEvent.UpgradePurchased(player, property));
         println("%s built a house on %s!".formatted(player.getName(), property.getName()));
       } else {
         println("%s don't have enough money to build a house.".formatted(player.getName()));
@@ -393,17 +580,15 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
    */
   private void askToBuildHotel(MonopolyPlayer player, Property property) {
     println("%s has 4 houses on %s.".formatted(player.getName(), property.getName()));
-    var alert =
-        AlertFactory.createAlert(
-            Alert.AlertType.CONFIRMATION,
-            "Would you like to upgrade to a Hotel on %s for $100?".formatted(property.getName()));
-    var result = alert.showAndWait();
-
-    if (result.isPresent() && result.get() == ButtonType.OK) {
-      int hotelCost = 100;
-      if (player.hasSufficientFunds(hotelCost)) {
-        player.pay(hotelCost);
-        property.addUpgrade(new Upgrade(UpgradeType.HOTEL, 100));
+    var prompt =
+        "Would you like to upgrade to a Hotel on %s for $%d?"
+            .formatted(property.getName(), HOTEL_COST);
+
+    if (decisionProvider.confirmUpgrade(player, property, UpgradeType.HOTEL, prompt)) {
+      if (player.hasSufficientFunds(HOTEL_COST)) {
+        player.pay(HOTEL_COST);
+        property.addUpgrade(HOTEL);
+        getEventBus().publishEvent(new MonopolyEvent.UpgradePurchased(player, property));
         println("%s upgraded to a Hotel on %s!".formatted(player.getName(), property.getName()));
       } else {
         println("%s doesn't have enough money to build a hotel.".formatted(player.getName()));
@@ -412,6 +597,11 @@ public class MonopolyGame extends Game<MonopolyTile, MonopolyPlayer> {
   }
 
   private Optional<MonopolyPlayer> getOwner(Ownable ownable) {
+    var owner = ownershipIndex.getOwner(ownable);
+    if (owner.isPresent() || ownershipIndex.assetIdOf(ownable) >= 0) {
+      return owner;
+    }
+    // assets that are not on the board are not indexed
     return getPlayers().stream().filter(player -> player.isOwnerOf(ownable)).findFirst();
   }
 
@@ -0,0 +1,88 @@
+package dev.nheggoe.boardgame.games.monopoly.model;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.core.model.GameSnapshot;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.Upgrade;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A snapshot of a {@link MonopolyGame}. On top of the common game state it holds the balance and
+ * owned assets of every seated player, the upgrades of every upgraded property and the prisoners in
+ * jail.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class MonopolyGameSnapshot extends GameSnapshot {
+
+  private final int[] balances;
+  private final List<List<Ownable>> ownedAssets;
+  private final Map<Property, List<Upgrade>> upgrades;
+  private final Map<Player, Integer> prisoners;
+
+  MonopolyGameSnapshot(
+      GameSnapshot base,
+      int[] balances,
+      List<List<Ownable>> ownedAssets,
+      Map<Property, List<Upgrade>> upgrades,
+      Map<Player, Integer> prisoners) {
+    super(base);
+    this.balances = balances;
+    this.ownedAssets = ownedAssets;
+    this.upgrades = upgrades;
+    this.prisoners = prisoners;
+  }
+
+  /**
+   * Creates a snapshot of a Monopoly game from the common game state and the given holdings. Used
+   * to put state that was stored outside of the game, for example in a save file, back into it.
+   *
+   * @param base the common game state, taken from the same game
+   * @param balances the balance of every seated player, indexed by seat
+   * @param ownedAssets the assets owned by every seated player, indexed by seat
+   * @param upgrades the upgrades of every upgraded property
+   * @param prisoners the players in jail and the number of rounds they have left
+   * @return a snapshot that can be restored into the game the base was taken from
+   * @throws IllegalArgumentException if the balances or assets do not have one entry per seat
+   */
+  public static MonopolyGameSnapshot of(
+      GameSnapshot base,
+      int[] balances,
+      List<List<Ownable>> ownedAssets,
+      Map<Property, List<Upgrade>> upgrades,
+      Map<Player, Integer> prisoners) {
+    requireNonNull(base, "Base snapshot cannot be null!");
+    requireNonNull(balances, "Balances cannot be null!");
+    requireNonNull(ownedAssets, "Owned assets cannot be null!");
+    if (balances.length != base.getSeatCount() || ownedAssets.size() != base.getSeatCount()) {
+      throw new IllegalArgumentException("There must be exactly one entry per seat!");
+    }
+    return new MonopolyGameSnapshot(
+        base,
+        balances.clone(),
+        ownedAssets.stream().map(List::copyOf).toList(),
+        Map.copyOf(requireNonNull(upgrades, "Upgrades cannot be null!")),
+        Map.copyOf(requireNonNull(prisoners, "Prisoners cannot be null!")));
+  }
+
+  int[] balances() {
+    return balances;
+  }
+
+  List<List<Ownable>> ownedAssets() {
+    return ownedAssets;
+  }
+
+  Map<Property, List<Upgrade>> upgrades() {
+    return upgrades;
+  }
+
+  Map<Player, Integer> prisoners() {
+    return prisoners;
+  }
+}
@@ -0,0 +1,727 @@
+package dev.nheggoe.boardgame.games.monopoly.model;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.RentEngine;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.FreeParkingMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.GoToJailMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.JailMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.StartMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TaxMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.Upgrade;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
+
+/**
+ * A Monopoly rules kernel for high-volume simulation. It plays by exactly the same rules as {@link
+ * MonopolyGame}, but keeps the whole state in primitive arrays indexed by seat and by asset instead
+ * of in the player and property objects, and it publishes no events. A turn therefore allocates
+ * nothing and never walks a list of owned assets.
+ *
+ * <p>Assets are numbered in the order they first appear on the board. Tiles holding equal assets
+ * share one number, just like {@link
+ * dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer#isOwnerOf(Ownable)} treats them
+ * as one asset. The upgrade level of a property is the number of houses on it, or {@value
+ * #HOTEL_LEVEL} once it has a hotel.
+ *
+ * <p>A kernel can be loaded from a running {@link MonopolyGame} with {@link #of(MonopolyGame,
+ * Policy, RandomGenerator)} and written back with {@link #applyTo(MonopolyGame)}. A kernel is not
+ * thread-safe; give every simulation thread its own.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class MonopolyKernel {
+
+  /** Returned by {@link #getOwner(int)} for tiles that nobody in play owns. */
+  public static final int NO_OWNER = -1;
+
+  /** The upgrade level of a property with four houses and a hotel. */
+  public static final int HOTEL_LEVEL = 5;
+
+  private static final int NO_SEAT = -1;
+  private static final int LEVELS = HOTEL_LEVEL + 1;
+  private static final int MAX_HOUSES = 4;
+
+  private static final byte PLAIN_TILE = 0;
+  private static final byte OWNABLE_TILE = 1;
+  private static final byte TAX_TILE = 2;
+  private static final byte GO_TO_JAIL_TILE = 3;
+
+  // board, never changes
+  private final MonopolyBoard board;
+  private final byte[] tileKinds;
+  private final int[] tileValues;
+  private final Map<Ownable, Integer> assetIds;
+  private final Ownable[] assets;
+  private final int[] rents;
+  private final int[] tileCounts;
+  private final byte[] assetGroups;
+  private final int[][] groupMembers;
+  private final int[] groupTiles;
+  private final int jailPosition;
+
+  // seats
+  private final int[] positions;
+  private final int[] balances;
+  private final int[] jailRounds;
+  private final boolean[] active;
+
+  // assets
+  private final byte[] owners;
+  private final byte[] upgradeLevels;
+  private final int[] ownedTilesInGroup;
+
+  private final Policy policy;
+  private final RandomGenerator random;
+
+  private int currentSeat = NO_SEAT;
+  private int activeCount;
+  private int roundNumber;
+  private boolean ended;
+
+  /**
+   * Creates a kernel for a new game on the given board, where every player starts on the first tile
+   * with the same balance a {@link MonopolyGame} gives them.
+   *
+   * @param board the board to play on
+   * @param numberOfPlayers the number of seats
+   * @param policy decides purchases and upgrades
+   * @param random the generator rolling the dice
+   * @throws IllegalArgumentException if the number of players is not between 1 and 127
+   */
+  public MonopolyKernel(
+      MonopolyBoard board, int numberOfPlayers, Policy policy, RandomGenerator random) {
+    this.board = requireNonNull(board, "Board cannot be null!");
+    this.policy = requireNonNull(policy, "Policy cannot be null!");
+    this.random = requireNonNull(random, "Random generator cannot be null!");
+    if (numberOfPlayers < 1 || numberOfPlayers > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Number of players must be between 1 and %d!".formatted(Byte.MAX_VALUE));
+    }
+
+    int size = board.size();
+    this.tileKinds = new byte[size];
+    this.tileValues = new int[size];
+    this.assetIds = new HashMap<>();
+    var assetList = new ArrayList<Ownable>();
+    for (int position = 0; position < size; position++) {
+      switch (board.getTileAtIndex(position)) {
+        case OwnableMonopolyTile(Ownable ownable) -> {
+          tileKinds[position] = OWNABLE_TILE;
+          tileValues[position] =
+              assetIds.computeIfAbsent(
+                  ownable,
+                  unused -> {
+                    assetList.add(ownable);
+                    return assetList.size() - 1;
+                  });
+        }
+        case TaxMonopolyTile(int percentage) -> {
+          tileKinds[position] = TAX_TILE;
+          tileValues[position] = percentage;
+        }
+        case GoToJailMonopolyTile unused -> tileKinds[position] = GO_TO_JAIL_TILE;
+        case FreeParkingMonopolyTile unused -> tileKinds[position] = PLAIN_TILE;
+        case JailMonopolyTile unused -> tileKinds[position] = PLAIN_TILE;
+        case StartMonopolyTile unused -> tileKinds[position] = PLAIN_TILE;
+      }
+    }
+    this.assets = assetList.toArray(Ownable[]::new);
+    this.rents = new int[assets.length * LEVELS];
+    for (int asset = 0; asset < assets.length; asset++) {
+      for (int level = 0; level < LEVELS; level++) {
+        rents[asset * LEVELS + level] = rentOf(assets[asset], level);
+      }
+    }
+    this.tileCounts = new int[assets.length];
+    for (int position = 0; position < size; position++) {
+      if (tileKinds[position] == OWNABLE_TILE) {
+        tileCounts[tileValues[position]]++;
+      }
+    }
+    this.assetGroups = new byte[assets.length];
+    this.groupTiles = new int[RentEngine.GROUP_COUNT];
+    for (int asset = 0; asset < assets.length; asset++) {
+      assetGroups[asset] = (byte) RentEngine.groupOf(assets[asset]);
+      groupTiles[assetGroups[asset]] += tileCounts[asset];
+    }
+    this.groupMembers = RentEngine.groupMembers(assets);
+    this.jailPosition = board.getJailPosition();
+
+    this.positions = new int[numberOfPlayers];
+    this.balances = new int[numberOfPlayers];
+    this.jailRounds = new int[numberOfPlayers];
+    this.active = new boolean[numberOfPlayers];
+    Arrays.fill(balances, MonopolyGame.STARTING_BALANCE);
+    Arrays.fill(active, true);
+    this.activeCount = numberOfPlayers;
+
+    this.owners = new byte[assets.length];
+    this.upgradeLevels = new byte[assets.length];
+    this.ownedTilesInGroup = new int[assets.length];
+    Arrays.fill(owners, (byte) NO_OWNER);
+  }
+
+  /**
+   * Creates a kernel holding the current state of the given game: positions, balances, owned
+   * assets, upgrades, prisoners and the turn cursor.
+   *
+   * @param game the game to load
+   * @param policy decides purchases and upgrades from now on
+   * @param random the generator rolling the dice from now on
+   * @return a kernel that continues the game
+   * @throws IllegalArgumentException if a player owns an asset that is not on the board, or a
+   *     property has upgrades the rules cannot produce
+   */
+  public static MonopolyKernel of(MonopolyGame game, Policy policy, RandomGenerator random) {
+    requireNonNull(game, "Game cannot be null!");
+    var snapshot = game.snapshot();
+    var kernel = new MonopolyKernel(game.getBoard(), snapshot.getSeatCount(), policy, random);
+    kernel.load(game.seatedPlayers(), snapshot);
+    return kernel;
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Plays the turn of the next player in play, following the same rules as {@link
+   * MonopolyGame#nextTurn()}. Does nothing once the game has ended.
+   *
+   * @throws NoSuchElementException if every player has been removed
+   */
+  public void nextTurn() {
+    if (ended) {
+      return;
+    }
+    int seat = advanceSeat();
+    if (jailRounds[seat] > 0) {
+      jailRounds[seat]--;
+      return;
+    }
+
+    boolean rolledDoubles = playRoll(seat);
+    int doubleCount = 0;
+    while (rolledDoubles && canRollAgain(seat)) {
+      if (doubleCount >= MonopolyGame.MAX_DOUBLES) {
+        sendToJail(seat);
+        break;
+      }
+      rolledDoubles = playRoll(seat);
+      doubleCount++;
+    }
+  }
+
+  /**
+   * Plays turns until the game ends or the given number of turns has been played.
+   *
+   * @param maxTurns the maximum number of turns to play
+   * @return the number of turns played
+   */
+  public int play(int maxTurns) {
+    int turns = 0;
+    while (!ended && turns < maxTurns) {
+      nextTurn();
+      turns++;
+    }
+    return turns;
+  }
+
+  /**
+   * Writes the state of this kernel back into the game it was loaded from, or any other game on the
+   * same board with the same number of seats. Players removed by the kernel keep only the assets
+   * nobody bought after them.
+   *
+   * @param game the game to write to
+   * @throws IllegalArgumentException if the game is played on another board or has another number
+   *     of seats
+   */
+  public void applyTo(MonopolyGame game) {
+    requireNonNull(game, "Game cannot be null!");
+    if (game.getBoard() != board) {
+      throw new IllegalArgumentException("Game is not played on the board of this kernel!");
+    }
+    var seatedPlayers = game.seatedPlayers();
+    if (seatedPlayers.size() != positions.length) {
+      throw new IllegalArgumentException("Game does not have the same number of seats!");
+    }
+
+    var ownedAssets = new ArrayList<List<Ownable>>(positions.length);
+    for (int seat = 0; seat < positions.length; seat++) {
+      ownedAssets.add(new ArrayList<>());
+    }
+    var upgrades = new HashMap<Property, List<Upgrade>>();
+    for (int asset = 0; asset < assets.length; asset++) {
+      if (owners[asset] != NO_OWNER) {
+        ownedAssets.get(owners[asset]).add(assets[asset]);
+      }
+      if (upgradeLevels[asset] > 0 && assets[asset] instanceof Property property) {
+        upgrades.put(property, upgradesOf(upgradeLevels[asset]));
+      }
+    }
+    var prisoners = new HashMap<Player, Integer>();
+    for (int seat = 0; seat < positions.length; seat++) {
+      if (jailRounds[seat] > 0) {
+        prisoners.put(seatedPlayers.get(seat), jailRounds[seat]);
+      }
+    }
+
+    var base = game.snapshot().withState(positions, active, currentSeat, roundNumber, ended);
+    game.restore(
+        new MonopolyGameSnapshot(
+            base,
+            balances.clone(),
+            ownedAssets.stream().map(List::copyOf).toList(),
+            Map.copyOf(upgrades),
+            Map.copyOf(prisoners)));
+  }
+
+  // ------------------------  getters  ------------------------
+
+  /**
+   * Retrieves the board the kernel plays on.
+   *
+   * @return the board
+   */
+  public MonopolyBoard getBoard() {
+    return board;
+  }
+
+  /**
+   * Retrieves the number of seats, including seats of removed players.
+   *
+   * @return the number of seats
+   */
+  public int getSeatCount() {
+    return positions.length;
+  }
+
+  /**
+   * Retrieves the position of the player in the given seat.
+   *
+   * @param seat the zero-based seat
+   * @return the tile the player stands on
+   */
+  public int getPosition(int seat) {
+    return positions[seat];
+  }
+
+  /**
+   * Retrieves the balance of the player in the given seat.
+   *
+   * @param seat the zero-based seat
+   * @return the balance of the player
+   */
+  public int getBalance(int seat) {
+    return balances[seat];
+  }
+
+  /**
+   * Calculates the net worth of the player in the given seat, in the same way as {@link
+   * dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer#getNetWorth()}.
+   *
+   * @param seat the zero-based seat
+   * @return the balance plus the price of every asset the player owns
+   */
+  public int getNetWorth(int seat) {
+    int netWorth = balances[seat];
+    for (int asset = 0; asset < assets.length; asset++) {
+      if (owners[asset] == seat) {
+        netWorth += assets[asset].price();
+      }
+    }
+    return netWorth;
+  }
+
+  /**
+   * Checks whether the player in the given seat is still in play.
+   *
+   * @param seat the zero-based seat
+   * @return true if the player has not gone bankrupt
+   */
+  public boolean isActive(int seat) {
+    return active[seat];
+  }
+
+  /**
+   * Retrieves the number of rounds the player in the given seat has left in jail.
+   *
+   * @param seat the zero-based seat
+   * @return the rounds left, or 0 if the player is not in jail
+   */
+  public int getJailRoundsLeft(int seat) {
+    return jailRounds[seat];
+  }
+
+  /**
+   * Retrieves the seat of the player in play that owns the asset on the given tile.
+   *
+   * @param position the tile to look up
+   * @return the owner's seat, or {@link #NO_OWNER} if the tile is unowned or cannot be owned
+   */
+  public int getOwner(int position) {
+    if (tileKinds[position] != OWNABLE_TILE) {
+      return NO_OWNER;
+    }
+    int owner = owners[tileValues[position]];
+    return owner != NO_OWNER && active[owner] ? owner : NO_OWNER;
+  }
+
+  /**
+   * Retrieves the price of the asset on the given tile.
+   *
+   * @param position the tile to look up
+   * @return the price, or 0 if the tile cannot be owned
+   */
+  public int getPrice(int position) {
+    return tileKinds[position] == OWNABLE_TILE ? assets[tileValues[position]].price() : 0;
+  }
+
+  /**
+   * Retrieves the rent a player pays when landing on the given tile owned by someone else,
+   * including the group bonus of the owner, like {@link RentEngine} computes it.
+   *
+   * @param position the tile to look up
+   * @return the rent, or 0 if the tile cannot be owned
+   */
+  public int getRent(int position) {
+    if (tileKinds[position] != OWNABLE_TILE) {
+      return 0;
+    }
+    return currentRent(tileValues[position]);
+  }
+
+  /**
+   * Retrieves the upgrade level of the property on the given tile.
+   *
+   * @param position the tile to look up
+   * @return the number of houses, {@link #HOTEL_LEVEL} with a hotel, or 0 if the tile holds no
+   *     property
+   */
+  public int getUpgradeLevel(int position) {
+    return tileKinds[position] == OWNABLE_TILE ? upgradeLevels[tileValues[position]] : 0;
+  }
+
+  /**
+   * Retrieves the seat whose turn it is.
+   *
+   * @return the zero-based seat, or -1 before the first turn
+   */
+  public int getCurrentSeat() {
+    return currentSeat;
+  }
+
+  /**
+   * Retrieves the number of players still in play.
+   *
+   * @return the number of active players
+   */
+  public int getActiveCount() {
+    return activeCount;
+  }
+
+  /**
+   * Retrieves the current round number.
+   *
+   * @return the round number
+   */
+  public int getRoundNumber() {
+    return roundNumber;
+  }
+
+  /**
+   * Checks whether the game has ended.
+   *
+   * @return true once only one player is left
+   */
+  public boolean isEnded() {
+    return ended;
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void load(List<? extends Player> seatedPlayers, MonopolyGameSnapshot snapshot) {
+    activeCount = 0;
+    for (int seat = 0; seat < positions.length; seat++) {
+      positions[seat] = snapshot.getPosition(seat);
+      balances[seat] = snapshot.balances()[seat];
+      active[seat] = snapshot.isSeatActive(seat);
+      if (active[seat]) {
+        activeCount++;
+      }
+      Integer roundsLeft = snapshot.prisoners().get(seatedPlayers.get(seat));
+      // a prisoner with no rounds left is still released on their next turn
+      jailRounds[seat] = roundsLeft == null ? 0 : Math.max(1, roundsLeft);
+    }
+    currentSeat = snapshot.getCurrentSeat();
+    roundNumber = snapshot.getRoundNumber();
+    ended = snapshot.isEnded();
+
+    // the game asks the players in play in seat order, so the first of them must win
+    for (int pass = 0; pass < 2; pass++) {
+      boolean loadActiveSeats = pass == 1;
+      for (int seat = positions.length - 1; seat >= 0; seat--) {
+        if (active[seat] == loadActiveSeats) {
+          for (var ownable : snapshot.ownedAssets().get(seat)) {
+            owners[assetIdOf(ownable)] = (byte) seat;
+          }
+        }
+      }
+    }
+    for (int asset = 0; asset < assets.length; asset++) {
+      if (assets[asset] instanceof Property property) {
+        upgradeLevels[asset] = (byte) levelOf(property);
+      }
+    }
+    refreshAllGroups();
+  }
+
+  private int assetIdOf(Ownable ownable) {
+    Integer asset = assetIds.get(ownable);
+    if (asset == null) {
+      throw new IllegalArgumentException("%s is not on the board!".formatted(ownable));
+    }
+    return asset;
+  }
+
+  private int advanceSeat() {
+    if (activeCount == 0) {
+      throw new NoSuchElementException("There are no players left in the game!");
+    }
+    int seat = currentSeat;
+    do {
+      seat = (seat + 1) % active.length;
+    } while (!active[seat]);
+    if (currentSeat != NO_SEAT && seat <= currentSeat) {
+      roundNumber++;
+    }
+    currentSeat = seat;
+    return seat;
+  }
+
+  private boolean canRollAgain(int seat) {
+    return !ended && active[seat] && jailRounds[seat] == 0;
+  }
+
+  private boolean playRoll(int seat) {
+    int first = random.nextInt(6) + 1;
+    int second = random.nextInt(6) + 1;
+    int oldPosition = positions[seat];
+    int newPosition = (oldPosition + first + second) % tileKinds.length;
+    positions[seat] = newPosition;
+    if (oldPosition > newPosition) {
+      balances[seat] += MonopolyGame.PASS_START_BONUS;
+    }
+
+    switch (tileKinds[newPosition]) {
+      case OWNABLE_TILE -> landOnAsset(seat, newPosition, tileValues[newPosition]);
+      case TAX_TILE -> payTax(seat, tileValues[newPosition]);
+      case GO_TO_JAIL_TILE -> sendToJail(seat);
+      default -> {
+        // start, jail and free parking do nothing
+      }
+    }
+    return first == second;
+  }
+
+  private void landOnAsset(int seat, int position, int asset) {
+    int owner = owners[asset];
+    if (owner == NO_OWNER || !active[owner]) {
+      int price = assets[asset].price();
+      if (balances[seat] >= price && policy.shouldPurchase(this, seat, position)) {
+        balances[seat] -= price;
+        owners[asset] = (byte) seat;
+        refreshGroup(assetGroups[asset]);
+      }
+    } else if (owner == seat) {
+      if (assets[asset] instanceof Property) {
+        upgrade(seat, position, asset);
+      }
+    } else {
+      int rent = currentRent(asset);
+      if (balances[seat] < rent) {
+        removeSeat(seat);
+        return;
+      }
+      balances[seat] -= rent;
+      balances[owner] += rent;
+    }
+  }
+
+  private void upgrade(int seat, int position, int asset) {
+    int level = upgradeLevels[asset];
+    if (level == HOTEL_LEVEL) {
+      return;
+    }
+    int cost = level < MAX_HOUSES ? MonopolyGame.HOUSE_COST : MonopolyGame.HOTEL_COST;
+    if (policy.shouldUpgrade(this, seat, position) && balances[seat] >= cost) {
+      balances[seat] -= cost;
+      upgradeLevels[asset]++;
+    }
+  }
+
+  private void payTax(int seat, int percentage) {
+    int amountToPay = (balances[seat] * percentage) / 100;
+    if (balances[seat] < amountToPay) {
+      removeSeat(seat);
+      return;
+    }
+    balances[seat] -= amountToPay;
+  }
+
+  private void sendToJail(int seat) {
+    positions[seat] = jailPosition;
+    jailRounds[seat] = MonopolyGame.JAIL_ROUNDS;
+  }
+
+  private void removeSeat(int seat) {
+    active[seat] = false;
+    activeCount--;
+    if (activeCount == 1) {
+      ended = true;
+    }
+    refreshAllGroups();
+  }
+
+  private int currentRent(int asset) {
+    int level = upgradeLevels[asset];
+    return RentEngine.groupRent(
+        assets[asset],
+        rents[asset * LEVELS + level],
+        level,
+        ownedTilesInGroup[asset],
+        groupTiles[assetGroups[asset]]);
+  }
+
+  /** Recounts the tiles of a group held by the owner in play of each of its assets. */
+  private void refreshGroup(int group) {
+    for (int asset : groupMembers[group]) {
+      int owner = owners[asset];
+      int owned = 0;
+      if (owner != NO_OWNER && active[owner]) {
+        for (int other : groupMembers[group]) {
+          if (owners[other] == owner) {
+            owned += tileCounts[other];
+          }
+        }
+      }
+      ownedTilesInGroup[asset] = owned;
+    }
+  }
+
+  private void refreshAllGroups() {
+    for (int group = 0; group < groupMembers.length; group++) {
+      refreshGroup(group);
+    }
+  }
+
+  /**
+   * Computes the rent of an asset at an upgrade level with the asset's own rule, on a fresh copy so
+   * the kernel can never drift from {@link Ownable#rent()}.
+   */
+  static int rentOf(Ownable ownable, int level) {
+    if (!(ownable instanceof Property property)) {
+      return ownable.rent();
+    }
+    var copy = new Property(property.getName(), property.getColor(), property.price());
+    copy.restoreUpgrades(upgradesOf(level));
+    return copy.rent();
+  }
+
+  private static List<Upgrade> upgradesOf(int level) {
+    if (level < HOTEL_LEVEL) {
+      return Collections.nCopies(level, MonopolyGame.HOUSE);
+    }
+    var upgrades = new ArrayList<>(Collections.nCopies(MAX_HOUSES, MonopolyGame.HOUSE));
+    upgrades.add(MonopolyGame.HOTEL);
+    return upgrades;
+  }
+
+  private static int levelOf(Property property) {
+    int level = property.countHouses() + (property.hasHotel() ? 1 : 0);
+    if (level > HOTEL_LEVEL || !property.getUpgrades().equals(upgradesOf(level))) {
+      throw new IllegalArgumentException(
+          "Upgrades of %s cannot be reached by the rules!".formatted(property.getName()));
+    }
+    return level;
+  }
+
+  /**
+   * Decides purchases and upgrades for a {@link MonopolyKernel}. It is the primitive counterpart of
+   * {@link dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider}; the
+   * kernel is passed along so a policy can look at balances, prices and owners without allocating.
+   */
+  public interface Policy {
+
+    /**
+     * Creates a policy that accepts every purchase and upgrade the player can afford.
+     *
+     * @return a policy that always says yes
+     */
+    static Policy alwaysAccept() {
+      return new Policy() {
+        @Override
+        public boolean shouldPurchase(MonopolyKernel kernel, int seat, int position) {
+          return true;
+        }
+
+        @Override
+        public boolean shouldUpgrade(MonopolyKernel kernel, int seat, int position) {
+          return true;
+        }
+      };
+    }
+
+    /**
+     * Creates a policy that declines every purchase and upgrade.
+     *
+     * @return a policy that always says no
+     */
+    static Policy alwaysDecline() {
+      return new Policy() {
+        @Override
+        public boolean shouldPurchase(MonopolyKernel kernel, int seat, int position) {
+          return false;
+        }
+
+        @Override
+        public boolean shouldUpgrade(MonopolyKernel kernel, int seat, int position) {
+          return false;
+        }
+      };
+    }
+
+    /**
+     * Decides whether a player buys the unowned asset they landed on. Only asked when the player
+     * can afford it.
+     *
+     * @param kernel the kernel asking
+     * @param seat the seat of the player
+     * @param position the tile holding the asset
+     * @return true to buy the asset
+     */
+    boolean shouldPurchase(MonopolyKernel kernel, int seat, int position);
+
+    /**
+     * Decides whether a player upgrades the property they landed on. The player might not be able
+     * to afford the upgrade.
+     *
+     * @param kernel the kernel asking
+     * @param seat the seat of the player
+     * @param position the tile holding the property
+     * @return true to build a house or a hotel
+     */
+    boolean shouldUpgrade(MonopolyKernel kernel, int seat, int position);
+  }
+}
@@ -5,20 +5,26 @@ import dev.nheggoe.boardgame.games.monopoly.model.tile.CornerMonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.JailMonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.StartMonopolyTile;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * Represents a game board consisting of a list of tiles. Each tile has a unique position and can
  * have specific actions that are triggered when a player lands on them. Provides methods to
  * interact with and retrieve tiles on the board.
  *
- * <p>This class is immutable; once created, the tiles cannot be modified.
+ * <p>This class is immutable; once created, the tiles cannot be modified. When the board is
+ * created, the special tiles, the position of every tile and the positions of every tile type are
+ * indexed, so looking any of them up takes constant time. The index is kept by the tile list
+ * itself, so boards are still equal when their tiles are.
  *
+ * @param tiles the tiles of the board, aligned around the corners
  * @author Mihailo Hranisavljevic and Nick Heggø
  * @version 2025.04.22
  */
@@ -39,7 +45,7 @@ public record MonopolyBoard(List<MonopolyTile> tiles) implements Board<MonopolyT
    */
   public MonopolyBoard {
     assertValidLayout(tiles);
-    tiles = List.copyOf(alignTilesAroundCorners(tiles));
+    tiles = new IndexedTiles(List.copyOf(alignTilesAroundCorners(tiles)));
   }
 
   /**
@@ -64,27 +70,45 @@ public record MonopolyBoard(List<MonopolyTile> tiles) implements Board<MonopolyT
    * @return the staring point of the game
    */
   public StartMonopolyTile getStartingTile() {
-    return tiles.stream()
-        .filter(StartMonopolyTile.class::isInstance)
-        .map(StartMonopolyTile.class::cast)
-        .findAny()
-        .orElseThrow(InvalidBoardLayoutException::new);
+    return index().start;
   }
 
   /**
-   * Retrieves the jail tile from the board. This method searches through all tiles to find a tile
-   * that is an instance of {@link JailMonopolyTile}. If no jail tile is present, an exception is
-   * thrown.
+   * Retrieves the position of the starting tile.
+   *
+   * @return the zero-based position of the starting tile
+   */
+  public int getStartingPosition() {
+    return index().startPosition;
+  }
+
+  /**
+   * Retrieves the jail tile from the board. Every valid board has exactly one.
    *
    * @return the {@link JailMonopolyTile} object representing the jail tile on the board
-   * @throws InvalidBoardLayoutException if no jail tile is found on the board
    */
   public JailMonopolyTile getJailTile() {
-    return tiles.stream()
-        .filter(JailMonopolyTile.class::isInstance)
-        .map(JailMonopolyTile.class::cast)
-        .findAny()
-        .orElseThrow(InvalidBoardLayoutException::new);
+    return index().jail;
+  }
+
+  /**
+   * Retrieves the position of the jail tile.
+   *
+   * @return the zero-based position of the jail tile
+   */
+  public int getJailPosition() {
+    return index().jailPosition;
+  }
+
+  /**
+   * Retrieves the positions of every tile of the given type, including subtypes.
+   *
+   * @param type the tile type to look up
+   * @return the zero-based positions in ascending order, empty if there are no such tiles
+   */
+  public int[] getPositionsOf(Class<? extends MonopolyTile> type) {
+    int[] positions = index().positionsByType.get(type);
+    return positions == null ? new int[0] : positions.clone();
   }
 
   /**
@@ -100,10 +124,11 @@ public record MonopolyBoard(List<MonopolyTile> tiles) implements Board<MonopolyT
    * Retrieves the position of the specified tile on the board.
    *
    * @param tile the {@link MonopolyTile} whose position is to be determined
-   * @return the zero-based position of the tile on the board, or -1 if the tile is not found
+   * @return the zero-based position of the first equal tile on the board, or -1 if the tile is not
+   *     found
    */
   public int getTilePosition(MonopolyTile tile) {
-    return tiles.indexOf(tile);
+    return index().positions.getOrDefault(tile, -1);
   }
 
   /**
@@ -146,17 +171,71 @@ public record MonopolyBoard(List<MonopolyTile> tiles) implements Board<MonopolyT
     EASY
   }
 
-  @Override
-  public boolean equals(Object o) {
-    if (!(o instanceof MonopolyBoard(List<MonopolyTile> tiles1))) {
-      return false;
-    }
-    return tiles.equals(tiles1);
+  private IndexedTiles index() {
+    return (IndexedTiles) tiles;
   }
 
-  @Override
-  public int hashCode() {
-    return tiles.hashCode();
+  /**
+   * The unmodifiable tiles of a board, together with the index built of them. Equality is that of
+   * any other list with the same tiles.
+   */
+  private static final class IndexedTiles extends AbstractList<MonopolyTile>
+      implements RandomAccess {
+
+    private final List<MonopolyTile> tiles;
+    private final StartMonopolyTile start;
+    private final int startPosition;
+    private final JailMonopolyTile jail;
+    private final int jailPosition;
+    private final Map<MonopolyTile, Integer> positions;
+    private final Map<Class<?>, int[]> positionsByType;
+
+    private IndexedTiles(List<MonopolyTile> tiles) {
+      this.tiles = tiles;
+      var positionMap = new HashMap<MonopolyTile, Integer>();
+      var positionLists = new HashMap<Class<?>, List<Integer>>();
+      StartMonopolyTile startTile = null;
+      JailMonopolyTile jailTile = null;
+      for (int position = 0; position < tiles.size(); position++) {
+        var tile = tiles.get(position);
+        positionMap.putIfAbsent(tile, position);
+        if (tile instanceof StartMonopolyTile startMonopolyTile) {
+          startTile = startMonopolyTile;
+        } else if (tile instanceof JailMonopolyTile jailMonopolyTile) {
+          jailTile = jailMonopolyTile;
+        }
+        for (Class<?> type = tile.getClass();
+            type != null && MonopolyTile.class.isAssignableFrom(type);
+            type = type.getSuperclass()) {
+          positionLists.computeIfAbsent(type, unused -> new ArrayList<>()).add(position);
+        }
+        positionLists
+            .computeIfAbsent(MonopolyTile.class, unused -> new ArrayList<>())
+            .add(position);
+      }
+      if (startTile == null || jailTile == null) {
+        throw new InvalidBoardLayoutException();
+      }
+      this.start = startTile;
+      this.startPosition = positionMap.get(startTile);
+      this.jail = jailTile;
+      this.jailPosition = positionMap.get(jailTile);
+      this.positions = Map.copyOf(positionMap);
+      var byType = new HashMap<Class<?>, int[]>();
+      positionLists.forEach(
+          (type, list) -> byType.put(type, list.stream().mapToInt(Integer::intValue).toArray()));
+      this.positionsByType = Map.copyOf(byType);
+    }
+
+    @Override
+    public MonopolyTile get(int index) {
+      return tiles.get(index);
+    }
+
+    @Override
+    public int size() {
+      return tiles.size();
+    }
   }
 
   // ------------------------  validations  ------------------------
@@ -5,6 +5,8 @@ import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * The {@code BoardGameFactory} class is a factory class that creates different types of boards. It
@@ -24,16 +26,28 @@ public class MonopolyBoardFactory {
    * @return a {@link MonopolyBoard} instance created according to the specified layout
    */
   public static MonopolyBoard generateBoard(MonopolyBoard.Layout layout) {
+    return generateBoard(layout, new SplittableRandom());
+  }
+
+  /**
+   * Generates a Monopoly game board based on the specified layout, shuffling the tiles with the
+   * given generator so that the same seed always produces the same board.
+   *
+   * @param layout the layout configuration for the board, which determines its structure
+   * @param random the generator used to shuffle the tiles
+   * @return a {@link MonopolyBoard} instance created according to the specified layout
+   */
+  public static MonopolyBoard generateBoard(MonopolyBoard.Layout layout, RandomGenerator random) {
     return switch (layout) {
-      case NORMAL, EASY, UNFAIR -> generateNormalBoard();
+      case NORMAL, EASY, UNFAIR -> generateNormalBoard(random);
     };
   }
 
-  private static MonopolyBoard generateNormalBoard() {
+  private static MonopolyBoard generateNormalBoard(RandomGenerator random) {
     var tmp = TileFactory.generateOwnableTiles();
     List<MonopolyTile> tiles = new ArrayList<>(tmp);
     tiles.addAll(TileFactory.generateCornerTiles());
-    Collections.shuffle(tiles);
+    Collections.shuffle(tiles, random);
     return new MonopolyBoard(tiles);
   }
 }
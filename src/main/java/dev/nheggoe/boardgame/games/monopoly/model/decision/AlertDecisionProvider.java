@@ -0,0 +1,45 @@
+package dev.nheggoe.boardgame.games.monopoly.model.decision;
+
+import dev.nheggoe.boardgame.common.util.AlertFactory;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+
+/**
+ * Decision provider backed by JavaFX dialogs. Every question is shown as a confirmation alert and
+ * every notification as an information alert, so it must be used from the JavaFX application
+ * thread.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class AlertDecisionProvider implements MonopolyDecisionProvider {
+
+  @Override
+  public boolean confirmPurchase(MonopolyPlayer player, Ownable ownable, String prompt) {
+    var result = AlertFactory.createAlert(Alert.AlertType.CONFIRMATION, prompt).showAndWait();
+    return result.isPresent() && result.get() != ButtonType.CANCEL;
+  }
+
+  @Override
+  public boolean confirmUpgrade(
+      MonopolyPlayer player, Property property, UpgradeType type, String prompt) {
+    var result = AlertFactory.createAlert(Alert.AlertType.CONFIRMATION, prompt).showAndWait();
+    return result.isPresent() && result.get() == ButtonType.OK;
+  }
+
+  @Override
+  public void inform(MonopolyPlayer player, String message) {
+    AlertFactory.createAlert(Alert.AlertType.INFORMATION, message).showAndWait();
+  }
+
+  @Override
+  public void announceWinner(MonopolyPlayer winner, String message) {
+    Platform.runLater(
+        () -> AlertFactory.createAlert(Alert.AlertType.INFORMATION, message).showAndWait());
+  }
+}
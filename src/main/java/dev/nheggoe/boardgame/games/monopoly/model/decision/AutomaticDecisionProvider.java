@@ -0,0 +1,75 @@
+package dev.nheggoe.boardgame.games.monopoly.model.decision;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+import java.util.function.BiPredicate;
+
+/**
+ * Headless decision provider that answers every question with a fixed policy and silently drops
+ * notifications. It has no dependency on a user interface and is safe to use from any thread, as
+ * long as the supplied policies are.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class AutomaticDecisionProvider implements MonopolyDecisionProvider {
+
+  private final BiPredicate<MonopolyPlayer, Ownable> purchasePolicy;
+  private final BiPredicate<MonopolyPlayer, Property> upgradePolicy;
+
+  /**
+   * Creates a provider that decides purchases and upgrades with the given policies.
+   *
+   * @param purchasePolicy decides whether a player buys an unowned asset
+   * @param upgradePolicy decides whether a player upgrades one of their properties
+   */
+  public AutomaticDecisionProvider(
+      BiPredicate<MonopolyPlayer, Ownable> purchasePolicy,
+      BiPredicate<MonopolyPlayer, Property> upgradePolicy) {
+    this.purchasePolicy = requireNonNull(purchasePolicy, "Purchase policy cannot be null!");
+    this.upgradePolicy = requireNonNull(upgradePolicy, "Upgrade policy cannot be null!");
+  }
+
+  /**
+   * Creates a provider that accepts every purchase and upgrade the player can afford.
+   *
+   * @return a provider that always says yes
+   */
+  public static AutomaticDecisionProvider alwaysAccept() {
+    return new AutomaticDecisionProvider((player, ownable) -> true, (player, property) -> true);
+  }
+
+  /**
+   * Creates a provider that declines every purchase and upgrade.
+   *
+   * @return a provider that always says no
+   */
+  public static AutomaticDecisionProvider alwaysDecline() {
+    return new AutomaticDecisionProvider((player, ownable) -> false, (player, property) -> false);
+  }
+
+  @Override
+  public boolean confirmPurchase(MonopolyPlayer player, Ownable ownable, String prompt) {
+    return purchasePolicy.test(player, ownable);
+  }
+
+  @Override
+  public boolean confirmUpgrade(
+      MonopolyPlayer player, Property property, UpgradeType type, String prompt) {
+    return upgradePolicy.test(player, property);
+  }
+
+  @Override
+  public void inform(MonopolyPlayer player, String message) {
+    // nothing to show without a user interface
+  }
+
+  @Override
+  public void announceWinner(MonopolyPlayer winner, String message) {
+    // nothing to show without a user interface
+  }
+}
@@ -0,0 +1,57 @@
+package dev.nheggoe.boardgame.games.monopoly.model.decision;
+
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+
+/**
+ * Supplies every decision and notification a {@code MonopolyGame} needs from the outside world.
+ *
+ * <p>The game model never talks to a user interface directly. Interactive sessions plug in {@link
+ * AlertDecisionProvider}, while simulations and tests plug in {@link AutomaticDecisionProvider} so
+ * that turns can be played on any thread without a running JavaFX toolkit.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public interface MonopolyDecisionProvider {
+
+  /**
+   * Asks whether the player wants to buy the unowned asset they landed on. Only called when the
+   * player can afford the asset.
+   *
+   * @param player the player who landed on the asset
+   * @param ownable the asset offered for sale
+   * @param prompt a human-readable description of the offer
+   * @return true if the player buys the asset, false if they decline
+   */
+  boolean confirmPurchase(MonopolyPlayer player, Ownable ownable, String prompt);
+
+  /**
+   * Asks whether the player wants to build an upgrade on a property they own.
+   *
+   * @param player the owner of the property
+   * @param property the property to upgrade
+   * @param type the kind of upgrade offered
+   * @param prompt a human-readable description of the offer
+   * @return true if the player wants to build the upgrade, false otherwise
+   */
+  boolean confirmUpgrade(MonopolyPlayer player, Property property, UpgradeType type, String prompt);
+
+  /**
+   * Informs the player about an event that requires no answer, such as rolling doubles.
+   *
+   * @param player the player the message concerns
+   * @param message the message to show
+   */
+  void inform(MonopolyPlayer player, String message);
+
+  /**
+   * Announces the winner once the game has ended.
+   *
+   * @param winner the last player standing
+   * @param message the message to show
+   */
+  void announceWinner(MonopolyPlayer winner, String message);
+}
@@ -0,0 +1,67 @@
+package dev.nheggoe.boardgame.games.monopoly.model.decision;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.core.simulation.DecisionLog;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+
+/**
+ * Decision provider that passes every question on to another provider and records the answers in a
+ * {@link DecisionLog}, so the game can later be replayed with a {@link ReplayDecisionProvider}.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class RecordingDecisionProvider implements MonopolyDecisionProvider {
+
+  private final MonopolyDecisionProvider delegate;
+  private final DecisionLog log;
+
+  /**
+   * Creates a provider that records the decisions of the given provider.
+   *
+   * @param delegate the provider that makes the decisions
+   * @param log the log the decisions are appended to
+   */
+  public RecordingDecisionProvider(MonopolyDecisionProvider delegate, DecisionLog log) {
+    this.delegate = requireNonNull(delegate, "Delegate cannot be null!");
+    this.log = requireNonNull(log, "Decision log cannot be null!");
+  }
+
+  /**
+   * Retrieves the log the decisions are appended to.
+   *
+   * @return the decision log
+   */
+  public DecisionLog getLog() {
+    return log;
+  }
+
+  @Override
+  public boolean confirmPurchase(MonopolyPlayer player, Ownable ownable, String prompt) {
+    boolean accepted = delegate.confirmPurchase(player, ownable, prompt);
+    log.append(DecisionLog.Kind.PURCHASE, accepted);
+    return accepted;
+  }
+
+  @Override
+  public boolean confirmUpgrade(
+      MonopolyPlayer player, Property property, UpgradeType type, String prompt) {
+    boolean accepted = delegate.confirmUpgrade(player, property, type, prompt);
+    log.append(DecisionLog.Kind.UPGRADE, accepted);
+    return accepted;
+  }
+
+  @Override
+  public void inform(MonopolyPlayer player, String message) {
+    delegate.inform(player, message);
+  }
+
+  @Override
+  public void announceWinner(MonopolyPlayer winner, String message) {
+    delegate.announceWinner(winner, message);
+  }
+}
@@ -0,0 +1,63 @@
+package dev.nheggoe.boardgame.games.monopoly.model.decision;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.core.simulation.DecisionLog;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Ownable;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+
+/**
+ * Headless decision provider that answers every question from a recorded {@link DecisionLog}, in
+ * the order the questions are asked, and silently drops notifications.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class ReplayDecisionProvider implements MonopolyDecisionProvider {
+
+  private final DecisionLog.Cursor decisions;
+
+  /**
+   * Creates a provider that answers from the given cursor.
+   *
+   * @param decisions the cursor over the recorded decisions
+   */
+  public ReplayDecisionProvider(DecisionLog.Cursor decisions) {
+    this.decisions = requireNonNull(decisions, "Decisions cannot be null!");
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws dev.nheggoe.boardgame.core.simulation.ReplayException if the next recorded decision is
+   *     not a purchase
+   */
+  @Override
+  public boolean confirmPurchase(MonopolyPlayer player, Ownable ownable, String prompt) {
+    return decisions.next(DecisionLog.Kind.PURCHASE);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws dev.nheggoe.boardgame.core.simulation.ReplayException if the next recorded decision is
+   *     not an upgrade
+   */
+  @Override
+  public boolean confirmUpgrade(
+      MonopolyPlayer player, Property property, UpgradeType type, String prompt) {
+    return decisions.next(DecisionLog.Kind.UPGRADE);
+  }
+
+  @Override
+  public void inform(MonopolyPlayer player, String message) {
+    // nothing to show during a replay
+  }
+
+  @Override
+  public void announceWinner(MonopolyPlayer winner, String message) {
+    // nothing to show during a replay
+  }
+}
@@ -15,6 +15,13 @@ public class MonopolyPlayer extends Player {
 
   private int balance = 0;
 
+  // the summed price of the owned assets, recounted lazily after restores and deserialization
+  private transient boolean assetValueValid;
+  private transient int assetValue;
+
+  private transient OwnershipIndex ownershipIndex;
+  private transient NetWorthLeaderboard leaderboard;
+
   /**
    * Constructs a new MonopolyPlayer with the specified name and figure.
    *
@@ -38,7 +45,13 @@ public class MonopolyPlayer extends Player {
    * @throws IllegalArgumentException if the agreed amount is negative.
    */
   public void transferProperty(Ownable ownable, int agreedAmount) {
-    this.ownedAssets.remove(ownable);
+    if (this.ownedAssets.remove(ownable)) {
+      addAssetValue(-ownable.price());
+      if (ownershipIndex != null) {
+        ownershipIndex.released(this, ownable, ownedAssets.contains(ownable));
+      }
+    }
+    // the balance change brings the leaderboard up to date with the asset as well
     this.addBalance(agreedAmount);
   }
 
@@ -52,8 +65,13 @@ public class MonopolyPlayer extends Player {
    */
   public void purchase(Ownable ownable) {
     validateSufficientFunds(ownable.price());
-    deductBalance(ownable.price());
     ownedAssets.add(ownable);
+    addAssetValue(ownable.price());
+    if (ownershipIndex != null) {
+      ownershipIndex.acquired(this, ownable);
+    }
+    // the balance change brings the leaderboard up to date with the asset as well
+    deductBalance(ownable.price());
   }
 
   /**
@@ -81,6 +99,7 @@ public class MonopolyPlayer extends Player {
       throw new IllegalArgumentException("Amount to add cannot be negative!");
     }
     this.balance += amount;
+    netWorthChanged();
   }
 
   /**
@@ -97,16 +116,24 @@ public class MonopolyPlayer extends Player {
       throw new InsufficientFundsException(amount, balance);
     }
     balance -= amount;
+    netWorthChanged();
   }
 
   /**
-   * Determines if the current player is the owner of the specified Ownable asset.
+   * Determines if the current player is the owner of the specified Ownable asset. Takes constant
+   * time for assets on the board of the {@link OwnershipIndex} tracking this player.
    *
    * @param ownable the asset to check ownership for. It must be a valid implementation of the
    *     Ownable interface.
    * @return true if the player owns the specified asset, otherwise false.
    */
   public boolean isOwnerOf(Ownable ownable) {
+    if (ownershipIndex != null) {
+      int asset = ownershipIndex.assetIdOf(ownable);
+      if (asset >= 0) {
+        return ownershipIndex.holds(this, asset);
+      }
+    }
     return ownedAssets.contains(ownable);
   }
 
@@ -139,13 +166,40 @@ public class MonopolyPlayer extends Player {
 
   /**
    * Calculates the player's total net worth by summing up the current balance and the combined
-   * prices of all owned assets.
+   * prices of all owned assets. The combined price is kept up to date as assets come and go, so
+   * this takes constant time.
    *
    * @return the total net worth as an integer, which is the sum of the player's balance and the
    *     prices of all assets owned by the player.
    */
   public int getNetWorth() {
-    return balance + ownedAssets.stream().map(Ownable::price).reduce(Integer::sum).orElse(0);
+    if (!assetValueValid) {
+      assetValue = ownedAssets.stream().mapToInt(Ownable::price).sum();
+      assetValueValid = true;
+    }
+    return balance + assetValue;
+  }
+
+  /**
+   * Replaces the balance and the owned assets of the player in one step. Intended for restoring a
+   * game snapshot, where the state is put back exactly as it was rather than through purchases.
+   *
+   * @param balance the balance to restore; must not be negative
+   * @param ownedAssets the assets the player owns, in order of purchase
+   * @throws IllegalArgumentException if the balance is negative
+   */
+  public void restoreHoldings(int balance, List<Ownable> ownedAssets) {
+    if (balance < 0) {
+      throw new IllegalArgumentException("Balance cannot be negative!");
+    }
+    this.balance = balance;
+    this.ownedAssets.clear();
+    this.ownedAssets.addAll(ownedAssets);
+    assetValueValid = false;
+    if (ownershipIndex != null) {
+      ownershipIndex.holdingsReplaced(this);
+    }
+    netWorthChanged();
   }
 
   // ------------------------  getters and setters  ------------------------
@@ -161,6 +215,28 @@ public class MonopolyPlayer extends Player {
 
   // ------------------------  private  ------------------------
 
+  /** Called by {@link OwnershipIndex#track(MonopolyPlayer)}; the latest index wins. */
+  void trackOwnership(OwnershipIndex ownershipIndex) {
+    this.ownershipIndex = ownershipIndex;
+  }
+
+  /** Called by {@link NetWorthLeaderboard#track(MonopolyPlayer)}; the latest leaderboard wins. */
+  void trackNetWorth(NetWorthLeaderboard leaderboard) {
+    this.leaderboard = leaderboard;
+  }
+
+  private void addAssetValue(int delta) {
+    if (assetValueValid) {
+      assetValue += delta;
+    }
+  }
+
+  private void netWorthChanged() {
+    if (leaderboard != null) {
+      leaderboard.update(this);
+    }
+  }
+
   private void validateSufficientFunds(int amount) {
     if (amount < 0) {
       throw new IllegalArgumentException("Amount to purchase can not be negative!");
@@ -0,0 +1,148 @@
+package dev.nheggoe.boardgame.games.monopoly.model.ownable;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Ranks the players in play by net worth, kept up to date as money and assets move.
+ *
+ * <p>Standings are held in an ordered set sorted by net worth, highest first, with ties in seat
+ * order. Tracked players report every change of their balance or holdings, which moves their
+ * standing in logarithmic time, so the leader and the winners are found without looking at every
+ * player.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class NetWorthLeaderboard {
+
+  private static final Comparator<Standing> ORDER =
+      Comparator.comparingInt(Standing::netWorth).reversed().thenComparingInt(Standing::seat);
+
+  private final TreeSet<Standing> ranking;
+  private final Map<MonopolyPlayer, Standing> standings;
+  private final Map<MonopolyPlayer, Integer> seats;
+
+  /** Creates an empty leaderboard. */
+  public NetWorthLeaderboard() {
+    this.ranking = new TreeSet<>(ORDER);
+    this.standings = new HashMap<>();
+    this.seats = new HashMap<>();
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Starts ranking the given player, seated after every player tracked before. From now on the
+   * player reports every change of their net worth to this leaderboard.
+   *
+   * @param player the player to rank
+   */
+  public void track(MonopolyPlayer player) {
+    requireNonNull(player, "Player cannot be null!");
+    player.trackNetWorth(this);
+    seats.putIfAbsent(player, seats.size());
+    enter(player);
+  }
+
+  /**
+   * Stops ranking the given player, which happens when they go bankrupt.
+   *
+   * @param player the player leaving the game
+   */
+  public void remove(MonopolyPlayer player) {
+    var standing = standings.remove(player);
+    if (standing != null) {
+      ranking.remove(standing);
+    }
+  }
+
+  /**
+   * Ranks exactly the given players, which is needed after a game snapshot has been restored.
+   *
+   * @param playersInPlay the players still in the game
+   */
+  public void reset(List<MonopolyPlayer> playersInPlay) {
+    ranking.clear();
+    standings.clear();
+    playersInPlay.forEach(this::track);
+  }
+
+  /**
+   * Retrieves the player with the highest net worth, the first seated among equals.
+   *
+   * @return the leader, or an empty optional if nobody is ranked
+   */
+  public Optional<MonopolyPlayer> getLeader() {
+    return ranking.isEmpty() ? Optional.empty() : Optional.of(ranking.first().player());
+  }
+
+  /**
+   * Retrieves the highest net worth and every player who has it, in seat order.
+   *
+   * @return the highest net worth and its holders, or {@code null} if nobody is ranked
+   */
+  public Map.Entry<Integer, List<MonopolyPlayer>> getLeaders() {
+    if (ranking.isEmpty()) {
+      return null;
+    }
+    int highest = ranking.first().netWorth();
+    var leaders = new ArrayList<MonopolyPlayer>();
+    for (var standing : ranking) {
+      if (standing.netWorth() != highest) {
+        break;
+      }
+      leaders.add(standing.player());
+    }
+    return Map.entry(highest, List.copyOf(leaders));
+  }
+
+  /**
+   * Retrieves every ranked player, from the highest net worth to the lowest.
+   *
+   * @return the standings
+   */
+  public List<MonopolyPlayer> getStandings() {
+    return ranking.stream().map(Standing::player).toList();
+  }
+
+  /**
+   * Retrieves the number of ranked players.
+   *
+   * @return the number of players in play
+   */
+  public int size() {
+    return ranking.size();
+  }
+
+  // ------------------------  player callbacks  ------------------------
+
+  void update(MonopolyPlayer player) {
+    var standing = standings.get(player);
+    if (standing != null && standing.netWorth() != player.getNetWorth()) {
+      ranking.remove(standing);
+      enter(player);
+    }
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void enter(MonopolyPlayer player) {
+    var previous = standings.get(player);
+    if (previous != null) {
+      ranking.remove(previous);
+    }
+    var standing = new Standing(player.getNetWorth(), seats.get(player), player);
+    standings.put(player, standing);
+    ranking.add(standing);
+  }
+
+  private record Standing(int netWorth, int seat, MonopolyPlayer player) {}
+}
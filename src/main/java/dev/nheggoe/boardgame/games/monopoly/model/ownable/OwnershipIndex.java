@@ -0,0 +1,241 @@
+package dev.nheggoe.boardgame.games.monopoly.model.ownable;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Answers who owns an asset on a {@link MonopolyBoard} in constant time.
+ *
+ * <p>The assets on the board are numbered in the order they first appear, and tiles holding equal
+ * assets share one number, just like {@link MonopolyPlayer#isOwnerOf(Ownable)} treats them as one
+ * asset. The index keeps two views of ownership in step:
+ *
+ * <ul>
+ *   <li>the owner in play of every asset, which a bankrupt player no longer is, and
+ *   <li>a bitset per player of every asset in their possession, bankrupt or not.
+ * </ul>
+ *
+ * <p>Players report their purchases, transfers and restored holdings to the index they are tracked
+ * by, and the game reports bankruptcies with {@link #releaseAll(MonopolyPlayer)}. Every change of
+ * owner is passed on to the {@link RentEngine} of the index.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class OwnershipIndex {
+
+  private static final int NOT_ON_BOARD = -1;
+
+  private final Map<Ownable, Integer> assetIds;
+  private final int[] tileAssets;
+  private final MonopolyPlayer[] owners;
+  private final Map<MonopolyPlayer, BitSet> holdings;
+  private final RentEngine rentEngine;
+
+  /**
+   * Creates an empty index for the assets on the given board.
+   *
+   * @param board the board whose assets are indexed
+   */
+  public OwnershipIndex(MonopolyBoard board) {
+    requireNonNull(board, "Board cannot be null!");
+    this.assetIds = new HashMap<>();
+    this.tileAssets = new int[board.size()];
+    for (int position = 0; position < tileAssets.length; position++) {
+      if (board.getTileAtIndex(position) instanceof OwnableMonopolyTile(Ownable ownable)) {
+        tileAssets[position] = assetIds.computeIfAbsent(ownable, unused -> assetIds.size());
+      } else {
+        tileAssets[position] = NOT_ON_BOARD;
+      }
+    }
+    this.owners = new MonopolyPlayer[assetIds.size()];
+    this.holdings = new HashMap<>();
+
+    var assets = new Ownable[owners.length];
+    assetIds.forEach((ownable, asset) -> assets[asset] = ownable);
+    int[] tileCounts = new int[owners.length];
+    for (int asset : tileAssets) {
+      if (asset != NOT_ON_BOARD) {
+        tileCounts[asset]++;
+      }
+    }
+    this.rentEngine = new RentEngine(assets, tileCounts);
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Starts tracking the given player, indexing the assets they already own. From now on the player
+   * reports every change to their holdings to this index.
+   *
+   * @param player the player to track
+   */
+  public void track(MonopolyPlayer player) {
+    requireNonNull(player, "Player cannot be null!");
+    player.trackOwnership(this);
+    holdingsReplaced(player);
+  }
+
+  /**
+   * Retrieves the owner in play of the given asset.
+   *
+   * @param ownable the asset to look up
+   * @return the owner, or an empty optional if nobody in play owns the asset or it is not on the
+   *     board
+   */
+  public Optional<MonopolyPlayer> getOwner(Ownable ownable) {
+    int asset = assetIdOf(ownable);
+    return asset == NOT_ON_BOARD ? Optional.empty() : Optional.ofNullable(owners[asset]);
+  }
+
+  /**
+   * Retrieves the owner in play of the asset on the given tile.
+   *
+   * @param position the zero-based position of the tile
+   * @return the owner, or an empty optional if nobody in play owns the tile or it cannot be owned
+   * @throws IndexOutOfBoundsException if the position is not on the board
+   */
+  public Optional<MonopolyPlayer> getOwnerOfTile(int position) {
+    int asset = tileAssets[position];
+    return asset == NOT_ON_BOARD ? Optional.empty() : Optional.ofNullable(owners[asset]);
+  }
+
+  /**
+   * Retrieves the numbers of every asset on the board the given player possesses.
+   *
+   * @param player the player to look up
+   * @return a copy of the player's ownership bitset, empty if the player is not tracked
+   */
+  public BitSet getHoldings(MonopolyPlayer player) {
+    var bits = holdings.get(player);
+    return bits == null ? new BitSet() : (BitSet) bits.clone();
+  }
+
+  /**
+   * Retrieves the rent a player landing on the given asset pays its owner, including the owner's
+   * group bonus.
+   *
+   * @param ownable the asset to look up
+   * @return the rent of the asset, or {@link Ownable#rent()} if it is not on the board
+   */
+  public int getRent(Ownable ownable) {
+    int asset = assetIdOf(ownable);
+    return asset == NOT_ON_BOARD ? ownable.rent() : rentEngine.rentOf(asset);
+  }
+
+  /**
+   * Retrieves the rent engine kept up to date by this index.
+   *
+   * @return the rent engine, numbering assets like this index does
+   */
+  public RentEngine getRentEngine() {
+    return rentEngine;
+  }
+
+  /**
+   * Retrieves the number of the given asset.
+   *
+   * @param ownable the asset to look up
+   * @return the zero-based asset number, or -1 if the asset is not on the board
+   */
+  public int assetIdOf(Ownable ownable) {
+    return assetIds.getOrDefault(ownable, NOT_ON_BOARD);
+  }
+
+  /**
+   * Releases every asset owned in play by the given player, which happens when they go bankrupt.
+   * The player keeps the assets in their possession, but nobody owns them in play anymore.
+   *
+   * @param player the player leaving the game
+   */
+  public void releaseAll(MonopolyPlayer player) {
+    var bits = holdings.get(player);
+    if (bits == null) {
+      return;
+    }
+    for (int asset = bits.nextSetBit(0); asset >= 0; asset = bits.nextSetBit(asset + 1)) {
+      if (player.equals(owners[asset])) {
+        setOwner(asset, null);
+      }
+    }
+  }
+
+  /**
+   * Rebuilds the owners in play from the holdings of the given players, which is needed after the
+   * holdings were restored from a snapshot. Where several players hold the same asset, the first
+   * one in the list owns it.
+   *
+   * @param playersInPlay the players still in the game, in turn order
+   */
+  public void rebuild(List<MonopolyPlayer> playersInPlay) {
+    Arrays.fill(owners, null);
+    for (var player : playersInPlay) {
+      var bits = holdings.get(player);
+      if (bits == null) {
+        continue;
+      }
+      for (int asset = bits.nextSetBit(0); asset >= 0; asset = bits.nextSetBit(asset + 1)) {
+        if (owners[asset] == null) {
+          owners[asset] = player;
+        }
+      }
+    }
+    rentEngine.ownersReset(owners);
+  }
+
+  // ------------------------  player callbacks  ------------------------
+
+  boolean holds(MonopolyPlayer player, int asset) {
+    var bits = holdings.get(player);
+    return bits != null && bits.get(asset);
+  }
+
+  void acquired(MonopolyPlayer player, Ownable ownable) {
+    int asset = assetIdOf(ownable);
+    if (asset == NOT_ON_BOARD) {
+      return;
+    }
+    holdings.computeIfAbsent(player, unused -> new BitSet(owners.length)).set(asset);
+    if (owners[asset] == null) {
+      setOwner(asset, player);
+    }
+  }
+
+  void released(MonopolyPlayer player, Ownable ownable, boolean stillHeld) {
+    int asset = assetIdOf(ownable);
+    // a player holding an equal asset twice still owns it after giving one away
+    if (asset == NOT_ON_BOARD || stillHeld) {
+      return;
+    }
+    holdings.computeIfAbsent(player, unused -> new BitSet(owners.length)).clear(asset);
+    if (player.equals(owners[asset])) {
+      setOwner(asset, null);
+    }
+  }
+
+  void holdingsReplaced(MonopolyPlayer player) {
+    var bits = holdings.computeIfAbsent(player, unused -> new BitSet(owners.length));
+    for (int asset = bits.nextSetBit(0); asset >= 0; asset = bits.nextSetBit(asset + 1)) {
+      if (player.equals(owners[asset])) {
+        setOwner(asset, null);
+      }
+    }
+    bits.clear();
+    for (var ownable : player.getOwnedAssets()) {
+      acquired(player, ownable);
+    }
+  }
+
+  private void setOwner(int asset, MonopolyPlayer player) {
+    owners[asset] = player;
+    rentEngine.ownerChanged(asset, owners);
+  }
+}
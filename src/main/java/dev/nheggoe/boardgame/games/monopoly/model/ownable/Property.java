@@ -21,6 +21,12 @@ public final class Property implements Ownable {
   private final int price;
   private final List<Upgrade> upgrades;
 
+  // derived from the upgrades, recounted whenever they change or after deserialization
+  private transient boolean countsValid;
+  private transient int houses;
+  private transient int hotels;
+  private transient int cachedRent;
+
   /**
    * Constructs a new {@code Property} instance with the specified name, color, and price. Validates
    * that the name is not null or blank, the color is not null, and the price is not negative.
@@ -52,11 +58,16 @@ public final class Property implements Ownable {
     return price;
   }
 
+  /**
+   * Retrieves the rent of this property on its own, from its price and upgrades. Colour-group
+   * bonuses depend on who owns the other properties and are applied by {@link RentEngine}.
+   *
+   * @return the rent of the property
+   */
   @Override
   public int rent() {
-    int baseRent = (int) (price * 0.7);
-    int bonusRent = upgrades.stream().mapToInt(Upgrade::rentMultiplierPercentage).sum();
-    return baseRent + (baseRent * bonusRent / 100);
+    ensureCounts();
+    return cachedRent;
   }
 
   /**
@@ -67,6 +78,7 @@ public final class Property implements Ownable {
    */
   public void addUpgrade(Upgrade upgrade) {
     upgrades.add(upgrade);
+    countsValid = false;
   }
 
   /**
@@ -75,7 +87,8 @@ public final class Property implements Ownable {
    * @return true if the property has a hotel upgrade, false otherwise.
    */
   public boolean hasHotel() {
-    return upgrades.stream().anyMatch(u -> u.type() == UpgradeType.HOTEL);
+    ensureCounts();
+    return hotels > 0;
   }
 
   /**
@@ -95,7 +108,19 @@ public final class Property implements Ownable {
    * @return the total count of upgrades of type HOUSE.
    */
   public int countHouses() {
-    return (int) upgrades.stream().filter(u -> u.type() == UpgradeType.HOUSE).count();
+    ensureCounts();
+    return houses;
+  }
+
+  /**
+   * Replaces every upgrade on this property. Intended for restoring a game snapshot.
+   *
+   * @param upgrades the upgrades the property should have
+   */
+  public void restoreUpgrades(List<Upgrade> upgrades) {
+    this.upgrades.clear();
+    this.upgrades.addAll(upgrades);
+    countsValid = false;
   }
 
   /**
@@ -129,6 +154,26 @@ public final class Property implements Ownable {
     return color;
   }
 
+  private void ensureCounts() {
+    if (countsValid) {
+      return;
+    }
+    houses = 0;
+    hotels = 0;
+    int bonusRent = 0;
+    for (var upgrade : upgrades) {
+      if (upgrade.type() == UpgradeType.HOUSE) {
+        houses++;
+      } else if (upgrade.type() == UpgradeType.HOTEL) {
+        hotels++;
+      }
+      bonusRent += upgrade.rentMultiplierPercentage();
+    }
+    int baseRent = (int) (price * 0.7);
+    cachedRent = baseRent + (baseRent * bonusRent / 100);
+    countsValid = true;
+  }
+
   @Override
   public String toString() {
     return "Property[name=%s, price=%d, color=%s]".formatted(name, price, color);
@@ -0,0 +1,175 @@
+package dev.nheggoe.boardgame.games.monopoly.model.ownable;
+
+/**
+ * Computes the rent of the assets on a board with their group bonuses, kept up to date by the
+ * {@link OwnershipIndex} it belongs to.
+ *
+ * <p>Assets are grouped by colour for properties, and all railroads and all utilities form one
+ * group each. For every asset the engine keeps how many tiles of its group the owner of the asset
+ * holds, updating only the affected group whenever ownership changes. Together with the upgrade
+ * counts a {@link Property} keeps itself, looking up a rent takes constant time.
+ *
+ * <p>The group rules follow the board game:
+ *
+ * <ul>
+ *   <li>an unimproved property earns double rent while its owner holds the whole colour group,
+ *   <li>railroad rent doubles for every further railroad tile the owner holds, up to {@value
+ *       #MAX_RAILROAD_DOUBLINGS} times, and
+ *   <li>utility rent is multiplied by 10/4 while the owner holds every utility tile, mirroring the
+ *       step from four to ten times the dice.
+ * </ul>
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class RentEngine {
+
+  /** The number of groups an asset can belong to. */
+  public static final int GROUP_COUNT = Property.Color.values().length + 2;
+
+  /** The highest number of times railroad rent is doubled. */
+  public static final int MAX_RAILROAD_DOUBLINGS = 3;
+
+  private static final int RAILROAD_GROUP = Property.Color.values().length;
+  private static final int UTILITY_GROUP = RAILROAD_GROUP + 1;
+
+  private final Ownable[] assets;
+  private final int[] tileCounts;
+  private final int[] groupTiles;
+  private final int[][] groupMembers;
+  private final int[] ownedTilesInGroup;
+
+  /**
+   * Creates an engine for the numbered assets of a board.
+   *
+   * @param assets every asset on the board, by asset number
+   * @param tileCounts the number of tiles holding each asset
+   */
+  RentEngine(Ownable[] assets, int[] tileCounts) {
+    this.assets = assets;
+    this.tileCounts = tileCounts;
+    this.groupTiles = new int[GROUP_COUNT];
+    this.groupMembers = groupMembers(assets);
+    for (int asset = 0; asset < assets.length; asset++) {
+      groupTiles[groupOf(assets[asset])] += tileCounts[asset];
+    }
+    this.ownedTilesInGroup = new int[assets.length];
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Retrieves the group the given asset belongs to.
+   *
+   * @param ownable the asset
+   * @return a group number below {@link #GROUP_COUNT}
+   */
+  public static int groupOf(Ownable ownable) {
+    return switch (ownable) {
+      case Property property -> property.getColor().ordinal();
+      case Railroad unused -> RAILROAD_GROUP;
+      case Utility unused -> UTILITY_GROUP;
+    };
+  }
+
+  /**
+   * Lists the assets of every group, given every asset on a board by asset number.
+   *
+   * @param assets every asset on a board, by asset number
+   * @return the asset numbers in each group, indexed by {@link #groupOf(Ownable)}
+   */
+  public static int[][] groupMembers(Ownable[] assets) {
+    int[] sizes = new int[GROUP_COUNT];
+    for (var ownable : assets) {
+      sizes[groupOf(ownable)]++;
+    }
+    int[][] members = new int[GROUP_COUNT][];
+    for (int group = 0; group < GROUP_COUNT; group++) {
+      members[group] = new int[sizes[group]];
+    }
+    int[] filled = new int[GROUP_COUNT];
+    for (int asset = 0; asset < assets.length; asset++) {
+      int group = groupOf(assets[asset]);
+      members[group][filled[group]++] = asset;
+    }
+    return members;
+  }
+
+  /**
+   * Applies the group rules to the rent an asset earns on its own.
+   *
+   * @param ownable the asset
+   * @param rent the rent of the asset on its own, at its upgrade level
+   * @param level the upgrade level of the asset, which is 0 for anything but improved properties
+   * @param ownedTiles the number of tiles in the asset's group held by its owner
+   * @param groupTiles the number of tiles in the asset's group on the board
+   * @return the rent with group bonuses
+   */
+  public static int groupRent(
+      Ownable ownable, int rent, int level, int ownedTiles, int groupTiles) {
+    if (ownedTiles == 0) {
+      return rent;
+    }
+    boolean wholeGroup = ownedTiles == groupTiles;
+    return switch (ownable) {
+      case Property unused -> wholeGroup && level == 0 ? rent * 2 : rent;
+      case Railroad unused -> rent << Math.min(ownedTiles - 1, MAX_RAILROAD_DOUBLINGS);
+      case Utility unused -> wholeGroup && groupTiles > 1 ? rent * 10 / 4 : rent;
+    };
+  }
+
+  /**
+   * Retrieves the rent of the given asset, with the group bonus of its current owner.
+   *
+   * @param asset the asset number
+   * @return the rent a player landing on the asset pays
+   * @throws IndexOutOfBoundsException if there is no such asset
+   */
+  public int rentOf(int asset) {
+    var ownable = assets[asset];
+    int level = 0;
+    if (ownable instanceof Property property) {
+      level = property.countHouses() + (property.hasHotel() ? 1 : 0);
+    }
+    return groupRent(
+        ownable, ownable.rent(), level, ownedTilesInGroup[asset], groupTiles[groupOf(ownable)]);
+  }
+
+  /**
+   * Retrieves how many tiles of the asset's group its owner holds.
+   *
+   * @param asset the asset number
+   * @return the number of tiles, or 0 if nobody in play owns the asset
+   * @throws IndexOutOfBoundsException if there is no such asset
+   */
+  public int getOwnedTilesInGroup(int asset) {
+    return ownedTilesInGroup[asset];
+  }
+
+  // ------------------------  ownership callbacks  ------------------------
+
+  void ownerChanged(int asset, MonopolyPlayer[] owners) {
+    refreshGroup(groupOf(assets[asset]), owners);
+  }
+
+  void ownersReset(MonopolyPlayer[] owners) {
+    for (int group = 0; group < GROUP_COUNT; group++) {
+      refreshGroup(group, owners);
+    }
+  }
+
+  private void refreshGroup(int group, MonopolyPlayer[] owners) {
+    for (int asset : groupMembers[group]) {
+      var owner = owners[asset];
+      int owned = 0;
+      if (owner != null) {
+        for (int other : groupMembers[group]) {
+          if (owner.equals(owners[other])) {
+            owned += tileCounts[other];
+          }
+        }
+      }
+      ownedTilesInGroup[asset] = owned;
+    }
+  }
+}
@@ -86,4 +86,23 @@ public final class JailMonopolyTile extends CornerMonopolyTile {
     }
     return prisoners.get(player);
   }
+
+  /**
+   * Retrieves every player in jail together with the number of rounds they have left.
+   *
+   * @return an unmodifiable copy of the prisoners and their remaining rounds
+   */
+  public Map<Player, Integer> getPrisoners() {
+    return Map.copyOf(prisoners);
+  }
+
+  /**
+   * Replaces every prisoner and their remaining rounds. Intended for restoring a game snapshot.
+   *
+   * @param prisoners the players in jail and the number of rounds they have left
+   */
+  public void restorePrisoners(Map<Player, Integer> prisoners) {
+    this.prisoners.clear();
+    this.prisoners.putAll(prisoners);
+  }
 }
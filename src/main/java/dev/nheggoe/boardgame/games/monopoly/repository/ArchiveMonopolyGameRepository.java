@@ -0,0 +1,37 @@
+package dev.nheggoe.boardgame.games.monopoly.repository;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.io.FileUtil;
+import dev.nheggoe.boardgame.common.io.binary.SaveArchive;
+import dev.nheggoe.boardgame.common.repository.ArchiveRepository;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
+
+/**
+ * A repository for keeping a large number of saved MonopolyGame entities in a memory-mapped save
+ * archive, where a game is decoded only when it is looked up.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public class ArchiveMonopolyGameRepository extends ArchiveRepository<MonopolyGame> {
+
+  /**
+   * Constructs a repository on the default Monopoly save archive.
+   *
+   * @param eventBus the event bus given to games that are read back
+   * @param decisionProvider the decision provider given to games that are read back
+   * @throws NullPointerException if either parameter is null
+   * @throws dev.nheggoe.boardgame.common.io.binary.BinaryException if the archive cannot be opened
+   */
+  public ArchiveMonopolyGameRepository(
+      EventBus eventBus, MonopolyDecisionProvider decisionProvider) {
+    super(
+        new SaveArchive<>(
+            MonopolyGame.class,
+            eventBus,
+            decisionProvider,
+            FileUtil.generateFilePath("MonopolyGameArchive", "bin")),
+        MonopolyGame::getId);
+  }
+}
@@ -28,7 +28,8 @@ import javafx.scene.paint.Color;
  *
  * <p>Listens to PlayerMoved events and updates player visuals using the FigureAnimator. Maintains
  * the position and figure state of each player, ensuring consistent animation and synchronisation
- * with the game model.
+ * with the game model. Moves arriving within one JavaFX pulse are merged, keeping the latest move
+ * of every player, so the players are rendered at most once per frame.
  *
  * @author Mihailo Hranisavljevic
  * @version 2025.05.23
@@ -62,7 +63,7 @@ public class PlayerRender extends EventListeningComponent {
       int boardDimension,
       Supplier<List<SnakeAndLadderPlayer>> players,
       Pane animationLayer) {
-    super(eventBus, CoreEvent.PlayerMoved.class);
+    super(eventBus, PlayerRender::movedPlayer, CoreEvent.PlayerMoved.class);
     this.tileGrid = tileGrid;
     this.gridSize = boardDimension;
     this.players = requireNonNull(players);
@@ -84,6 +85,20 @@ public class PlayerRender extends EventListeningComponent {
     }
   }
 
+  /**
+   * Renders all players once for a batch of PlayerMoved events merged within one pulse.
+   *
+   * @param events the latest PlayerMoved event of every player that moved
+   */
+  @Override
+  protected void onEvents(List<Event> events) {
+    renderAll();
+  }
+
+  private static Object movedPlayer(Event event) {
+    return event instanceof CoreEvent.PlayerMoved(Player player) ? player : event;
+  }
+
   /**
    * Renders all players according to their current positions. Calculates player offsets for correct
    * stacking when multiple players occupy the same tile.
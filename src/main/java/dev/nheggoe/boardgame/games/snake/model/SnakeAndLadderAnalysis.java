@@ -0,0 +1,364 @@
+package dev.nheggoe.boardgame.games.snake.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Exact analytics for a {@link SnakeAndLadderBoard}, derived from the absorbing Markov chain of a
+ * single player rolling one die, as {@link SnakeAndLadderGame} does. The last tile is the only
+ * absorbing state.
+ *
+ * <p>Every row of the transition matrix has at most six non-zero entries, so the matrix is stored
+ * as a band of six resolved landing positions per position instead of as a dense matrix. Expected
+ * game lengths are solved with Gauss-Seidel sweeps over that band, and length distributions and win
+ * probabilities come from iterating the survival probability of every position at once.
+ *
+ * <p>Analyses are immutable and cached per board with {@link #of(SnakeAndLadderBoard)}. An analysis
+ * keeps no reference to its board, so the cache entry goes away with the board.
+ *
+ * @author Nick Heggø
+ * @version 2025.06.02
+ */
+public final class SnakeAndLadderAnalysis {
+
+  /** The number of faces on the die. */
+  public static final int FACES = 6;
+
+  /** The number of turns after which iterative results are cut off. */
+  public static final int MAX_TURNS = 100_000;
+
+  private static final double TOLERANCE = 1e-12;
+  private static final int MAX_SWEEPS = 1_000_000;
+
+  private static final Map<SnakeAndLadderBoard, SnakeAndLadderAnalysis> CACHE =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private final int size;
+  private final int[] landings;
+  private final boolean[] canFinish;
+  private final double[] expectedTurns;
+
+  private SnakeAndLadderAnalysis(SnakeAndLadderBoard board) {
+    this.size = board.size();
+    this.landings = resolveLandings(board);
+    this.canFinish = findFinishingPositions(size, landings);
+    this.expectedTurns = solveExpectedTurns(size, landings, canFinish);
+  }
+
+  /**
+   * Retrieves the analysis of the given board, computing it on first use. Equal boards share one
+   * analysis.
+   *
+   * @param board the board to analyse
+   * @return the analysis of the board
+   */
+  public static SnakeAndLadderAnalysis of(SnakeAndLadderBoard board) {
+    requireNonNull(board, "Board cannot be null!");
+    synchronized (CACHE) {
+      return CACHE.computeIfAbsent(board, SnakeAndLadderAnalysis::new);
+    }
+  }
+
+  // ------------------------  public interface  ------------------------
+
+  /**
+   * Retrieves the probability of moving from one position to another in a single turn.
+   *
+   * @param from the 1-based position before the turn
+   * @param to the 1-based position after the turn
+   * @return the transition probability
+   */
+  public double getTransitionProbability(int from, int to) {
+    assertPosition(from);
+    assertPosition(to);
+    if (from == size) {
+      return to == size ? 1 : 0;
+    }
+    int hits = 0;
+    for (int face = 0; face < FACES; face++) {
+      if (landings[(from - 1) * FACES + face] == to) {
+        hits++;
+      }
+    }
+    return (double) hits / FACES;
+  }
+
+  /**
+   * Retrieves the expected number of turns a player needs to reach the last tile from the first.
+   *
+   * @return the expected number of turns, or positive infinity if the last tile cannot be reached
+   */
+  public double getExpectedTurns() {
+    return getExpectedTurns(1);
+  }
+
+  /**
+   * Retrieves the expected number of turns a player needs to reach the last tile from a position.
+   *
+   * @param position the 1-based position of the player
+   * @return the expected number of turns, or positive infinity if the last tile cannot be reached
+   */
+  public double getExpectedTurns(int position) {
+    assertPosition(position);
+    return expectedTurns[position];
+  }
+
+  /**
+   * Retrieves the distribution of the number of turns a player needs to reach the last tile from
+   * the first.
+   *
+   * @param maxTurns the number of turns to include
+   * @return the probability of finishing in exactly {@code t} turns at index {@code t}
+   */
+  public double[] getTurnDistribution(int maxTurns) {
+    return getTurnDistribution(1, maxTurns);
+  }
+
+  /**
+   * Retrieves the distribution of the number of turns a player needs to reach the last tile from a
+   * position.
+   *
+   * @param position the 1-based position of the player
+   * @param maxTurns the number of turns to include
+   * @return the probability of finishing in exactly {@code t} turns at index {@code t}
+   * @throws IllegalArgumentException if the number of turns is negative
+   */
+  public double[] getTurnDistribution(int position, int maxTurns) {
+    assertPosition(position);
+    if (maxTurns < 0) {
+      throw new IllegalArgumentException("Number of turns cannot be negative!");
+    }
+    double[] distribution = new double[maxTurns + 1];
+    if (position == size) {
+      distribution[0] = 1;
+      return distribution;
+    }
+    double[] probabilities = new double[size + 1];
+    double[] next = new double[size + 1];
+    probabilities[position] = 1;
+    for (int turn = 1; turn <= maxTurns; turn++) {
+      Arrays.fill(next, 0);
+      for (int from = 1; from < size; from++) {
+        double probability = probabilities[from];
+        if (probability == 0) {
+          continue;
+        }
+        for (int face = 0; face < FACES; face++) {
+          next[landings[(from - 1) * FACES + face]] += probability;
+        }
+      }
+      // dividing once at the end keeps whole probabilities exact
+      for (int to = 1; to < size; to++) {
+        next[to] /= FACES;
+      }
+      distribution[turn] = next[size] / FACES;
+      next[size] = 0;
+      double[] swap = probabilities;
+      probabilities = next;
+      next = swap;
+    }
+    return distribution;
+  }
+
+  /**
+   * Calculates the probability that each player wins from the given positions, where the players
+   * take turns in the given order and the first one is the next to move. The probabilities are
+   * exact up to {@link #MAX_TURNS} turns each; if the last tile may never be reached, they sum to
+   * less than one.
+   *
+   * @param positions the 1-based position of every player, in turn order
+   * @return the win probability of every player, in the same order
+   * @throws IllegalArgumentException if no positions are given
+   */
+  public double[] getWinProbabilities(int... positions) {
+    requireNonNull(positions, "Positions cannot be null!");
+    if (positions.length == 0) {
+      throw new IllegalArgumentException("There must be at least one player!");
+    }
+    double[] wins = new double[positions.length];
+    for (int player = 0; player < positions.length; player++) {
+      assertPosition(positions[player]);
+      if (positions[player] == size) {
+        wins[player] = 1;
+        return wins;
+      }
+    }
+
+    // survival[p] is the probability of not having finished from p within the turns played so far
+    double[] previous = new double[size + 1];
+    double[] survival = new double[size + 1];
+    Arrays.fill(previous, 1, size, 1);
+    double lastStillPlaying = 1;
+    for (int turn = 1; turn <= MAX_TURNS; turn++) {
+      survivalStep(previous, survival);
+      double before = 1;
+      double stillPlaying = 1;
+      for (int player = 0; player < positions.length; player++) {
+        stillPlaying *= survival[positions[player]];
+      }
+      for (int player = 0; player < positions.length; player++) {
+        int position = positions[player];
+        double finishesNow = previous[position] - survival[position];
+        if (finishesNow > 0) {
+          double after = 1;
+          for (int later = player + 1; later < positions.length; later++) {
+            after *= previous[positions[later]];
+          }
+          wins[player] += before * finishesNow * after;
+        }
+        before *= survival[position];
+      }
+      // stop once the game is decided, or once only players who can never finish are left; any
+      // path to the last tile is shorter than the board, so after that many turns nothing changes
+      if (stillPlaying < TOLERANCE || (turn > size && stillPlaying == lastStillPlaying)) {
+        break;
+      }
+      lastStillPlaying = stillPlaying;
+      double[] swap = previous;
+      previous = survival;
+      survival = swap;
+    }
+    return wins;
+  }
+
+  // ------------------------  private  ------------------------
+
+  private void survivalStep(double[] previous, double[] survival) {
+    for (int from = 1; from < size; from++) {
+      double sum = 0;
+      for (int face = 0; face < FACES; face++) {
+        sum += previous[landings[(from - 1) * FACES + face]];
+      }
+      survival[from] = sum / FACES;
+    }
+  }
+
+  private void assertPosition(int position) {
+    if (position < 1 || position > size) {
+      throw new IllegalArgumentException(
+          "Position %d is not on the board of size %d!".formatted(position, size));
+    }
+  }
+
+  /**
+   * Resolves where a player lands for every position and face, following the rules of {@link
+   * SnakeAndLadderGame}: a move reaching the last tile ends the game there, any other move follows
+   * the snakes and ladders from the tile it lands on.
+   */
+  private static int[] resolveLandings(SnakeAndLadderBoard board) {
+    int size = board.size();
+    int[] landings = new int[Math.max(size - 1, 0) * FACES];
+    for (int from = 1; from < size; from++) {
+      for (int face = 1; face <= FACES; face++) {
+        int target = from + face;
+        landings[(from - 1) * FACES + face - 1] =
+            target >= size ? size : board.getDestination(target);
+      }
+    }
+    return landings;
+  }
+
+  /**
+   * Finds every position from which the last tile is reached with probability one, which is every
+   * position that cannot reach a position the last tile cannot be reached from.
+   */
+  private static boolean[] findFinishingPositions(int size, int[] landings) {
+    boolean[] finishes = new boolean[size + 1];
+    if (size == 0) {
+      return finishes;
+    }
+    // predecessors of position p are predecessors[offsets[p] .. offsets[p + 1])
+    int[] offsets = new int[size + 2];
+    for (int landing : landings) {
+      offsets[landing + 1]++;
+    }
+    for (int position = 1; position <= size + 1; position++) {
+      offsets[position] += offsets[position - 1];
+    }
+    int[] predecessors = new int[landings.length];
+    int[] fill = offsets.clone();
+    for (int index = 0; index < landings.length; index++) {
+      predecessors[fill[landings[index]]++] = index / FACES + 1;
+    }
+
+    boolean[] reachesEnd = new boolean[size + 1];
+    reachesEnd[size] = true;
+    markPredecessors(new int[] {size}, 1, reachesEnd, offsets, predecessors);
+
+    boolean[] reachesTrap = new boolean[size + 1];
+    int[] traps = new int[size];
+    int trapCount = 0;
+    for (int position = 1; position < size; position++) {
+      if (!reachesEnd[position]) {
+        reachesTrap[position] = true;
+        traps[trapCount++] = position;
+      }
+    }
+    markPredecessors(traps, trapCount, reachesTrap, offsets, predecessors);
+
+    for (int position = 1; position <= size; position++) {
+      finishes[position] = !reachesTrap[position];
+    }
+    return finishes;
+  }
+
+  /** Marks every position that can reach one of the seeds, which must already be marked. */
+  private static void markPredecessors(
+      int[] seeds, int seedCount, boolean[] marked, int[] offsets, int[] predecessors) {
+    int[] stack = new int[marked.length];
+    System.arraycopy(seeds, 0, stack, 0, seedCount);
+    int top = seedCount;
+    while (top > 0) {
+      int position = stack[--top];
+      for (int i = offsets[position]; i < offsets[position + 1]; i++) {
+        int predecessor = predecessors[i];
+        if (!marked[predecessor]) {
+          marked[predecessor] = true;
+          stack[top++] = predecessor;
+        }
+      }
+    }
+  }
+
+  /**
+   * Solves {@code E[p] = 1 + sum(E[landing]) / 6} with Gauss-Seidel, sweeping from the last tile
+   * towards the first so that most landings are already up to date.
+   */
+  private static double[] solveExpectedTurns(int size, int[] landings, boolean[] canFinish) {
+    double[] expected = new double[size + 1];
+    for (int position = 1; position < size; position++) {
+      if (!canFinish[position]) {
+        expected[position] = Double.POSITIVE_INFINITY;
+      }
+    }
+    for (int sweep = 0; sweep < MAX_SWEEPS; sweep++) {
+      double largestChange = 0;
+      for (int from = size - 1; from >= 1; from--) {
+        if (!canFinish[from]) {
+          continue;
+        }
+        double sum = 0;
+        int selfLoops = 0;
+        for (int face = 0; face < FACES; face++) {
+          int landing = landings[(from - 1) * FACES + face];
+          if (landing == from) {
+            selfLoops++;
+          } else {
+            sum += expected[landing];
+          }
+        }
+        double value = (FACES + sum) / (FACES - selfLoops);
+        largestChange = Math.max(largestChange, Math.abs(value - expected[from]) / value);
+        expected[from] = value;
+      }
+      if (largestChange < TOLERANCE) {
+        break;
+      }
+    }
+    return expected;
+  }
+}
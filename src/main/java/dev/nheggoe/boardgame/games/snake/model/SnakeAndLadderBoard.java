@@ -6,11 +6,19 @@ import dev.nheggoe.boardgame.games.snake.model.tile.LadderTile;
 import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
 import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
 import dev.nheggoe.boardgame.games.snake.model.tile.SnakeTile;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Represents the board layout for a Snake and Ladder game.
  *
+ * <p>Positions are 1-based: position {@code p} is the tile at index {@code p - 1}. When the board
+ * is created, every position is resolved to the position a player ends up on after following all
+ * chained snakes and ladders from it, so a move is resolved with a single array lookup. The
+ * resolved positions are kept by the tile list itself, so boards are still equal when their tiles
+ * are.
+ *
  * @param tiles the list of tiles composing the board
  * @author Nick Heggø, Mihailo Hranisavljevic
  * @version 2025.05.21
@@ -19,14 +27,31 @@ public record SnakeAndLadderBoard(List<SnakeAndLadderTile> tiles)
     implements Board<SnakeAndLadderTile> {
 
   /**
-   * Constructs a new SnakeAndLadderBoard.
+   * Constructs a new SnakeAndLadderBoard and resolves the destination of every position.
    *
    * @param tiles the tile list to initialise the board with
-   * @throws InvalidBoardLayoutException if any tile is null or logically invalid
+   * @throws InvalidBoardLayoutException if any tile is null or logically invalid, or if snakes and
+   *     ladders form a loop
    */
   public SnakeAndLadderBoard {
     validateTiles(tiles);
-    tiles = List.copyOf(tiles);
+    tiles = new ResolvedTiles(List.copyOf(tiles));
+  }
+
+  /**
+   * Returns the position a player ends up on after landing on the given position and following
+   * every snake and ladder from there.
+   *
+   * @param position the 1-based position the player landed on
+   * @return the 1-based position the player ends up on
+   * @throws IndexOutOfBoundsException if the position is not on the board
+   */
+  public int getDestination(int position) {
+    if (position < 1 || position > tiles.size()) {
+      throw new IndexOutOfBoundsException(
+          "Position %d is not on the board of size %d".formatted(position, tiles.size()));
+    }
+    return ((ResolvedTiles) tiles).destinations[position];
   }
 
   /**
@@ -50,6 +75,51 @@ public record SnakeAndLadderBoard(List<SnakeAndLadderTile> tiles)
     return tiles.size();
   }
 
+  /**
+   * Follows the snakes and ladders from every position. Positions on a chain that is already being
+   * followed are marked, so a chain that runs into itself is reported instead of looping forever.
+   *
+   * @param tiles the validated tiles
+   * @return the destination of every position, indexed by position
+   * @throws InvalidBoardLayoutException if snakes and ladders form a loop
+   */
+  private static int[] resolveDestinations(List<SnakeAndLadderTile> tiles) {
+    int size = tiles.size();
+    int[] destinations = new int[size + 1];
+    boolean[] onChain = new boolean[size + 1];
+    int[] chain = new int[size + 1];
+    for (int start = 1; start <= size; start++) {
+      int length = 0;
+      int position = start;
+      while (destinations[position] == 0) {
+        if (onChain[position]) {
+          throw new InvalidBoardLayoutException(
+              "Snakes and ladders starting at tile %d form a loop.".formatted(position));
+        }
+        onChain[position] = true;
+        chain[length++] = position;
+        int next = nextHop(tiles, position);
+        if (next == position) {
+          destinations[position] = position;
+        }
+        position = next;
+      }
+      for (int i = 0; i < length; i++) {
+        destinations[chain[i]] = destinations[position];
+        onChain[chain[i]] = false;
+      }
+    }
+    return destinations;
+  }
+
+  private static int nextHop(List<SnakeAndLadderTile> tiles, int position) {
+    return switch (tiles.get(position - 1)) {
+      case SnakeTile(int tilesToSlideBack) -> Math.max(position - tilesToSlideBack, 1);
+      case LadderTile(int tilesToSkip) -> Math.min(position + tilesToSkip, tiles.size());
+      case NormalTile ignored -> position;
+    };
+  }
+
   /**
    * Validates all tiles for null entries and logical consistency.
    *
@@ -101,4 +171,30 @@ public record SnakeAndLadderBoard(List<SnakeAndLadderTile> tiles)
           "Ladder tile at index %d must have a non-negative skip.".formatted(index));
     }
   }
+
+  /**
+   * The unmodifiable tiles of a board, together with the destination of every position resolved
+   * from them. Equality is that of any other list with the same tiles.
+   */
+  private static final class ResolvedTiles extends AbstractList<SnakeAndLadderTile>
+      implements RandomAccess {
+
+    private final List<SnakeAndLadderTile> tiles;
+    private final int[] destinations;
+
+    private ResolvedTiles(List<SnakeAndLadderTile> tiles) {
+      this.tiles = tiles;
+      this.destinations = resolveDestinations(tiles);
+    }
+
+    @Override
+    public SnakeAndLadderTile get(int index) {
+      return tiles.get(index);
+    }
+
+    @Override
+    public int size() {
+      return tiles.size();
+    }
+  }
 }
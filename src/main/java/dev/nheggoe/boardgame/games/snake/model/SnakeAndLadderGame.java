@@ -1,10 +1,13 @@
 package dev.nheggoe.boardgame.games.snake.model;
 
 import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.event.type.CoreEvent;
+import dev.nheggoe.boardgame.common.event.type.UserInterfaceEvent;
 import dev.nheggoe.boardgame.core.model.Board;
 import dev.nheggoe.boardgame.core.model.Game;
 import dev.nheggoe.boardgame.core.model.TileAction;
 import dev.nheggoe.boardgame.core.model.dice.Dice;
+import dev.nheggoe.boardgame.core.simulation.ReplayRandom;
 import dev.nheggoe.boardgame.games.snake.model.tile.LadderTile;
 import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
 import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
@@ -13,6 +16,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the core logic of a Snake and Ladder game. Handles player turns, movement, tile
@@ -32,7 +37,42 @@ public class SnakeAndLadderGame extends Game<SnakeAndLadderTile, SnakeAndLadderP
    */
   public SnakeAndLadderGame(
       EventBus eventBus, Board<SnakeAndLadderTile> board, List<SnakeAndLadderPlayer> players) {
-    super(eventBus, board, players);
+    this(eventBus, board, players, ReplayRandom.withRandomSeed());
+  }
+
+  /**
+   * Constructs a new Snake and Ladder game that rolls its dice with the given generator.
+   *
+   * @param eventBus event bus for broadcasting game events
+   * @param board the board layout with snake and ladder tiles
+   * @param players list of players in the game
+   * @param random the generator owned by this game
+   */
+  public SnakeAndLadderGame(
+      EventBus eventBus,
+      Board<SnakeAndLadderTile> board,
+      List<SnakeAndLadderPlayer> players,
+      RandomGenerator random) {
+    this(UUID.randomUUID(), eventBus, board, players, random);
+  }
+
+  /**
+   * Constructs a Snake and Ladder game with the given identifier, e.g. a game read back from a
+   * save, that rolls its dice with the given generator.
+   *
+   * @param id the unique identifier of the game
+   * @param eventBus event bus for broadcasting game events
+   * @param board the board layout with snake and ladder tiles
+   * @param players list of players in the game
+   * @param random the generator owned by this game
+   */
+  public SnakeAndLadderGame(
+      UUID id,
+      EventBus eventBus,
+      Board<SnakeAndLadderTile> board,
+      List<SnakeAndLadderPlayer> players,
+      RandomGenerator random) {
+    super(id, eventBus, board, players, random);
     for (SnakeAndLadderPlayer player : players) {
       player.setPosition(1);
     }
@@ -45,15 +85,47 @@ public class SnakeAndLadderGame extends Game<SnakeAndLadderTile, SnakeAndLadderP
   }
 
   /**
-   * Rolls a die for the given player, moves them, and applies tile logic.
+   * Rolls a die for the given player, moves them, and applies tile logic. The destination comes
+   * straight from the board's resolved snakes and ladders; every hop is only played out one by one
+   * when someone listens for moves or output.
    *
    * @param player the player taking the turn
    */
   private void rollAndMovePlayer(SnakeAndLadderPlayer player) {
-    var diceRoll = Dice.roll(1);
+    var diceRoll = Dice.roll(1, getRandom());
     movePlayer(player, diceRoll.getTotal());
-    println("Player %s moved to tile %d".formatted(player.getName(), player.getPosition()));
 
+    if (isObserved()) {
+      println("Player %s moved to tile %d".formatted(player.getName(), player.getPosition()));
+      followHops(player);
+    } else {
+      int destination = getBoard().getDestination(player.getPosition());
+      if (destination != player.getPosition()) {
+        player.setPosition(destination);
+        stateChanged();
+      }
+    }
+
+    if (player.getPosition() == getBoard().size()) {
+      if (isObserved()) {
+        println("Player %s has won the game!".formatted(player.getName()));
+      }
+      completeRoundAction(player);
+    }
+  }
+
+  private boolean isObserved() {
+    var eventBus = getEventBus();
+    return eventBus.hasListeners(CoreEvent.PlayerMoved.class)
+        || eventBus.hasListeners(UserInterfaceEvent.Output.class);
+  }
+
+  /**
+   * Moves the player along every snake and ladder one hop at a time, publishing an event per hop.
+   *
+   * @param player the player to move
+   */
+  private void followHops(SnakeAndLadderPlayer player) {
     while (true) {
       SnakeAndLadderTile tile = getTile(player.getPosition() - 1);
       TileAction<SnakeAndLadderPlayer> action = tileActionOf(tile);
@@ -63,11 +135,6 @@ public class SnakeAndLadderGame extends Game<SnakeAndLadderTile, SnakeAndLadderP
 
       if (player.getPosition() == before || tile instanceof NormalTile) break;
     }
-
-    if (player.getPosition() == getBoard().size()) {
-      println("Player %s has won the game!".formatted(player.getName()));
-      completeRoundAction(player);
-    }
   }
 
   /**
@@ -95,6 +162,7 @@ public class SnakeAndLadderGame extends Game<SnakeAndLadderTile, SnakeAndLadderP
       int from = player.getPosition();
       int to = Math.max(from - tilesToSlideBack, 1);
       player.setPosition(to);
+      stateChanged();
       notifyPlayerMoved(player);
       println(
           "Player %s landed on Snake at tile %d and slid back to tile %d"
@@ -113,6 +181,7 @@ public class SnakeAndLadderGame extends Game<SnakeAndLadderTile, SnakeAndLadderP
       int from = player.getPosition();
       int to = Math.min(from + tilesToSkip, getBoard().size());
       player.setPosition(to);
+      stateChanged();
       notifyPlayerMoved(player);
       println(
           "Player %s landed on Ladder at tile %d and climbed to tile %d"
@@ -169,6 +238,7 @@ public class SnakeAndLadderGame extends Game<SnakeAndLadderTile, SnakeAndLadderP
 
     if (target >= max) {
       player.setPosition(max);
+      stateChanged();
       notifyPlayerMoved(player);
       completeRoundAction(player);
       return;
@@ -177,6 +247,7 @@ public class SnakeAndLadderGame extends Game<SnakeAndLadderTile, SnakeAndLadderP
     if (target < 1) target = 1;
 
     player.setPosition(target);
+    stateChanged();
     notifyPlayerMoved(player);
   }
 }
@@ -0,0 +1,105 @@
+package dev.nheggoe.boardgame.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import dev.nheggoe.boardgame.common.event.AsyncEventPublisher.OverflowPolicy;
+import dev.nheggoe.boardgame.common.event.AsyncEventPublisher.WaitStrategy;
+import dev.nheggoe.boardgame.common.event.type.Event;
+import dev.nheggoe.boardgame.common.event.type.SnakeAndLadderEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncEventPublisherTest {
+
+  @Mock private EventListener listener;
+
+  @Test
+  void blockingSubscriber_receivesEveryEventInOrder() {
+    var received = new CopyOnWriteArrayList<Event>();
+    doAnswer(invocation -> received.add(invocation.getArgument(0))).when(listener).onEvent(any());
+
+    try (var publisher = new AsyncEventPublisher(4)) {
+      publisher
+          .subscribe("stats", OverflowPolicy.BLOCK, WaitStrategy.YIELDING)
+          .addListener(SnakeAndLadderEvent.class, listener);
+      for (int i = 0; i < 1000; i++) {
+        publisher.publishEvent(new SnakeAndLadderEvent.SnakeEncountered(i));
+      }
+    }
+
+    assertThat(received).hasSize(1000);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(received.get(i)).isEqualTo(new SnakeAndLadderEvent.SnakeEncountered(i));
+    }
+  }
+
+  @Test
+  void droppingSubscriber_neverHoldsThePublisherBack() throws InterruptedException {
+    var release = new CountDownLatch(1);
+    doAnswer(invocation -> release.await(10, TimeUnit.SECONDS)).when(listener).onEvent(any());
+
+    AsyncEventPublisher.Subscriber animation;
+    try (var publisher = new AsyncEventPublisher(8)) {
+      animation = publisher.subscribe("animation", OverflowPolicy.DROP, WaitStrategy.SLEEPING);
+      animation.addListener(Event.class, listener);
+      for (int i = 0; i < 100; i++) {
+        publisher.publishEvent(new SnakeAndLadderEvent.LadderEncountered(i));
+      }
+      release.countDown();
+    }
+
+    assertThat(animation.getDroppedCount()).isPositive();
+    assertThat(animation.getProcessedCount() + animation.getDroppedCount()).isEqualTo(100);
+    assertThat(animation.getBatchCount()).isLessThanOrEqualTo(animation.getProcessedCount());
+  }
+
+  @Test
+  @Timeout(10)
+  void blockingSubscriberStoppedByAnError_releasesThePublisher() {
+    doAnswer(
+            invocation -> {
+              throw new AssertionError("listener failed");
+            })
+        .when(listener)
+        .onEvent(any());
+
+    try (var publisher = new AsyncEventPublisher(4, WaitStrategy.YIELDING)) {
+      var stats = publisher.subscribe("stats", OverflowPolicy.BLOCK, WaitStrategy.YIELDING);
+      stats.addListener(SnakeAndLadderEvent.class, listener);
+      // the subscriber dies on the first event, so these would fill the ring and block forever
+      for (int i = 0; i < 100; i++) {
+        publisher.publishEvent(new SnakeAndLadderEvent.SnakeEncountered(i));
+      }
+
+      assertThat(stats.getProcessedCount()).isZero();
+    }
+  }
+
+  @Test
+  void defaultSubscriber_servesAddListener() {
+    var publisher = new AsyncEventPublisher(3);
+    assertThat(publisher.getCapacity()).isEqualTo(4);
+    assertThat(publisher.hasListeners(SnakeAndLadderEvent.SnakeEncountered.class)).isFalse();
+
+    publisher.addListener(SnakeAndLadderEvent.SnakeEncountered.class, listener);
+    publisher.close();
+
+    assertThat(publisher.hasListeners(SnakeAndLadderEvent.SnakeEncountered.class)).isTrue();
+    assertThat(publisher.getSubscribers())
+        .extracting(AsyncEventPublisher.Subscriber::getName)
+        .isEqualTo(List.of("default"));
+    assertThatThrownBy(() -> publisher.publishEvent(new SnakeAndLadderEvent.SnakeEncountered(1)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
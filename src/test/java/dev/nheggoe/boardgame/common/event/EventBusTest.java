@@ -1,8 +1,21 @@
 package dev.nheggoe.boardgame.common.event;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import dev.nheggoe.boardgame.common.event.type.CoreEvent;
+import dev.nheggoe.boardgame.common.event.type.Event;
+import dev.nheggoe.boardgame.common.event.type.SnakeAndLadderEvent;
+import dev.nheggoe.boardgame.common.event.type.UserInterfaceEvent;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -12,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class EventBusTest {
 
   @Mock private EventListener listener;
+  @Mock private EventListener otherListener;
 
   @Test
   void testBasic() {
@@ -46,4 +60,92 @@ class EventBusTest {
     eventBus.addListener(CoreEvent.PlayerRemoved.class, listener);
     assertThrows(NullPointerException.class, () -> eventBus.publishEvent(null));
   }
+
+  @Test
+  void testHasListeners() {
+    var eventBus = new EventBus();
+    assertFalse(eventBus.hasListeners(CoreEvent.PlayerRemoved.class));
+    eventBus.addListener(CoreEvent.PlayerRemoved.class, listener);
+    assertTrue(eventBus.hasListeners(CoreEvent.PlayerRemoved.class));
+    assertFalse(eventBus.hasListeners(CoreEvent.PlayerMoved.class));
+    eventBus.removeListener(CoreEvent.PlayerRemoved.class, listener);
+    assertFalse(eventBus.hasListeners(CoreEvent.PlayerRemoved.class));
+  }
+
+  @Test
+  void testHierarchyDispatch() {
+    var eventBus = new EventBus();
+    var event = new SnakeAndLadderEvent.SnakeEncountered(4);
+    eventBus.addListener(Event.class, otherListener);
+    eventBus.addListener(SnakeAndLadderEvent.SnakeEncountered.class, listener);
+
+    assertTrue(eventBus.hasListeners(SnakeAndLadderEvent.LadderEncountered.class));
+    assertTrue(eventBus.hasListeners(SnakeAndLadderEvent.class));
+    eventBus.publishEvent(event);
+
+    var order = inOrder(listener, otherListener);
+    order.verify(listener).onEvent(event);
+    order.verify(otherListener).onEvent(event);
+  }
+
+  @Test
+  void testInterfaceSubscription() {
+    var eventBus = new EventBus();
+    eventBus.addListener(SnakeAndLadderEvent.class, listener);
+    var output = new UserInterfaceEvent.Output("hello");
+
+    eventBus.publishEvent(output);
+    eventBus.publishEvent(new SnakeAndLadderEvent.LadderEncountered(3));
+
+    verify(listener, never()).onEvent(output);
+    verify(listener).onEvent(new SnakeAndLadderEvent.LadderEncountered(3));
+    eventBus.removeListener(SnakeAndLadderEvent.class, listener);
+    assertFalse(eventBus.hasListeners(SnakeAndLadderEvent.LadderEncountered.class));
+  }
+
+  @Test
+  void testPublishCounters() {
+    var eventBus = new EventBus();
+    eventBus.publishEvent(new SnakeAndLadderEvent.SnakeEncountered(1));
+    eventBus.addListener(SnakeAndLadderEvent.class, listener);
+    eventBus.publishEvent(new SnakeAndLadderEvent.SnakeEncountered(2));
+    eventBus.publishEvent(new SnakeAndLadderEvent.LadderEncountered(3));
+
+    assertEquals(2, eventBus.getPublishCount(SnakeAndLadderEvent.SnakeEncountered.class));
+    assertEquals(3, eventBus.getPublishCount(SnakeAndLadderEvent.class));
+    assertEquals(0, eventBus.getPublishCount(CoreEvent.class));
+    assertTrue(eventBus.getListenerNanos(Event.class) >= 0);
+  }
+
+  @Test
+  void testConcurrentPublishAndSubscribe() throws InterruptedException {
+    var eventBus = new EventBus();
+    var received = new AtomicInteger();
+    doAnswer(invocation -> received.incrementAndGet()).when(otherListener).onEvent(any());
+    eventBus.addListener(SnakeAndLadderEvent.class, otherListener);
+    var start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int thread = 0; thread < 4; thread++) {
+      executor.execute(
+          () -> {
+            try {
+              start.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            for (int i = 0; i < 1000; i++) {
+              eventBus.publishEvent(new SnakeAndLadderEvent.SnakeEncountered(i));
+              eventBus.addListener(CoreEvent.DiceRolled.class, listener);
+              eventBus.removeListener(CoreEvent.DiceRolled.class, listener);
+            }
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(4000, received.get());
+    assertEquals(4000, eventBus.getPublishCount(SnakeAndLadderEvent.SnakeEncountered.class));
+    assertFalse(eventBus.hasListeners(CoreEvent.DiceRolled.class));
+  }
 }
@@ -2,11 +2,16 @@ package dev.nheggoe.boardgame.common.io;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class FileUtilTest {
 
+  @TempDir Path tempDir;
+
   @Test
   void test_generatedFilPath() {
     assertThat(FileUtil.generateFilePath("test", "json")).isEqualTo(Path.of("data/json/test.json"));
@@ -35,4 +40,34 @@ class FileUtilTest {
     assertThatThrownBy(() -> FileUtil.ensureFileAndDirectoryExists(null))
         .isInstanceOf(NullPointerException.class);
   }
+
+  @Test
+  void writeAtomically_replacesTheFileAndLeavesNoTemporaryFile() throws IOException {
+    var file = tempDir.resolve("saves").resolve("game.json");
+
+    FileUtil.writeAtomically(file, writer -> writer.write("[1]"));
+    FileUtil.writeAtomically(file, writer -> writer.write("[1,2]"));
+
+    assertThat(file).hasContent("[1,2]");
+    assertThat(file.getParent()).isDirectoryNotContaining("glob:**.tmp");
+  }
+
+  @Test
+  void writeAtomically_failedWrite_keepsTheOldContent() throws IOException {
+    var file = tempDir.resolve("game.json");
+    Files.writeString(file, "[1]");
+
+    assertThatThrownBy(
+            () ->
+                FileUtil.writeAtomically(
+                    file,
+                    writer -> {
+                      writer.write("[1,");
+                      throw new IOException("disk full");
+                    }))
+        .isInstanceOf(IOException.class);
+
+    assertThat(file).hasContent("[1]");
+    assertThat(tempDir).isDirectoryNotContaining("glob:**.tmp");
+  }
 }
@@ -0,0 +1,277 @@
+package dev.nheggoe.boardgame.common.io.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.io.json.JsonWriter;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.core.simulation.ReplayRandom;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AutomaticDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Railroad;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Utility;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.CornerMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TaxMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.Upgrade;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoard;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderGame;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderPlayer;
+import dev.nheggoe.boardgame.games.snake.model.tile.LadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeTile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinaryServiceTest {
+
+  @TempDir Path directory;
+
+  private final EventBus eventBus = mock(EventBus.class);
+  private final MonopolyDecisionProvider decisions = AutomaticDecisionProvider.alwaysAccept();
+
+  private static MonopolyGame createMonopolyGame() {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    for (int i = 0; i < 6; i++) {
+      tiles.add(new OwnableMonopolyTile(new Property("Street " + i, Property.Color.RED, 60)));
+    }
+    tiles.add(new OwnableMonopolyTile(new Railroad(200)));
+    tiles.add(new OwnableMonopolyTile(new Utility("Water Works", 150)));
+    var players =
+        List.of(
+            new MonopolyPlayer("Alice", Player.Figure.CAR),
+            new MonopolyPlayer("Bob", Player.Figure.HAT),
+            new MonopolyPlayer("Carol", Player.Figure.CAT));
+    var game =
+        new MonopolyGame(
+            mock(EventBus.class),
+            new MonopolyBoard(tiles),
+            players,
+            AutomaticDecisionProvider.alwaysAccept(),
+            new ReplayRandom(7));
+    game.setGameSaveName("Friday night");
+    return game;
+  }
+
+  private static List<String> stateOf(MonopolyGame game) {
+    return game.getSeatedPlayers().stream()
+        .map(
+            p ->
+                p.getName()
+                    + "@"
+                    + p.getPosition()
+                    + "$"
+                    + p.getBalance()
+                    + p.getOwnedAssets().stream().map(Object::toString).toList())
+        .toList();
+  }
+
+  @Test
+  void monopolyGame_roundTripKeepsPlayersHoldingsAndTurnOrder() {
+    var game = createMonopolyGame();
+    for (int turn = 0; turn < 25 && !game.isEnded(); turn++) {
+      game.nextTurn();
+    }
+    var service =
+        new BinaryService<>(MonopolyGame.class, eventBus, decisions, directory.resolve("g.bin"));
+
+    service.serializeToSource(Set.of(game));
+    var loaded = service.deserializeFromSource().toList();
+
+    assertThat(loaded).hasSize(1);
+    var copy = loaded.getFirst();
+    assertThat(copy.getId()).isEqualTo(game.getId());
+    assertThat(copy.getGameSaveName()).isEqualTo("Friday night");
+    assertThat(copy.getBoard().tiles()).hasSameSizeAs(game.getBoard().tiles());
+    assertThat(stateOf(copy)).isEqualTo(stateOf(game));
+    assertThat(copy.getPlayers())
+        .map(Player::getName)
+        .isEqualTo(game.getPlayers().stream().map(Player::getName).toList());
+    assertThat(copy.snapshot().getRoundNumber()).isEqualTo(game.snapshot().getRoundNumber());
+    assertThat(copy.getCurrentPlayer().getName()).isEqualTo(game.getCurrentPlayer().getName());
+
+    for (int turn = 0; turn < 10 && !game.isEnded(); turn++) {
+      game.nextTurn();
+      copy.nextTurn();
+      assertThat(copy.getCurrentPlayer().getName()).isEqualTo(game.getCurrentPlayer().getName());
+      assertThat(stateOf(copy)).isEqualTo(stateOf(game));
+    }
+  }
+
+  @Test
+  void monopolyGame_roundTripKeepsJailUpgradesAndEveryTile() {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    var colors = Property.Color.values();
+    for (int i = 0; i < 5; i++) {
+      tiles.add(new OwnableMonopolyTile(new Property("Street " + i, colors[i], 60 + 40 * i)));
+    }
+    tiles.add(new OwnableMonopolyTile(new Railroad(200)));
+    tiles.add(new OwnableMonopolyTile(new Utility("Water Works", 150)));
+    tiles.add(new TaxMonopolyTile(10));
+    var alice = new MonopolyPlayer("Alice", Player.Figure.CAR);
+    var bob = new MonopolyPlayer("Bob", Player.Figure.HAT);
+    var game =
+        new MonopolyGame(
+            eventBus,
+            new MonopolyBoard(tiles),
+            List.of(alice, bob),
+            decisions,
+            new ReplayRandom(5));
+    var board = game.getBoard();
+    int streetPosition = 0;
+    while (!(board.getTileAtIndex(streetPosition)
+        instanceof OwnableMonopolyTile(Property ignored))) {
+      streetPosition++;
+    }
+    var street = (Property) ((OwnableMonopolyTile) board.getTileAtIndex(streetPosition)).ownable();
+    alice.purchase(street);
+    street.addUpgrade(new Upgrade(UpgradeType.HOUSE, 20));
+    street.addUpgrade(new Upgrade(UpgradeType.HOUSE, 20));
+    board.getJailTile().jailForNumberOfRounds(bob, 2);
+    var service =
+        new BinaryService<>(MonopolyGame.class, eventBus, decisions, directory.resolve("g.bin"));
+
+    service.serializeToSource(Set.of(game));
+    var copy = service.deserializeFromSource().findFirst().orElseThrow();
+
+    var copyBoard = copy.getBoard();
+    assertThat(copyBoard.getJailTile().getPrisoners())
+        .hasSize(1)
+        .allSatisfy(
+            (prisoner, rounds) -> {
+              assertThat(prisoner.getName()).isEqualTo("Bob");
+              assertThat(rounds).isEqualTo(2);
+            });
+    var copyStreet =
+        (Property) ((OwnableMonopolyTile) copyBoard.getTileAtIndex(streetPosition)).ownable();
+    assertThat(copyStreet.getUpgrades()).isEqualTo(street.getUpgrades()).hasSize(2);
+    assertThat(copy.getSeatedPlayers().getFirst().getOwnedAssets()).containsExactly(copyStreet);
+    assertThat(copyBoard.size()).isEqualTo(board.size());
+    for (int position = 0; position < board.size(); position++) {
+      var original = board.getTileAtIndex(position);
+      var decoded = copyBoard.getTileAtIndex(position);
+      assertThat(decoded).as("tile %d", position).isExactlyInstanceOf(original.getClass());
+      switch (original) {
+        case OwnableMonopolyTile(Property property) -> {
+          var decodedProperty = (Property) ((OwnableMonopolyTile) decoded).ownable();
+          assertThat(decodedProperty.getName()).isEqualTo(property.getName());
+          assertThat(decodedProperty.getColor()).isEqualTo(property.getColor());
+          assertThat(decodedProperty.price()).isEqualTo(property.price());
+        }
+        case OwnableMonopolyTile(var ownable) ->
+            assertThat(((OwnableMonopolyTile) decoded).ownable()).isEqualTo(ownable);
+        case TaxMonopolyTile tax -> assertThat(decoded).isEqualTo(tax);
+        case CornerMonopolyTile corner ->
+            assertThat(((CornerMonopolyTile) decoded).getPosition())
+                .isEqualTo(corner.getPosition());
+      }
+    }
+  }
+
+  @Test
+  void snakeGameAndBoard_roundTrip() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    for (int i = 0; i < 30; i++) {
+      tiles.add(new NormalTile());
+    }
+    tiles.set(4, new LadderTile(10));
+    tiles.set(20, new SnakeTile(12));
+    var board = new SnakeAndLadderBoard(tiles);
+    var game =
+        new SnakeAndLadderGame(
+            eventBus,
+            board,
+            List.of(
+                new SnakeAndLadderPlayer("Alice", Player.Figure.DUCK),
+                new SnakeAndLadderPlayer("Bob", Player.Figure.BATTLE_SHIP)),
+            new SplittableRandom(3));
+    game.nextTurn();
+    game.nextTurn();
+    game.nextTurn();
+    var games =
+        new BinaryService<>(
+            SnakeAndLadderGame.class, eventBus, decisions, directory.resolve("snake.bin"));
+    var boards =
+        new BinaryService<>(
+            SnakeAndLadderBoard.class, eventBus, decisions, directory.resolve("board.bin"));
+
+    games.serializeToSource(Set.of(game));
+    boards.serializeToSource(Set.of(board));
+
+    var copy = games.deserializeFromSource().findFirst().orElseThrow();
+    assertThat(copy.getId()).isEqualTo(game.getId());
+    assertThat(copy.getBoard().tiles()).isEqualTo(tiles);
+    assertThat(copy.getSeatedPlayers())
+        .map(p -> p.getName() + "@" + p.getPosition() + ":" + p.getFigure())
+        .isEqualTo(
+            game.getSeatedPlayers().stream()
+                .map(p -> p.getName() + "@" + p.getPosition() + ":" + p.getFigure())
+                .toList());
+    assertThat(copy.getCurrentPlayer().getName()).isEqualTo(game.getCurrentPlayer().getName());
+    assertThat(boards.deserializeFromSource().findFirst().orElseThrow().tiles()).isEqualTo(tiles);
+  }
+
+  @Test
+  void save_isSmallerThanJsonAndRejectsOtherKindsAndVersions() throws IOException {
+    var game = createMonopolyGame();
+    var binaryFile = directory.resolve("g.bin");
+    var jsonFile = directory.resolve("g.json");
+    new BinaryService<>(MonopolyGame.class, eventBus, decisions, binaryFile)
+        .serializeToSource(Set.of(game));
+    new JsonWriter<>(MonopolyGame.class, jsonFile).writeJsonFile(Set.of(game));
+
+    assertThat(Files.size(binaryFile)).isLessThan(Files.size(jsonFile) / 3);
+    var asBoards = new BinaryService<>(MonopolyBoard.class, eventBus, decisions, binaryFile);
+    assertThatThrownBy(asBoards::deserializeFromSource)
+        .isInstanceOf(BinaryException.class)
+        .hasMessageContaining("kind");
+
+    byte[] bytes = Files.readAllBytes(binaryFile);
+    bytes[4] = (byte) (BinaryService.SCHEMA_VERSION + 1);
+    Files.write(binaryFile, bytes);
+    var games = new BinaryService<>(MonopolyGame.class, eventBus, decisions, binaryFile);
+    assertThatThrownBy(games::deserializeFromSource)
+        .isInstanceOf(BinaryException.class)
+        .hasMessageContaining("version");
+  }
+
+  @Test
+  void corruptCounts_areRejectedBeforeAnythingIsAllocated() throws IOException {
+    var file = directory.resolve("g.bin");
+    var service = new BinaryService<>(MonopolyGame.class, eventBus, decisions, file);
+    service.serializeToSource(Set.of(createMonopolyGame()));
+    byte[] save = Files.readAllBytes(file);
+    // the size of the string table follows the magic, the version and the kind, in one byte
+    int tableSize = 6;
+    byte[] negative = {-1, -1, -1, -1, -1, -1, -1, -1, -1, 1};
+    byte[] tooLarge = {-1, -1, -1, -1, 7};
+
+    for (byte[] count : List.of(negative, tooLarge)) {
+      var corrupt = new byte[save.length - 1 + count.length];
+      System.arraycopy(save, 0, corrupt, 0, tableSize);
+      System.arraycopy(count, 0, corrupt, tableSize, count.length);
+      System.arraycopy(
+          save, tableSize + 1, corrupt, tableSize + count.length, save.length - tableSize - 1);
+      Files.write(file, corrupt);
+
+      assertThatThrownBy(service::deserializeFromSource).isInstanceOf(BinaryException.class);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package dev.nheggoe.boardgame.common.io.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.nheggoe.boardgame.common.event.type.CoreEvent;
+import dev.nheggoe.boardgame.common.event.type.MonopolyEvent;
+import dev.nheggoe.boardgame.common.event.type.SnakeAndLadderEvent;
+import dev.nheggoe.boardgame.common.event.type.UserInterfaceEvent;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.core.model.dice.DiceRoll;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.Upgrade;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventJournalTest {
+
+  @TempDir Path directory;
+
+  private final Property street = new Property("Street", Property.Color.RED, 100);
+  private MonopolyPlayer alice;
+  private MonopolyPlayer bob;
+  private List<MonopolyTile> tiles;
+  private Path path;
+
+  @BeforeEach
+  void setUp() {
+    alice = new MonopolyPlayer("Alice", Player.Figure.CAR);
+    bob = new MonopolyPlayer("Bob", Player.Figure.HAT);
+    tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    tiles.add(new OwnableMonopolyTile(street));
+    path = directory.resolve("game.journal");
+  }
+
+  @Test
+  void recordedEvents_readBackAsSeatAndTileIndices() {
+    try (var journal = new EventJournal(path, List.of(alice, bob), tiles)) {
+      journal.onEvent(new CoreEvent.DiceRolled(DiceRoll.of(3, 1)));
+      bob.setPosition(4);
+      journal.onEvent(new CoreEvent.PlayerMoved(bob));
+      journal.onEvent(new UserInterfaceEvent.Output("ignored"));
+      journal.onEvent(new MonopolyEvent.Purchased(bob, street));
+      street.addUpgrade(new Upgrade(UpgradeType.HOUSE, 20));
+      journal.onEvent(new MonopolyEvent.UpgradePurchased(bob, street));
+      journal.onEvent(new SnakeAndLadderEvent.LadderEncountered(12));
+      journal.onEvent(new CoreEvent.PlayerRemoved(alice));
+      assertThat(journal.size()).isEqualTo(6);
+    }
+
+    assertThat(EventJournal.readAll(path))
+        .containsExactly(
+            new JournalEntry(JournalEntry.Type.DICE_ROLLED, -1, -1, -1, DiceRoll.of(3, 1)),
+            new JournalEntry(JournalEntry.Type.PLAYER_MOVED, 1, 4, -1, null),
+            new JournalEntry(JournalEntry.Type.PURCHASED, 1, 4, -1, null),
+            new JournalEntry(JournalEntry.Type.UPGRADE_PURCHASED, 1, 4, 1, null),
+            new JournalEntry(JournalEntry.Type.LADDER_ENCOUNTERED, -1, 12, -1, null),
+            new JournalEntry(JournalEntry.Type.PLAYER_REMOVED, 0, -1, -1, null));
+  }
+
+  @Test
+  void manySegments_andReopening_appendToTheSameLog() {
+    try (var journal = new EventJournal(path, List.of(alice, bob), tiles, 256)) {
+      for (int i = 0; i < 1000; i++) {
+        journal.onEvent(new CoreEvent.DiceRolled(DiceRoll.of(i % 6 + 1, 6)));
+      }
+    }
+    try (var journal = new EventJournal(path, List.of(alice, bob), tiles, 256)) {
+      assertThat(journal.size()).isEqualTo(1000);
+      journal.onEvent(new MonopolyEvent.PlayerSentToJail(alice));
+    }
+
+    var entries = EventJournal.readAll(path);
+    assertThat(entries).hasSize(1001);
+    assertThat(entries.get(999).diceRoll()).isEqualTo(DiceRoll.of(4, 6));
+    assertThat(entries.getLast().type()).isEqualTo(JournalEntry.Type.SENT_TO_JAIL);
+  }
+
+  @Test
+  void unclosedJournal_endsAtTheLastRecordedEntry() {
+    var journal = new EventJournal(path, List.of(alice), tiles);
+    journal.onEvent(new SnakeAndLadderEvent.SnakeEncountered(40));
+    journal.flush();
+
+    assertThat(EventJournal.readAll(path)).hasSize(1);
+    journal.close();
+    assertThatThrownBy(() -> journal.onEvent(new SnakeAndLadderEvent.SnakeEncountered(3)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void readAll_notAJournal_throws() throws IOException {
+    Files.writeString(path, "not a journal");
+
+    assertThatThrownBy(() -> EventJournal.readAll(path)).isInstanceOf(JournalException.class);
+  }
+}
@@ -0,0 +1,106 @@
+package dev.nheggoe.boardgame.common.io.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.core.model.Game;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AutomaticDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonReaderTest {
+
+  @TempDir Path directory;
+
+  private Path jsonFile;
+  private JsonReader<MonopolyGame> reader;
+
+  @BeforeEach
+  void setUp() {
+    jsonFile = directory.resolve("MonopolyGame.json");
+    reader = new JsonReader<>(MonopolyGame.class, jsonFile);
+  }
+
+  private static MonopolyGame createGame() {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    for (int i = 0; i < 4; i++) {
+      tiles.add(new OwnableMonopolyTile(new Property("Street " + i, Property.Color.RED, 60)));
+    }
+    return new MonopolyGame(
+        mock(EventBus.class),
+        new MonopolyBoard(tiles),
+        List.of(new MonopolyPlayer("Alice", Player.Figure.CAR)),
+        AutomaticDecisionProvider.alwaysAccept(),
+        new SplittableRandom(1));
+  }
+
+  private List<UUID> writeGames(int count) {
+    var games = new HashSet<MonopolyGame>();
+    for (int i = 0; i < count; i++) {
+      games.add(createGame());
+    }
+    new JsonWriter<>(MonopolyGame.class, jsonFile).writeJsonFile(games);
+    return games.stream().map(Game::getId).toList();
+  }
+
+  @Test
+  void parseJsonStream_readsEveryElementOfTheArray() {
+    var ids = writeGames(20);
+    assertThat(jsonFile).content().doesNotContain("\n");
+
+    try (var games = reader.parseJsonStream()) {
+      assertThat(games.map(Game::getId)).containsExactlyInAnyOrderElementsOf(ids);
+    }
+  }
+
+  @Test
+  void parallelParse_keepsTheOrderOfTheFile() {
+    writeGames(50);
+    List<UUID> sequential;
+    try (var games = reader.parseJsonStream()) {
+      sequential = games.map(Game::getId).toList();
+    }
+
+    try (var executor = Executors.newFixedThreadPool(4);
+        var games = reader.parseJsonStream(executor, 4)) {
+      assertThat(games.map(Game::getId)).containsExactlyElementsOf(sequential);
+    }
+  }
+
+  @Test
+  void parseJsonStream_emptyOrNullFile_isEmpty() throws IOException {
+    assertThat(reader.parseJsonStream()).isEmpty();
+    assertThat(jsonFile).exists();
+
+    Files.writeString(jsonFile, "null");
+    assertThat(reader.parseJsonStream()).isEmpty();
+  }
+
+  @Test
+  void parseJsonStream_notAnArray_throws() throws IOException {
+    Files.writeString(jsonFile, "{\"games\": []}");
+
+    assertThatThrownBy(() -> reader.parseJsonStream().toList())
+        .isInstanceOf(RuntimeException.class);
+  }
+}
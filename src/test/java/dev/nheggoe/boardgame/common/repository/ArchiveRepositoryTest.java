@@ -0,0 +1,163 @@
+package dev.nheggoe.boardgame.common.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.io.binary.SaveArchive;
+import dev.nheggoe.boardgame.core.model.Game;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AutomaticDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArchiveRepositoryTest {
+
+  @TempDir Path directory;
+
+  private final EventBus eventBus = mock(EventBus.class);
+
+  private Path archiveFile() {
+    return directory.resolve("archive.bin");
+  }
+
+  private SaveArchive<MonopolyGame> openArchive() {
+    return new SaveArchive<>(
+        MonopolyGame.class, eventBus, AutomaticDecisionProvider.alwaysAccept(), archiveFile());
+  }
+
+  private ArchiveRepository<MonopolyGame> createRepository() {
+    return new ArchiveRepository<>(openArchive(), MonopolyGame::getId) {};
+  }
+
+  private static MonopolyGame createGame(String saveName) {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    for (int i = 0; i < 4; i++) {
+      tiles.add(new OwnableMonopolyTile(new Property("Street " + i, Property.Color.RED, 60)));
+    }
+    var game =
+        new MonopolyGame(
+            mock(EventBus.class),
+            new MonopolyBoard(tiles),
+            List.of(new MonopolyPlayer("Alice", Player.Figure.CAR)),
+            AutomaticDecisionProvider.alwaysAccept(),
+            new SplittableRandom(1));
+    game.setGameSaveName(saveName);
+    return game;
+  }
+
+  @Test
+  void getById_decodesTheRequestedGameFromANewRepository() {
+    var games = new ArrayList<MonopolyGame>();
+    try (var repository = createRepository()) {
+      for (int i = 0; i < 50; i++) {
+        var game = createGame("game " + i);
+        games.add(game);
+        repository.add(game);
+      }
+      repository.saveChanges();
+      assertThat(repository.hasUnsavedChanges()).isFalse();
+    }
+
+    try (var repository = createRepository()) {
+      var wanted = games.get(37);
+      var found = repository.getById(wanted.getId());
+
+      assertThat(found).get().extracting(Game::getGameSaveName).isEqualTo("game 37");
+      assertThat(repository.getById(wanted.getId())).containsSame(found.get());
+      assertThat(repository.getAll().map(Game::getId))
+          .containsExactlyInAnyOrderElementsOf(games.stream().map(Game::getId).toList());
+    }
+  }
+
+  @Test
+  void savedChanges_areLoadedByANewRepository() {
+    var kept = createGame("kept");
+    var removed = createGame("removed");
+    try (var repository = createRepository()) {
+      repository.add(kept);
+      repository.add(removed);
+      repository.saveChanges();
+
+      kept.setGameSaveName("renamed");
+      repository.update(kept);
+      assertThat(repository.remove(removed.getId())).isTrue();
+      assertThat(repository.hasUnsavedChanges()).isTrue();
+      repository.saveChanges();
+    }
+
+    try (var repository = createRepository()) {
+      assertThat(repository.getById(removed.getId())).isEmpty();
+      assertThat(repository.getAll())
+          .extracting(Game::getId, Game::getGameSaveName)
+          .containsExactly(tuple(kept.getId(), "renamed"));
+    }
+  }
+
+  @Test
+  void compact_dropsReplacedRecords() throws IOException {
+    var game = createGame("game");
+    try (var archive = openArchive()) {
+      for (int i = 0; i < 20; i++) {
+        game.setGameSaveName("version " + i);
+        archive.write(Map.of(game.getId(), game), Set.of());
+      }
+    }
+    long before = Files.size(archiveFile());
+
+    try (var archive = openArchive()) {
+      archive.compact();
+    }
+
+    assertThat(Files.size(archiveFile())).isLessThan(before / 10);
+    try (var archive = openArchive()) {
+      assertThat(archive.ids()).containsExactly(game.getId());
+      assertThat(archive.read(game.getId()))
+          .get()
+          .extracting(Game::getGameSaveName)
+          .isEqualTo("version 19");
+    }
+  }
+
+  @Test
+  void tornLastRecord_isDroppedWhenTheArchiveIsOpened() throws IOException {
+    var first = createGame("first");
+    var second = createGame("second");
+    try (var archive = openArchive()) {
+      archive.write(Map.of(first.getId(), first), Set.of());
+      archive.write(Map.of(second.getId(), second), Set.of());
+    }
+    // the length of the last record reached the disk, but not all of its save
+    byte[] bytes = Files.readAllBytes(archiveFile());
+    bytes[bytes.length - 1] ^= 0x55;
+    Files.write(archiveFile(), bytes);
+
+    try (var archive = openArchive()) {
+      assertThat(archive.ids()).containsExactly(first.getId());
+      archive.write(Map.of(second.getId(), second), Set.of());
+    }
+    try (var archive = openArchive()) {
+      assertThat(archive.ids()).containsExactly(first.getId(), second.getId());
+      assertThat(archive.read(second.getId()))
+          .get()
+          .extracting(Game::getGameSaveName)
+          .isEqualTo("second");
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package dev.nheggoe.boardgame.common.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.io.json.JsonException;
+import dev.nheggoe.boardgame.common.io.json.JsonService;
+import dev.nheggoe.boardgame.common.io.json.JsonWriter;
+import dev.nheggoe.boardgame.core.model.Game;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AutomaticDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonRepositoryTest {
+
+  @TempDir Path directory;
+
+  private JsonRepository<MonopolyGame> createRepository() {
+    return new JsonRepository<>(
+        new JsonService<>(MonopolyGame.class, directory), MonopolyGame::getId) {};
+  }
+
+  private static MonopolyGame createGame(String saveName) {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    for (int i = 0; i < 4; i++) {
+      tiles.add(new OwnableMonopolyTile(new Property("Street " + i, Property.Color.RED, 60)));
+    }
+    var game =
+        new MonopolyGame(
+            mock(EventBus.class),
+            new MonopolyBoard(tiles),
+            List.of(new MonopolyPlayer("Alice", Player.Figure.CAR)),
+            AutomaticDecisionProvider.alwaysAccept(),
+            new SplittableRandom(1));
+    game.setGameSaveName(saveName);
+    return game;
+  }
+
+  private Path fileOf(MonopolyGame game) {
+    return directory.resolve("MonopolyGame").resolve(game.getId() + ".json");
+  }
+
+  @Test
+  void saveChanges_writesOnlyTheChangedEntities() throws IOException {
+    var repository = createRepository();
+    var first = createGame("first");
+    var second = createGame("second");
+    repository.add(first);
+    repository.add(second);
+    repository.saveChanges();
+    assertThat(repository.hasUnsavedChanges()).isFalse();
+    assertThat(fileOf(first)).exists();
+    Files.delete(fileOf(second));
+
+    first.setGameSaveName("renamed");
+    repository.update(first);
+    repository.saveChanges();
+
+    assertThat(fileOf(first)).content().contains("renamed");
+    assertThat(fileOf(second)).doesNotExist();
+  }
+
+  @Test
+  void savedChanges_areLoadedByANewRepository() {
+    var repository = createRepository();
+    var kept = createGame("kept");
+    var removed = createGame("removed");
+    repository.add(kept);
+    repository.add(removed);
+    repository.saveChanges();
+
+    repository.remove(removed.getId());
+    assertThat(repository.hasUnsavedChanges()).isTrue();
+    repository.saveChanges();
+
+    assertThat(fileOf(removed)).doesNotExist();
+    assertThat(createRepository().getAll())
+        .extracting(Game::getId, Game::getGameSaveName)
+        .containsExactly(tuple(kept.getId(), "kept"));
+  }
+
+  @Test
+  void saveToSource_fromALegacyFile_replacesTheWholeStore() {
+    var kept = createGame("kept");
+    var dropped = createGame("dropped");
+    new JsonWriter<>(MonopolyGame.class, directory.resolve("MonopolyGame.json"))
+        .writeJsonFile(Set.of(kept, dropped));
+    var repository = createRepository();
+    assertThat(repository.getAll()).hasSize(2);
+
+    repository.saveToSource(Set.of(kept));
+
+    assertThat(repository.hasUnsavedChanges()).isFalse();
+    repository.saveChanges();
+    assertThat(fileOf(kept)).exists();
+    assertThat(fileOf(dropped)).doesNotExist();
+    assertThat(createRepository().getAll())
+        .extracting(Game::getId, Game::getGameSaveName)
+        .containsExactly(tuple(kept.getId(), "kept"));
+
+    repository.saveToSource(Set.of(kept, dropped));
+
+    assertThat(createRepository().getAll())
+        .extracting(Game::getGameSaveName)
+        .containsExactlyInAnyOrder("kept", "dropped");
+
+    repository.saveToSource(Set.of(dropped));
+
+    assertThat(fileOf(kept)).doesNotExist();
+    assertThat(createRepository().getAll())
+        .extracting(Game::getId)
+        .containsExactly(dropped.getId());
+  }
+
+  @Test
+  void serializeToSource_afterMigration_failsInsteadOfWritingAnUnreadFile() {
+    var service = new JsonService<>(MonopolyGame.class, directory);
+    var game = createGame("game");
+    service.serializeToSource(Set.of(game));
+    service.serializeAll(Map.of(game.getId(), game));
+
+    assertThatThrownBy(() -> service.serializeToSource(Set.of(game)))
+        .isInstanceOf(JsonException.class);
+    assertThat(service.deserializeFromSource())
+        .extracting(Game::getId)
+        .containsExactly(game.getId());
+  }
+}
@@ -0,0 +1,77 @@
+package dev.nheggoe.boardgame.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoard;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderGame;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderPlayer;
+import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameEngineTest {
+
+  private SnakeAndLadderPlayer alice;
+  private SnakeAndLadderPlayer bob;
+  private GameEngine<SnakeAndLadderTile, SnakeAndLadderPlayer> engine;
+
+  @BeforeEach
+  void setUp() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    for (int i = 0; i < 50; i++) {
+      tiles.add(new NormalTile());
+    }
+    alice = new SnakeAndLadderPlayer("Alice", Player.Figure.CAR);
+    bob = new SnakeAndLadderPlayer("Bob", Player.Figure.HAT);
+    engine =
+        new GameEngine<>(
+            new SnakeAndLadderGame(
+                mock(EventBus.class),
+                new SnakeAndLadderBoard(tiles),
+                List.of(alice, bob),
+                new SplittableRandom(3)));
+  }
+
+  @Test
+  void getStateView_unchangedGame_returnsSameInstance() {
+    var view = engine.getStateView();
+
+    assertThat(engine.getStateView()).isSameAs(view);
+    assertThat(engine.getPlayers()).isSameAs(view.players()).containsExactly(alice, bob);
+    assertThat(engine.getTiles()).isSameAs(view.tiles()).hasSize(50);
+  }
+
+  @Test
+  void getStateView_afterTurn_publishesNewVersionAndKeepsPlayerList() {
+    var before = engine.getStateView();
+
+    engine.nextTurn();
+    var after = engine.getStateView();
+
+    assertThat(after.version()).isGreaterThan(before.version());
+    assertThat(after.players()).isSameAs(before.players());
+    assertThat(after.tiles()).isSameAs(before.tiles());
+  }
+
+  @Test
+  void getStateView_afterGameEnds_reportsEnded() {
+    engine.game().endGame();
+
+    assertThat(engine.getStateView().ended()).isTrue();
+    assertThat(engine.isEnded()).isTrue();
+  }
+
+  @Test
+  void getPlayers_isImmutable() {
+    assertThatThrownBy(() -> engine.getPlayers().remove(alice))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderPlayer;
 import java.util.List;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -48,4 +49,87 @@ class TurnManagerTest {
     turnManager.getNextPlayer();
     assertEquals(playerTwo, turnManager.getCurrentPlayer());
   }
+
+  @Test
+  void testRemoveCurrentPlayerPassesTurnToNextSeat() {
+    turnManager.getNextPlayer();
+    turnManager.getNextPlayer();
+    turnManager.removePlayer(playerTwo);
+
+    assertEquals(playerThree, turnManager.getNextPlayer());
+    assertEquals(playerFour, turnManager.getNextPlayer());
+    assertEquals(playerOne, turnManager.getNextPlayer());
+    assertEquals(playerThree, turnManager.getNextPlayer());
+  }
+
+  @Test
+  void testRemoveSuccessorOfRemovedCurrentPlayer() {
+    turnManager.getNextPlayer();
+    turnManager.getNextPlayer();
+    turnManager.removePlayer(playerTwo);
+    turnManager.removePlayer(playerThree);
+
+    assertEquals(playerFour, turnManager.getNextPlayer());
+    assertEquals(playerOne, turnManager.getNextPlayer());
+  }
+
+  @Test
+  void testRemoveFirstPlayerBeforeFirstTurn() {
+    turnManager.removePlayer(playerOne);
+
+    assertEquals(playerTwo, turnManager.getCurrentPlayer());
+    assertEquals(playerTwo, turnManager.getNextPlayer());
+    assertEquals(List.of(playerTwo, playerThree, playerFour), turnManager.getPlayers());
+  }
+
+  @Test
+  void testRoundNumberIncrementsWhenTurnWrapsAround() {
+    assertEquals(0, turnManager.getRoundNumber());
+    for (int i = 0; i < 4; i++) {
+      turnManager.getNextPlayer();
+    }
+    assertEquals(0, turnManager.getRoundNumber());
+
+    turnManager.getNextPlayer();
+    assertEquals(1, turnManager.getRoundNumber());
+
+    turnManager.removePlayer(playerOne);
+    turnManager.getNextPlayer();
+    turnManager.getNextPlayer();
+    turnManager.getNextPlayer();
+    assertEquals(1, turnManager.getRoundNumber());
+    assertEquals(playerTwo, turnManager.getNextPlayer());
+    assertEquals(2, turnManager.getRoundNumber());
+  }
+
+  @Test
+  void testPlayersViewIsLiveAndReadOnly() {
+    var players = turnManager.getPlayers();
+    turnManager.removePlayer(playerThree);
+
+    assertSame(players, turnManager.getPlayers());
+    assertEquals(List.of(playerOne, playerTwo, playerFour), players);
+    assertFalse(players.contains(playerThree));
+    assertTrue(players.contains(playerFour));
+    assertThrows(UnsupportedOperationException.class, () -> players.remove(playerOne));
+  }
+
+  @Test
+  void testSeatsDoNotChangeWhenPlayersAreRemoved() {
+    turnManager.removePlayer(playerOne);
+
+    assertEquals(3, turnManager.getSeat(playerFour));
+    assertEquals(0, turnManager.getSeat(playerOne));
+  }
+
+  @Test
+  void testNoPlayersLeft() {
+    turnManager.removePlayer(playerOne);
+    turnManager.removePlayer(playerTwo);
+    turnManager.removePlayer(playerThree);
+    turnManager.removePlayer(playerFour);
+
+    assertTrue(turnManager.getPlayers().isEmpty());
+    assertThrows(NoSuchElementException.class, () -> turnManager.getNextPlayer());
+  }
 }
@@ -57,4 +57,30 @@ class DiceRollTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Dice roll must contain at least one dice");
   }
+
+  @Test
+  void testInternedRollsAreShared() {
+    assertThat(DiceRoll.of(3, 4)).isSameAs(DiceRoll.of(3, 4)).isEqualTo(new DiceRoll(3, 4));
+    assertThat(DiceRoll.of(5)).isSameAs(DiceRoll.of(5)).isEqualTo(new DiceRoll(5));
+
+    var roll = Dice.roll(2);
+    assertThat(roll).isSameAs(DiceRoll.of(roll.getFace(0), roll.getFace(1)));
+  }
+
+  @Test
+  void testInternedRollCannotBeModified() {
+    var roll = DiceRoll.of(2, 2);
+    roll.rolls()[0] = 6;
+
+    assertThat(roll.getFace(0)).isEqualTo(2);
+    assertThat(roll.getNumberOfDice()).isEqualTo(2);
+    assertThat(roll.areDiceEqual()).isTrue();
+    assertThat(roll.getTotal()).isEqualTo(4);
+  }
+
+  @Test
+  void testInternedRollInvalidFace() {
+    assertThatThrownBy(() -> DiceRoll.of(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> DiceRoll.of(1, 7)).isInstanceOf(IllegalArgumentException.class);
+  }
 }
@@ -1,7 +1,9 @@
 package dev.nheggoe.boardgame.core.model.dice;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 
 class DiceTest {
@@ -15,4 +17,19 @@ class DiceTest {
       assertThat(diceRoll.getTotal()).isLessThanOrEqualTo(12);
     }
   }
+
+  @Test
+  void testRollDiceWithSameSeedIsReproducible() {
+    var first = new SplittableRandom(1234);
+    var second = new SplittableRandom(1234);
+    for (int i = 0; i < 100; i++) {
+      assertThat(Dice.roll(2, first)).isEqualTo(Dice.roll(2, second));
+    }
+  }
+
+  @Test
+  void testRollNoDiceThrows() {
+    assertThatThrownBy(() -> Dice.roll(0, new SplittableRandom()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
@@ -0,0 +1,193 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.util.GameFactory;
+import dev.nheggoe.boardgame.core.GameEngine;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AutomaticDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.RecordingDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.ReplayDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Railroad;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoard;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderPlayer;
+import dev.nheggoe.boardgame.games.snake.model.tile.LadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeTile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class GameReplayTest {
+
+  private static final long SEED = 42;
+
+  private static MonopolyGame createMonopolyGame(
+      RandomGenerator random, MonopolyDecisionProvider decisionProvider) {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    for (int i = 0; i < 7; i++) {
+      tiles.add(new OwnableMonopolyTile(new Property("Street " + i, Property.Color.RED, 60)));
+    }
+    tiles.add(new OwnableMonopolyTile(new Railroad(200)));
+    var players =
+        List.of(
+            new MonopolyPlayer("Alice", Player.Figure.CAR),
+            new MonopolyPlayer("Bob", Player.Figure.HAT),
+            new MonopolyPlayer("Carol", Player.Figure.CAT));
+    return new MonopolyGame(
+        mock(EventBus.class), new MonopolyBoard(tiles), players, decisionProvider, random);
+  }
+
+  // a policy whose answers depend on the state of the game, so a replay must follow it exactly
+  private static AutomaticDecisionProvider moodyProvider() {
+    return new AutomaticDecisionProvider(
+        (player, ownable) -> (player.getBalance() + player.getPosition()) % 3 != 0,
+        (player, property) -> player.getBalance() % 2 == 0);
+  }
+
+  private static List<String> stateOf(List<MonopolyPlayer> players) {
+    return players.stream()
+        .map(p -> p.getName() + "@" + p.getPosition() + "$" + p.getBalance())
+        .toList();
+  }
+
+  @Test
+  void seek_reproducesARecordedMonopolyGameAtEveryTurn() {
+    var log = new DecisionLog();
+    var recorded =
+        createMonopolyGame(
+            new ReplayRandom(SEED), new RecordingDecisionProvider(moodyProvider(), log));
+    var engine = new GameEngine<>(recorded);
+    var statesByTurn = new ArrayList<List<String>>();
+    statesByTurn.add(stateOf(recorded.getPlayers()));
+    for (int turn = 0; turn < 120 && !engine.isEnded(); turn++) {
+      engine.nextTurn();
+      statesByTurn.add(stateOf(recorded.getPlayers()));
+    }
+    int lastTurn = statesByTurn.size() - 1;
+
+    var replay =
+        new GameReplay<>(
+            (random, decisions) ->
+                createMonopolyGame(random, new ReplayDecisionProvider(decisions)),
+            SEED,
+            DecisionLog.decode(log.encode()),
+            10);
+    var players = ((MonopolyGame) replay.getGame()).getPlayers();
+
+    assertThat(replay.seek(lastTurn)).isEqualTo(lastTurn);
+    assertThat(stateOf(players)).isEqualTo(statesByTurn.get(lastTurn));
+    for (int turn : new int[] {37, 5, lastTurn / 2, 0, lastTurn - 1}) {
+      replay.seek(turn);
+      assertThat(stateOf(((MonopolyGame) replay.getGame()).getPlayers()))
+          .as("turn %d", turn)
+          .isEqualTo(statesByTurn.get(turn));
+    }
+    assertThat(replay.getCheckpointCount()).isEqualTo(lastTurn / 10 + 1);
+  }
+
+  @Test
+  void seek_reproducesAGameCreatedByTheFactoryFromItsRecordedSeedAndDecisions() {
+    var eventBus = mock(EventBus.class);
+    var original =
+        GameFactory.createMonopolyGame(
+            eventBus,
+            List.of(
+                new MonopolyPlayer("Alice", Player.Figure.CAR),
+                new MonopolyPlayer("Bob", Player.Figure.HAT)),
+            moodyProvider(),
+            ReplayRandom.withRandomSeed());
+    var engine = new GameEngine<>(original);
+    int turns = 0;
+    for (; turns < 60 && !engine.isEnded(); turns++) {
+      engine.nextTurn();
+    }
+
+    var replay =
+        new GameReplay<>(
+            (random, decisions) ->
+                GameFactory.createMonopolyGame(
+                    eventBus,
+                    List.of(
+                        new MonopolyPlayer("Alice", Player.Figure.CAR),
+                        new MonopolyPlayer("Bob", Player.Figure.HAT)),
+                    new ReplayDecisionProvider(decisions),
+                    random),
+            original.getSeed().orElseThrow(),
+            original.getDecisionLog().orElseThrow(),
+            10);
+    replay.seek(turns);
+
+    assertThat(stateOf(((MonopolyGame) replay.getGame()).getPlayers()))
+        .isEqualTo(stateOf(original.getPlayers()));
+    assertThat(replay.getGame().getDraws()).isEqualTo(original.getDraws());
+  }
+
+  @Test
+  void playToEnd_reproducesASnakeGameFromItsSeed() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    for (int i = 0; i < 30; i++) {
+      tiles.add(new NormalTile());
+    }
+    tiles.set(4, new LadderTile(10));
+    tiles.set(20, new SnakeTile(12));
+    var board = new SnakeAndLadderBoard(tiles);
+    GameReplay.Factory<SnakeAndLadderTile, SnakeAndLadderPlayer> factory =
+        (random, decisions) ->
+            GameFactory.createSnakeGame(
+                mock(EventBus.class),
+                board,
+                List.of(
+                    new SnakeAndLadderPlayer("Alice", Player.Figure.CAR),
+                    new SnakeAndLadderPlayer("Bob", Player.Figure.HAT)),
+                random);
+
+    var first = new GameReplay<>(factory, SEED, new DecisionLog(), 4);
+    var second = new GameReplay<>(factory, SEED, new DecisionLog(), 7);
+    int turns = first.playToEnd(10_000);
+
+    assertThat(first.getGame().isEnded()).isTrue();
+    assertThat(second.playToEnd(10_000)).isEqualTo(turns);
+    assertThat(second.getGame().getWinners().getValue().getFirst().getName())
+        .isEqualTo(first.getGame().getWinners().getValue().getFirst().getName());
+  }
+
+  @Test
+  void cursor_divergingFromTheLog_throws() {
+    var cursor = DecisionLog.decode("Pu").cursor();
+
+    assertThat(cursor.next(DecisionLog.Kind.PURCHASE)).isTrue();
+    assertThatThrownBy(() -> cursor.next(DecisionLog.Kind.PURCHASE))
+        .isInstanceOf(ReplayException.class);
+    assertThat(cursor.next(DecisionLog.Kind.UPGRADE)).isFalse();
+    assertThatThrownBy(() -> cursor.next(DecisionLog.Kind.UPGRADE))
+        .isInstanceOf(ReplayException.class);
+    assertThatThrownBy(() -> DecisionLog.decode("PX")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void replayRandom_jumpTo_resumesTheSequence() {
+    var random = new ReplayRandom(SEED);
+    random.nextInt(6);
+    long draws = random.getDraws();
+    int next = random.nextInt(1, 7);
+    random.nextLong();
+
+    random.jumpTo(draws);
+
+    assertThat(random.nextInt(1, 7)).isEqualTo(next);
+  }
+}
@@ -0,0 +1,174 @@
+package dev.nheggoe.boardgame.core.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.util.GameFactory;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.MonopolyGame;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AutomaticDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderBoard;
+import dev.nheggoe.boardgame.games.snake.model.SnakeAndLadderPlayer;
+import dev.nheggoe.boardgame.games.snake.model.tile.LadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeTile;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.Test;
+
+class GameSimulatorTest {
+
+  private static SnakeAndLadderBoard createSnakeBoard() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    for (int i = 0; i < 30; i++) {
+      tiles.add(new NormalTile());
+    }
+    tiles.set(4, new LadderTile(10));
+    tiles.set(20, new SnakeTile(12));
+    return new SnakeAndLadderBoard(tiles);
+  }
+
+  private static MonopolyGame createMonopolyGame(RandomGenerator random) {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    for (int i = 0; i < 4; i++) {
+      tiles.add(new OwnableMonopolyTile(new Property("Street " + i, Property.Color.RED, 60)));
+    }
+    var players =
+        List.of(
+            new MonopolyPlayer("Alice", Player.Figure.CAR),
+            new MonopolyPlayer("Bob", Player.Figure.HAT));
+    return new MonopolyGame(
+        mock(EventBus.class),
+        new MonopolyBoard(tiles),
+        players,
+        AutomaticDecisionProvider.alwaysAccept(),
+        random);
+  }
+
+  @Test
+  void run_snakeGames_everyGameEndsWithAWinner() {
+    var board = createSnakeBoard();
+    var eventBus = mock(EventBus.class);
+    var simulator =
+        new GameSimulator<>(
+            random ->
+                GameFactory.createSnakeGame(
+                    eventBus,
+                    board,
+                    List.of(
+                        new SnakeAndLadderPlayer("Alice", Player.Figure.CAR),
+                        new SnakeAndLadderPlayer("Bob", Player.Figure.HAT)),
+                    random),
+            10_000);
+
+    var summary = simulator.run(200);
+
+    assertThat(summary.gamesPlayed()).isEqualTo(200);
+    assertThat(summary.gamesEnded()).isEqualTo(200);
+    assertThat(summary.shortestGame()).isPositive();
+    assertThat(summary.longestGame()).isGreaterThanOrEqualTo(summary.shortestGame());
+    assertThat(summary.winsByPlayer().values().stream().mapToLong(Long::longValue).sum())
+        .isGreaterThanOrEqualTo(200);
+  }
+
+  @Test
+  void run_headlessMonopolyGames_reportsEveryResult() {
+    var seenGames = ConcurrentHashMap.<Integer>newKeySet();
+    var simulator = new GameSimulator<>(GameSimulatorTest::createMonopolyGame, 500, 4);
+
+    var summary =
+        simulator.run(
+            50,
+            42L,
+            result -> {
+              assertThat(result.turns()).isBetween(1, 500);
+              assertThat(result.winningPlayers()).isNotEmpty();
+              seenGames.add(result.gameIndex());
+            });
+
+    assertThat(seenGames).hasSize(50);
+    assertThat(summary.gamesPlayed()).isEqualTo(50);
+    assertThat(summary.averageTurns()).isBetween(1.0, 500.0);
+  }
+
+  @Test
+  void run_gamesCutOffByTheTurnLimit_areReportedAsAbandoned() {
+    var simulator = new GameSimulator<>(GameSimulatorTest::createMonopolyGame, 1, 2);
+
+    var summary = simulator.run(10, 3L);
+
+    assertThat(summary.gamesPlayed()).isEqualTo(10);
+    assertThat(summary.gamesEnded()).isZero();
+    assertThat(summary.gamesAbandoned()).isEqualTo(10);
+    assertThat(summary.winsByPlayer()).isEmpty();
+    assertThat(summary.totalTurns()).isZero();
+    assertThat(summary.shortestGame()).isZero();
+    assertThat(summary.longestGame()).isZero();
+    assertThat(summary.averageTurns()).isZero();
+  }
+
+  @Test
+  void run_failingFactory_throwsSimulationException() {
+    var simulator =
+        new GameSimulator<>(
+            random -> {
+              throw new IllegalStateException("no board");
+            },
+            10);
+
+    assertThatThrownBy(() -> simulator.run(3))
+        .isInstanceOf(SimulationException.class)
+        .hasRootCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void run_sameSeed_producesSameGamesRegardlessOfParallelism() {
+    var sequential = new ArrayList<SimulationResult<MonopolyPlayer>>();
+    var parallel = new ArrayList<SimulationResult<MonopolyPlayer>>();
+
+    new GameSimulator<>(GameSimulatorTest::createMonopolyGame, 300, 1).run(20, 7L, sequential::add);
+    new GameSimulator<>(GameSimulatorTest::createMonopolyGame, 300, 8).run(20, 7L, parallel::add);
+
+    sequential.sort(Comparator.comparingInt(SimulationResult::gameIndex));
+    parallel.sort(Comparator.comparingInt(SimulationResult::gameIndex));
+    for (int i = 0; i < 20; i++) {
+      assertThat(parallel.get(i).seed()).isEqualTo(sequential.get(i).seed());
+      assertThat(parallel.get(i).turns()).isEqualTo(sequential.get(i).turns());
+      assertThat(parallel.get(i).winners().getKey())
+          .isEqualTo(sequential.get(i).winners().getKey());
+    }
+  }
+
+  @Test
+  void replay_seedOfResult_reproducesGame() {
+    var simulator = new GameSimulator<>(GameSimulatorTest::createMonopolyGame, 300);
+    var results = new ArrayList<SimulationResult<MonopolyPlayer>>();
+    simulator.run(5, 99L, results::add);
+
+    for (var result : results) {
+      var replayed = simulator.replay(result.seed());
+      assertThat(replayed.turns()).isEqualTo(result.turns());
+      assertThat(replayed.winners().getKey()).isEqualTo(result.winners().getKey());
+    }
+  }
+
+  @Test
+  void constructor_invalidLimits_throwsException() {
+    assertThatThrownBy(() -> new GameSimulator<>(GameSimulatorTest::createMonopolyGame, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new GameSimulator<>(GameSimulatorTest::createMonopolyGame, 10, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
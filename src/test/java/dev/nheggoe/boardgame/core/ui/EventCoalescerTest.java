@@ -0,0 +1,69 @@
+package dev.nheggoe.boardgame.core.ui;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.nheggoe.boardgame.common.event.type.Event;
+import dev.nheggoe.boardgame.common.event.type.SnakeAndLadderEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EventCoalescerTest {
+
+  private final List<Runnable> pulses = new ArrayList<>();
+  private final List<List<Event>> batches = new ArrayList<>();
+  private EventCoalescer coalescer;
+
+  @BeforeEach
+  void setUp() {
+    // merges snake encounters under one key, everything else by itself
+    coalescer =
+        new EventCoalescer(
+            event -> event instanceof SnakeAndLadderEvent.SnakeEncountered ? "snake" : event,
+            batches::add,
+            pulses::add);
+  }
+
+  @Test
+  void eventsWithinOnePulse_areFlushedOnceWithTheLatestPerKey() {
+    coalescer.onEvent(new SnakeAndLadderEvent.SnakeEncountered(40));
+    coalescer.onEvent(new SnakeAndLadderEvent.LadderEncountered(3));
+    coalescer.onEvent(new SnakeAndLadderEvent.SnakeEncountered(20));
+
+    assertThat(pulses).hasSize(1);
+    pulses.getFirst().run();
+
+    assertThat(batches)
+        .containsExactly(
+            List.of(
+                new SnakeAndLadderEvent.SnakeEncountered(20),
+                new SnakeAndLadderEvent.LadderEncountered(3)));
+    assertThat(coalescer.getReceivedCount()).isEqualTo(3);
+    assertThat(coalescer.getFlushCount()).isOne();
+  }
+
+  @Test
+  void eventAfterAFlush_schedulesTheNextPulse() {
+    coalescer.onEvent(new SnakeAndLadderEvent.SnakeEncountered(40));
+    pulses.getFirst().run();
+
+    coalescer.onEvent(new SnakeAndLadderEvent.SnakeEncountered(30));
+
+    assertThat(pulses).hasSize(2);
+    pulses.get(1).run();
+    assertThat(batches).hasSize(2);
+    assertThat(batches.get(1)).containsExactly(new SnakeAndLadderEvent.SnakeEncountered(30));
+  }
+
+  @Test
+  void close_discardsPendingEvents() {
+    coalescer.onEvent(new SnakeAndLadderEvent.LadderEncountered(3));
+
+    coalescer.close();
+    pulses.getFirst().run();
+
+    assertThat(batches).isEmpty();
+    assertThat(coalescer.getFlushCount()).isZero();
+  }
+}
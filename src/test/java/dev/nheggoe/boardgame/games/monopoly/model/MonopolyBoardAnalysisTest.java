@@ -0,0 +1,153 @@
+package dev.nheggoe.boardgame.games.monopoly.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Railroad;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.GoToJailMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.StartMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class MonopolyBoardAnalysisTest {
+
+  private static final MonopolyBoard BOARD = createBoard();
+
+  private static MonopolyBoard createBoard() {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    var colors = Property.Color.values();
+    for (int i = 0; i < 20; i++) {
+      tiles.add(
+          new OwnableMonopolyTile(
+              new Property("Street " + i, colors[i % colors.length], 60 + 20 * i)));
+    }
+    for (int i = 0; i < 4; i++) {
+      tiles.add(new OwnableMonopolyTile(new Railroad(200)));
+    }
+    return new MonopolyBoard(tiles);
+  }
+
+  private static int positionOf(Class<? extends MonopolyTile> type) {
+    for (int position = 0; position < BOARD.size(); position++) {
+      if (type.isInstance(BOARD.getTileAtIndex(position))) {
+        return position;
+      }
+    }
+    throw new AssertionError();
+  }
+
+  private static int positionOfFirstProperty() {
+    for (int position = 0; position < BOARD.size(); position++) {
+      if (BOARD.getTileAtIndex(position) instanceof OwnableMonopolyTile(Property ignored)) {
+        return position;
+      }
+    }
+    throw new AssertionError();
+  }
+
+  @Test
+  void occupancy_matchesKernelSimulation() {
+    var analysis = MonopolyBoardAnalysis.of(BOARD);
+    // nobody buys anything, so nobody ever goes bankrupt and the players only move
+    var kernel =
+        new MonopolyKernel(
+            BOARD, 2, MonopolyKernel.Policy.alwaysDecline(), new SplittableRandom(3));
+    int[] counts = new int[BOARD.size()];
+    int turns = 400_000;
+    for (int turn = 0; turn < turns; turn++) {
+      kernel.nextTurn();
+      counts[kernel.getPosition(kernel.getCurrentSeat())]++;
+    }
+
+    double total = 0;
+    for (int position = 0; position < BOARD.size(); position++) {
+      assertThat(analysis.getOccupancy(position))
+          .isCloseTo((double) counts[position] / turns, within(0.003));
+      total += analysis.getOccupancy(position);
+    }
+    assertThat(total).isCloseTo(1.0, within(1e-9));
+  }
+
+  @Test
+  void landingFrequencies_countGoToJailButNobodyStaysThere() {
+    var analysis = MonopolyBoardAnalysis.of(BOARD);
+    int goToJail = positionOf(GoToJailMonopolyTile.class);
+    int jail = BOARD.getTilePosition(BOARD.getJailTile());
+
+    double total = 0;
+    for (int position = 0; position < BOARD.size(); position++) {
+      total += analysis.getLandingFrequency(position);
+    }
+    assertThat(total).isCloseTo(1.0, within(1e-9));
+    assertThat(analysis.getLandingFrequency(goToJail)).isPositive();
+    assertThat(analysis.getOccupancy(goToJail)).isZero();
+    assertThat(analysis.getOccupancy(jail)).isGreaterThan(2.0 / BOARD.size());
+  }
+
+  @Test
+  void expectedRentPerRound_scalesRentOfEveryUpgradeLevel() {
+    var analysis = MonopolyBoardAnalysis.of(BOARD);
+    int start = positionOf(StartMonopolyTile.class);
+
+    for (int position = 0; position < BOARD.size(); position++) {
+      double landings = analysis.getLandingsPerTurn(position);
+      switch (BOARD.getTileAtIndex(position)) {
+        case OwnableMonopolyTile(Property property) -> {
+          assertThat(analysis.getExpectedRentPerRound(position, 0))
+              .isCloseTo(landings * property.rent(), within(1e-12));
+          assertThat(analysis.getExpectedRentPerRound(position, MonopolyKernel.HOTEL_LEVEL))
+              .isGreaterThan(analysis.getExpectedRentPerRound(position, 4));
+        }
+        case OwnableMonopolyTile(Railroad railroad) ->
+            assertThat(analysis.getExpectedRentPerRound(position, 3))
+                .isCloseTo(landings * railroad.rent(), within(1e-12));
+        default -> assertThat(analysis.getExpectedRentPerRound(position, 0)).isZero();
+      }
+    }
+    assertThat(analysis.getExpectedRentPerRound(start, 0)).isZero();
+    assertThatThrownBy(() -> analysis.getExpectedRentPerRound(0, MonopolyKernel.HOTEL_LEVEL + 1))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void of_separatelyBuiltBoardsWithTheSameLayout_shareOneAnalysis() {
+    var first = createBoard();
+    var second = createBoard();
+    // a house built during a game does not change the layout
+    var tile = second.getTileAtIndex(positionOfFirstProperty());
+    assertThat(tile).isInstanceOf(OwnableMonopolyTile.class);
+    var ownable = ((OwnableMonopolyTile) tile).ownable();
+    assertThat(ownable).isInstanceOf(Property.class);
+    var property = (Property) ownable;
+    int rentWithoutHouse = property.rent();
+    property.addUpgrade(MonopolyGame.HOUSE);
+    assertThat(property.rent()).isGreaterThan(rentWithoutHouse);
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(MonopolyBoardAnalysis.of(first)).isSameAs(MonopolyBoardAnalysis.of(second));
+    assertThat(MonopolyBoardAnalysis.of(first).size()).isEqualTo(first.size());
+  }
+
+  @Test
+  void of_boardWithOtherPrices_isAnalysedOnItsOwn() {
+    List<MonopolyTile> tiles = new ArrayList<>(BOARD.tiles());
+    int street = positionOfFirstProperty();
+    tiles.set(
+        street, new OwnableMonopolyTile(new Property("Dear Street", Property.Color.RED, 400)));
+    var other = new MonopolyBoard(tiles);
+
+    var analysis = MonopolyBoardAnalysis.of(other);
+
+    assertThat(analysis).isNotSameAs(MonopolyBoardAnalysis.of(BOARD));
+    assertThat(analysis.getExpectedRentPerRound(street, 0))
+        .isCloseTo(analysis.getLandingsPerTurn(street) * 280, within(1e-9));
+  }
+}
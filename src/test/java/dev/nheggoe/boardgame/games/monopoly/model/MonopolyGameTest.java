@@ -1,6 +1,7 @@
 package dev.nheggoe.boardgame.games.monopoly.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -10,6 +11,8 @@ import dev.nheggoe.boardgame.common.util.AlertFactory;
 import dev.nheggoe.boardgame.core.model.dice.Dice;
 import dev.nheggoe.boardgame.core.model.dice.DiceRoll;
 import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AutomaticDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.MonopolyDecisionProvider;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.InsufficientFundsException;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
@@ -67,6 +70,7 @@ class MonopolyGameTest {
     when(mockBoard.size()).thenReturn(40);
     when(mockBoard.getJailTile()).thenReturn(mockJailTile);
     when(mockBoard.getTilePosition(mockJailTile)).thenReturn(10);
+    when(mockBoard.getJailPosition()).thenReturn(10);
 
     // Create the game with a mutable list of players
     List<MonopolyPlayer> players = new ArrayList<>();
@@ -120,7 +124,7 @@ class MonopolyGameTest {
   void nextTurn_basicFlow() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Set up dice to roll non-doubles (valid values)
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up a simple tile at landing position
       StartMonopolyTile startTile = new StartMonopolyTile(CornerMonopolyTile.Position.TOP_RIGHT);
@@ -146,7 +150,7 @@ class MonopolyGameTest {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // First roll is doubles, second is not (valid values)
       diceMock
-          .when(() -> Dice.roll(2))
+          .when(() -> Dice.roll(eq(2), any()))
           .thenReturn(new DiceRoll(3, 3)) // doubles
           .thenReturn(new DiceRoll(2, 3)); // not doubles
 
@@ -180,7 +184,7 @@ class MonopolyGameTest {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Three consecutive double rolls (valid values)
       diceMock
-          .when(() -> Dice.roll(2))
+          .when(() -> Dice.roll(eq(2), any()))
           .thenReturn(new DiceRoll(4, 4))
           .thenReturn(new DiceRoll(5, 5))
           .thenReturn(new DiceRoll(6, 6));
@@ -263,7 +267,7 @@ class MonopolyGameTest {
   void landingOnOwnedProperty_paysRentToOwner() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up tile behavior to land on player1's property
       OwnableMonopolyTile propertyTile = new OwnableMonopolyTile(playerOwnedProperty);
@@ -297,7 +301,7 @@ class MonopolyGameTest {
         MockedStatic<AlertFactory> alertMock = mockStatic(AlertFactory.class)) {
 
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up tile behavior to land on unowned property
       OwnableMonopolyTile propertyTile = new OwnableMonopolyTile(property);
@@ -333,7 +337,7 @@ class MonopolyGameTest {
         MockedStatic<AlertFactory> alertMock = mockStatic(AlertFactory.class)) {
 
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up tile behavior to land on unowned property
       OwnableMonopolyTile propertyTile = new OwnableMonopolyTile(property);
@@ -364,7 +368,7 @@ class MonopolyGameTest {
   void landingOnUnownedProperty_withInsufficientFunds() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up expensive property
       Property expensiveProperty = new Property("Expensive", Property.Color.GREEN, 10000);
@@ -388,7 +392,7 @@ class MonopolyGameTest {
   void landingOnTaxTile_deductsPercentage() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set player's balance to exact amount for tax calculation
       player1.pay(player1.getBalance()); // Reset balance to 0
@@ -416,7 +420,7 @@ class MonopolyGameTest {
   void landingOnGoToJailTile_sendsPlayerToJail() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up GoToJail tile
       GoToJailMonopolyTile jailTile =
@@ -438,7 +442,7 @@ class MonopolyGameTest {
   void landingOnFreeParkingTile_noEffect() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up FreeParking tile
       FreeParkingMonopolyTile parkingTile =
@@ -462,7 +466,7 @@ class MonopolyGameTest {
   void landingOnJailVisitTile_noEffect() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up JailVisit tile
       when(mockBoard.getTileAtIndex(5)).thenReturn(mockJailTile);
@@ -484,7 +488,7 @@ class MonopolyGameTest {
   void landingOnStartTile_noAdditionalMoney() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Use valid dice values (1-6)
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 4));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 4));
 
       // Setup StartTile
       StartMonopolyTile startTile = new StartMonopolyTile(CornerMonopolyTile.Position.TOP_RIGHT);
@@ -511,7 +515,7 @@ class MonopolyGameTest {
         MockedStatic<AlertFactory> alertMock = mockStatic(AlertFactory.class)) {
 
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up tile behavior to land on player's own property
       OwnableMonopolyTile propertyTile = new OwnableMonopolyTile(playerOwnedProperty);
@@ -554,7 +558,7 @@ class MonopolyGameTest {
       }
 
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up tile behavior to land on player's own property
       OwnableMonopolyTile propertyTile = new OwnableMonopolyTile(playerOwnedProperty);
@@ -593,7 +597,7 @@ class MonopolyGameTest {
       playerOwnedProperty.addUpgrade(new Upgrade(UpgradeType.HOTEL, 100));
 
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up tile behavior to land on player's own property
       OwnableMonopolyTile propertyTile = new OwnableMonopolyTile(playerOwnedProperty);
@@ -621,7 +625,7 @@ class MonopolyGameTest {
       player1.pay(player1.getBalance() - 10); // Leave just $10
 
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up tile behavior to land on player's own property
       OwnableMonopolyTile propertyTile = new OwnableMonopolyTile(playerOwnedProperty);
@@ -654,7 +658,7 @@ class MonopolyGameTest {
         MockedStatic<AlertFactory> alertMock = mockStatic(AlertFactory.class)) {
 
       // Set up dice roll
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Set up tile behavior to land on player's own property
       OwnableMonopolyTile propertyTile = new OwnableMonopolyTile(playerOwnedProperty);
@@ -687,7 +691,7 @@ class MonopolyGameTest {
         MockedStatic<AlertFactory> alertMock = mockStatic(AlertFactory.class)) {
 
       // Set up dice roll (valid values)
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Create Railroad
       Railroad railroad = new Railroad(200);
@@ -728,7 +732,7 @@ class MonopolyGameTest {
         MockedStatic<AlertFactory> alertMock = mockStatic(AlertFactory.class)) {
 
       // Set up dice roll (valid values)
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Create Utility
       Utility utility = new Utility("Electric Company", 150);
@@ -769,7 +773,7 @@ class MonopolyGameTest {
   void playerGoesBankrupt_whenUnableToPayRent() {
     try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
       // Set up dice roll (valid values)
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(2, 3));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
 
       // Create expensive property
       Property expensiveProperty = new Property("Boardwalk", Property.Color.DARK_BLUE, 400);
@@ -814,7 +818,7 @@ class MonopolyGameTest {
 
       // Set up dice rolls (valid values)
       diceMock
-          .when(() -> Dice.roll(2))
+          .when(() -> Dice.roll(eq(2), any()))
           .thenReturn(new DiceRoll(3, 2)) // First roll for movement
           .thenReturn(new DiceRoll(4, 2)); // Second roll for utility rent calculation
 
@@ -854,7 +858,7 @@ class MonopolyGameTest {
       player2.purchase(railroad2);
 
       // Set up dice roll for movement (valid values)
-      diceMock.when(() -> Dice.roll(2)).thenReturn(new DiceRoll(3, 2));
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(3, 2));
 
       // Create tile for first railroad
       OwnableMonopolyTile railroadTile = new OwnableMonopolyTile(railroad1);
@@ -884,4 +888,114 @@ class MonopolyGameTest {
     // Verify the board is returned correctly
     assertThat(game.getBoard()).isEqualTo(mockBoard);
   }
+
+  @Test
+  @DisplayName("Headless provider buys property without showing any dialog")
+  void headlessProvider_purchasesWithoutDialogs() {
+    var headlessGame =
+        spy(
+            new MonopolyGame(
+                mockEventBus,
+                mockBoard,
+                new ArrayList<>(List.of(player1, player2)),
+                AutomaticDecisionProvider.alwaysAccept()));
+    try (MockedStatic<Dice> diceMock = mockStatic(Dice.class);
+        MockedStatic<AlertFactory> alertMock = mockStatic(AlertFactory.class)) {
+      diceMock.when(() -> Dice.roll(eq(2), any())).thenReturn(new DiceRoll(2, 3));
+      doReturn(new OwnableMonopolyTile(property)).when(headlessGame).getTile(5);
+
+      headlessGame.nextTurn();
+
+      assertThat(player1.isOwnerOf(property)).isTrue();
+      verify(mockEventBus).publishEvent(any(MonopolyEvent.Purchased.class));
+      alertMock.verifyNoInteractions();
+    }
+  }
+
+  @Test
+  @DisplayName("Decision provider is asked about purchases and informed about doubles")
+  void decisionProvider_receivesPurchaseAndDoublesPrompts() {
+    var provider = mock(MonopolyDecisionProvider.class);
+    var headlessGame =
+        spy(
+            new MonopolyGame(
+                mockEventBus, mockBoard, new ArrayList<>(List.of(player1, player2)), provider));
+    try (MockedStatic<Dice> diceMock = mockStatic(Dice.class)) {
+      diceMock
+          .when(() -> Dice.roll(eq(2), any()))
+          .thenReturn(new DiceRoll(1, 1))
+          .thenReturn(new DiceRoll(1, 2));
+      doReturn(new StartMonopolyTile(CornerMonopolyTile.Position.TOP_RIGHT))
+          .when(headlessGame)
+          .getTile(2);
+      doReturn(new OwnableMonopolyTile(property)).when(headlessGame).getTile(5);
+
+      headlessGame.nextTurn();
+
+      verify(provider).inform(eq(player1), contains("rolled a double"));
+      verify(provider).confirmPurchase(eq(player1), eq(property), contains("Test Property"));
+      assertThat(player1.isOwnerOf(property)).isFalse();
+      assertThat(player1.getPosition()).isEqualTo(5);
+    }
+  }
+
+  @Test
+  @DisplayName("Last player standing ends the game immediately and is announced as winner")
+  void removePlayer_lastPlayerStanding_endsGameAndAnnouncesWinner() {
+    var provider = mock(MonopolyDecisionProvider.class);
+    var headlessGame =
+        new MonopolyGame(
+            mockEventBus, mockBoard, new ArrayList<>(List.of(player1, player2)), provider);
+
+    headlessGame.getNextPlayer();
+    headlessGame.removePlayer(player2);
+
+    assertThat(headlessGame.isEnded()).isTrue();
+    verify(provider).announceWinner(eq(player1), contains("has won"));
+  }
+
+  @Test
+  @DisplayName("Restoring a snapshot undoes moves, purchases, upgrades and turns")
+  void restore_undoesChangesSinceSnapshot() {
+    game.getNextPlayer();
+    player1.setPosition(7);
+    var snapshot = game.snapshot();
+    long version = game.getStateView().version();
+
+    game.getNextPlayer();
+    player1.setPosition(12);
+    player2.purchase(property);
+    property.addUpgrade(new Upgrade(UpgradeType.HOUSE, 20));
+    playerOwnedProperty.addUpgrade(new Upgrade(UpgradeType.HOUSE, 20));
+    player1.deductBalance(100);
+
+    game.restore(snapshot);
+
+    assertThat(player1.getPosition()).isEqualTo(7);
+    assertThat(player1.getBalance()).isEqualTo(snapshot.balances()[0]);
+    assertThat(player1.getOwnedAssets()).containsExactly(playerOwnedProperty);
+    assertThat(player2.getOwnedAssets()).isEmpty();
+    assertThat(player2.getBalance()).isEqualTo(200);
+    assertThat(property.getUpgrades()).isEmpty();
+    assertThat(playerOwnedProperty.getUpgrades()).isEmpty();
+    assertThat(game.getNextPlayer()).isSameAs(player2);
+    assertThat(game.getStateView().version()).isGreaterThan(version);
+  }
+
+  @Test
+  @DisplayName("A snapshot cannot be restored into a different game")
+  void restore_snapshotFromOtherGame_throws() {
+    var otherGame =
+        new MonopolyGame(
+            mockEventBus,
+            mockBoard,
+            new ArrayList<>(
+                List.of(
+                    new MonopolyPlayer("Other 1", MonopolyPlayer.Figure.CAR),
+                    new MonopolyPlayer("Other 2", MonopolyPlayer.Figure.CAT))));
+
+    var snapshot = otherGame.snapshot();
+
+    assertThatThrownBy(() -> game.restore(snapshot)).isInstanceOf(IllegalArgumentException.class);
+  }
 }
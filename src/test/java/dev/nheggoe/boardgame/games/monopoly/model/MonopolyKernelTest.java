@@ -0,0 +1,190 @@
+package dev.nheggoe.boardgame.games.monopoly.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.decision.AutomaticDecisionProvider;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.MonopolyPlayer;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Railroad;
+import dev.nheggoe.boardgame.games.monopoly.model.ownable.Utility;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TaxMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.Upgrade;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class MonopolyKernelTest {
+
+  private static final MonopolyKernel.Policy KERNEL_POLICY =
+      new MonopolyKernel.Policy() {
+        @Override
+        public boolean shouldPurchase(MonopolyKernel kernel, int seat, int position) {
+          return kernel.getPrice(position) <= 300;
+        }
+
+        @Override
+        public boolean shouldUpgrade(MonopolyKernel kernel, int seat, int position) {
+          return kernel.getBalance(seat) > 100;
+        }
+      };
+
+  private static final AutomaticDecisionProvider GAME_POLICY =
+      new AutomaticDecisionProvider(
+          (player, ownable) -> ownable.price() <= 300,
+          (player, property) -> player.getBalance() > 100);
+
+  private static MonopolyBoard createBoard(long seed) {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    var colors = Property.Color.values();
+    for (int i = 0; i < 16; i++) {
+      tiles.add(
+          new OwnableMonopolyTile(
+              new Property("Street " + i, colors[i % colors.length], 60 + 20 * i)));
+    }
+    for (int i = 0; i < 4; i++) {
+      tiles.add(new OwnableMonopolyTile(new Railroad(200)));
+    }
+    tiles.add(new OwnableMonopolyTile(new Utility("Water Works", 150)));
+    tiles.add(new OwnableMonopolyTile(new Utility("Electric Company", 150)));
+    tiles.add(new TaxMonopolyTile(10));
+    tiles.add(new TaxMonopolyTile(15));
+    Collections.shuffle(tiles, new SplittableRandom(seed));
+    return new MonopolyBoard(tiles);
+  }
+
+  private static MonopolyGame createGame(MonopolyBoard board, long seed) {
+    var players =
+        List.of(
+            new MonopolyPlayer("Alice", Player.Figure.CAR),
+            new MonopolyPlayer("Bob", Player.Figure.HAT),
+            new MonopolyPlayer("Carol", Player.Figure.CAT),
+            new MonopolyPlayer("Dave", Player.Figure.DUCK));
+    return new MonopolyGame(
+        mock(EventBus.class), board, players, GAME_POLICY, new SplittableRandom(seed));
+  }
+
+  private static void assertSameState(MonopolyKernel kernel, MonopolyGame game) {
+    var seats = game.seatedPlayers();
+    var prisoners = game.getBoard().getJailTile().getPrisoners();
+    for (int seat = 0; seat < seats.size(); seat++) {
+      var player = seats.get(seat);
+      boolean active = game.getPlayers().contains(player);
+      assertThat(kernel.isActive(seat)).isEqualTo(active);
+      if (active) {
+        assertThat(kernel.getPosition(seat)).isEqualTo(player.getPosition());
+        assertThat(kernel.getBalance(seat)).isEqualTo(player.getBalance());
+        assertThat(kernel.getNetWorth(seat)).isEqualTo(player.getNetWorth());
+        assertThat(kernel.getJailRoundsLeft(seat)).isEqualTo(prisoners.getOrDefault(player, 0));
+      }
+    }
+    for (int position = 0; position < game.getBoard().size(); position++) {
+      if (game.getTile(position) instanceof OwnableMonopolyTile(var ownable)) {
+        int owner = MonopolyKernel.NO_OWNER;
+        for (var player : game.getPlayers()) {
+          if (player.isOwnerOf(ownable)) {
+            owner = seats.indexOf(player);
+            break;
+          }
+        }
+        assertThat(kernel.getOwner(position)).isEqualTo(owner);
+        assertThat(kernel.getRent(position)).isEqualTo(game.rentOf(ownable));
+        if (ownable instanceof Property property) {
+          assertThat(kernel.getUpgradeLevel(position))
+              .isEqualTo(property.countHouses() + (property.hasHotel() ? 1 : 0));
+        }
+      }
+    }
+    assertThat(kernel.isEnded()).isEqualTo(game.isEnded());
+  }
+
+  @Test
+  void nextTurn_playsExactlyLikeMonopolyGame() {
+    int endedGames = 0;
+    int highestLevel = 0;
+    for (long seed = 0; seed < 20; seed++) {
+      var board = createBoard(seed);
+      var game = createGame(board, seed);
+      var kernel = MonopolyKernel.of(game, KERNEL_POLICY, new SplittableRandom(seed));
+
+      for (int turn = 0; turn < 500 && !game.isEnded(); turn++) {
+        game.nextTurn();
+        kernel.nextTurn();
+        assertSameState(kernel, game);
+      }
+      endedGames += game.isEnded() ? 1 : 0;
+      for (int position = 0; position < board.size(); position++) {
+        highestLevel = Math.max(highestLevel, kernel.getUpgradeLevel(position));
+      }
+    }
+
+    // make sure bankruptcies and upgrades were actually compared
+    assertThat(endedGames).isPositive();
+    assertThat(highestLevel).isPositive();
+  }
+
+  @Test
+  void applyTo_writesKernelStateBackIntoGame() {
+    var board = createBoard(1);
+    var game = createGame(board, 7);
+    for (int turn = 0; turn < 10; turn++) {
+      game.nextTurn();
+    }
+    var kernel = MonopolyKernel.of(game, KERNEL_POLICY, new SplittableRandom(42));
+    kernel.play(150);
+
+    kernel.applyTo(game);
+
+    assertSameState(kernel, game);
+    var reloaded = MonopolyKernel.of(game, KERNEL_POLICY, new SplittableRandom(42));
+    assertThat(reloaded.getCurrentSeat()).isEqualTo(kernel.getCurrentSeat());
+    assertThat(reloaded.getRoundNumber()).isEqualTo(kernel.getRoundNumber());
+    assertThat(reloaded.getActiveCount()).isEqualTo(kernel.getActiveCount());
+  }
+
+  @Test
+  void play_newKernelStartsEveryPlayerWithStartingBalance() {
+    var board = createBoard(1);
+    var kernel =
+        new MonopolyKernel(
+            board, 3, MonopolyKernel.Policy.alwaysDecline(), new SplittableRandom(1));
+
+    assertThat(kernel.getBalance(0)).isEqualTo(MonopolyGame.STARTING_BALANCE);
+    assertThat(kernel.getCurrentSeat()).isEqualTo(-1);
+
+    kernel.play(30);
+
+    for (int position = 0; position < board.size(); position++) {
+      assertThat(kernel.getOwner(position)).isEqualTo(MonopolyKernel.NO_OWNER);
+    }
+    assertThat(kernel.getRoundNumber()).isEqualTo(9);
+  }
+
+  @Test
+  void of_propertyWithUnreachableUpgrades_throws() {
+    var board = createBoard(1);
+    var game = createGame(board, 3);
+    for (var tile : board.tiles()) {
+      if (tile instanceof OwnableMonopolyTile(Property property)) {
+        property.addUpgrade(new Upgrade(UpgradeType.HOTEL, 100));
+        break;
+      }
+    }
+
+    assertThatThrownBy(
+            () ->
+                MonopolyKernel.of(
+                    game, MonopolyKernel.Policy.alwaysAccept(), new SplittableRandom()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
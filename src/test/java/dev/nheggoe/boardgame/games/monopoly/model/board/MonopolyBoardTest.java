@@ -2,6 +2,8 @@ package dev.nheggoe.boardgame.games.monopoly.model.board;
 
 import static org.assertj.core.api.Assertions.*;
 
+import dev.nheggoe.boardgame.common.io.json.CustomGson;
+import dev.nheggoe.boardgame.core.model.Board;
 import dev.nheggoe.boardgame.games.monopoly.model.ownable.Property;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.CornerMonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.FreeParkingMonopolyTile;
@@ -10,6 +12,7 @@ import dev.nheggoe.boardgame.games.monopoly.model.tile.JailMonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
 import dev.nheggoe.boardgame.games.monopoly.model.tile.StartMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TaxMonopolyTile;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,4 +45,41 @@ class MonopolyBoardTest {
   void test_basic() {
     assertThat(board.tiles()).hasSize(8);
   }
+
+  @Test
+  void test_tileIndex_answersSpecialTileQueries() {
+    int jail = board.getJailPosition();
+    int start = board.getStartingPosition();
+
+    assertThat(board.getTileAtIndex(jail)).isSameAs(board.getJailTile());
+    assertThat(board.getTileAtIndex(start)).isSameAs(board.getStartingTile());
+    assertThat(start).isZero();
+    assertThat(board.getTilePosition(board.getJailTile())).isEqualTo(jail);
+    assertThat(board.getPositionsOf(CornerMonopolyTile.class)).containsExactly(0, 2, 4, 6);
+    assertThat(board.getPositionsOf(OwnableMonopolyTile.class)).containsExactly(1, 3, 5, 7);
+    assertThat(board.getPositionsOf(MonopolyTile.class)).hasSize(8);
+    assertThat(board.getPositionsOf(TaxMonopolyTile.class)).isEmpty();
+    assertThat(board.getTilePosition(new TaxMonopolyTile(10))).isEqualTo(-1);
+  }
+
+  @Test
+  void test_json_roundTrip_rebuildsTileIndex() {
+    var json = CustomGson.getInstance().toJson(board, Board.class);
+    var read = (MonopolyBoard) CustomGson.getInstance().fromJson(json, Board.class);
+
+    assertThat(json).doesNotContain("tileIndex");
+    assertThat(read.size()).isEqualTo(board.size());
+    assertThat(read.getJailPosition()).isEqualTo(board.getJailPosition());
+    assertThat(read.getTilePosition(read.getJailTile())).isEqualTo(board.getJailPosition());
+  }
+
+  @Test
+  void test_equality_dependsOnTilesOnly() {
+    var copy = new MonopolyBoard(board.tiles());
+
+    assertThat(copy).isEqualTo(board).hasSameHashCodeAs(board);
+    assertThat(copy.getJailPosition()).isEqualTo(board.getJailPosition());
+    assertThatThrownBy(() -> board.tiles().remove(0))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
 }
@@ -0,0 +1,92 @@
+package dev.nheggoe.boardgame.games.monopoly.model.ownable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import dev.nheggoe.boardgame.core.model.Player;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NetWorthLeaderboardTest {
+
+  private final Property street = new Property("Street", Property.Color.RED, 300);
+  private NetWorthLeaderboard leaderboard;
+  private MonopolyPlayer alice;
+  private MonopolyPlayer bob;
+  private MonopolyPlayer carol;
+
+  @BeforeEach
+  void setUp() {
+    leaderboard = new NetWorthLeaderboard();
+    alice = new MonopolyPlayer("Alice", Player.Figure.CAR);
+    bob = new MonopolyPlayer("Bob", Player.Figure.HAT);
+    carol = new MonopolyPlayer("Carol", Player.Figure.CAT);
+    alice.addBalance(1000);
+    bob.addBalance(1000);
+    carol.addBalance(500);
+    leaderboard.track(alice);
+    leaderboard.track(bob);
+    leaderboard.track(carol);
+  }
+
+  @Test
+  void getLeaders_tiedPlayers_areListedInSeatOrder() {
+    var leaders = leaderboard.getLeaders();
+
+    assertThat(leaders.getKey()).isEqualTo(1000);
+    assertThat(leaders.getValue()).containsExactly(alice, bob);
+    assertThat(leaderboard.getStandings()).containsExactly(alice, bob, carol);
+  }
+
+  @Test
+  void balanceAndAssetChanges_moveTheStandings() {
+    carol.addBalance(600);
+    assertThat(leaderboard.getLeader()).contains(carol);
+
+    bob.purchase(street);
+    bob.transferProperty(street, 100);
+
+    assertThat(bob.getNetWorth()).isEqualTo(800);
+    assertThat(leaderboard.getStandings()).containsExactly(carol, alice, bob);
+  }
+
+  @Test
+  void purchaseAndTransfer_updateTheStandingsOnceEach() {
+    var watched = spy(new NetWorthLeaderboard());
+    watched.track(bob);
+    clearInvocations(watched);
+
+    bob.purchase(street);
+    verify(watched, times(1)).update(bob);
+
+    bob.transferProperty(street, 100);
+    verify(watched, times(2)).update(bob);
+  }
+
+  @Test
+  void remove_andReset_changeWhoIsRanked() {
+    leaderboard.remove(alice);
+    assertThat(leaderboard.getLeaders().getValue()).containsExactly(bob);
+
+    alice.restoreHoldings(200, List.of(street));
+    assertThat(leaderboard.size()).isEqualTo(2);
+
+    leaderboard.reset(List.of(alice, bob));
+
+    assertThat(leaderboard.getLeaders().getValue()).containsExactly(bob);
+    assertThat(leaderboard.getStandings()).containsExactly(bob, alice);
+    assertThat(alice.getNetWorth()).isEqualTo(500);
+  }
+
+  @Test
+  void getLeaders_nobodyRanked_returnsNull() {
+    leaderboard.reset(List.of());
+
+    assertThat(leaderboard.getLeaders()).isNull();
+    assertThat(leaderboard.getLeader()).isEmpty();
+  }
+}
@@ -0,0 +1,104 @@
+package dev.nheggoe.boardgame.games.monopoly.model.ownable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OwnershipIndexTest {
+
+  private final Property street = new Property("Street", Property.Color.RED, 100);
+  private final Property avenue = new Property("Avenue", Property.Color.RED, 120);
+  private MonopolyBoard board;
+  private OwnershipIndex index;
+  private MonopolyPlayer alice;
+  private MonopolyPlayer bob;
+
+  @BeforeEach
+  void setUp() {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    tiles.add(new OwnableMonopolyTile(street));
+    tiles.add(new OwnableMonopolyTile(avenue));
+    tiles.add(new OwnableMonopolyTile(new Railroad(200)));
+    tiles.add(new OwnableMonopolyTile(new Railroad(200)));
+    board = new MonopolyBoard(tiles);
+    index = new OwnershipIndex(board);
+    alice = new MonopolyPlayer("Alice", Player.Figure.CAR);
+    bob = new MonopolyPlayer("Bob", Player.Figure.HAT);
+    alice.addBalance(1000);
+    bob.addBalance(1000);
+    index.track(alice);
+    index.track(bob);
+  }
+
+  @Test
+  void purchase_isIndexedForEveryTileWithAnEqualAsset() {
+    alice.purchase(new Railroad(200));
+
+    for (int position = 0; position < board.size(); position++) {
+      if (board.getTileAtIndex(position) instanceof OwnableMonopolyTile(Railroad railroad)) {
+        assertThat(index.getOwnerOfTile(position)).contains(alice);
+        assertThat(alice.isOwnerOf(railroad)).isTrue();
+      }
+    }
+    assertThat(index.getOwner(street)).isEmpty();
+    assertThat(index.getHoldings(alice).cardinality()).isOne();
+  }
+
+  @Test
+  void transferProperty_releasesOwnership() {
+    alice.purchase(street);
+    alice.purchase(avenue);
+
+    alice.transferProperty(street, 50);
+
+    assertThat(index.getOwner(street)).isEmpty();
+    assertThat(index.getOwner(avenue)).contains(alice);
+    assertThat(alice.isOwnerOf(street)).isFalse();
+    assertThat(index.getHoldings(alice).get(index.assetIdOf(avenue))).isTrue();
+  }
+
+  @Test
+  void releaseAll_keepsPossessionButFreesTheAssetForOthers() {
+    alice.purchase(street);
+
+    index.releaseAll(alice);
+    bob.purchase(street);
+
+    assertThat(alice.isOwnerOf(street)).isTrue();
+    assertThat(index.getOwner(street)).contains(bob);
+  }
+
+  @Test
+  void restoreHoldings_andRebuild_reindexThePlayersInPlay() {
+    alice.purchase(street);
+    bob.restoreHoldings(500, List.of(avenue, street));
+
+    index.rebuild(List.of(bob, alice));
+
+    assertThat(index.getOwner(street)).contains(bob);
+    assertThat(index.getOwner(avenue)).contains(bob);
+
+    alice.restoreHoldings(500, List.of());
+    assertThat(alice.isOwnerOf(street)).isFalse();
+    assertThat(index.getHoldings(alice).isEmpty()).isTrue();
+  }
+
+  @Test
+  void isOwnerOf_assetNotOnTheBoard_fallsBackToOwnedAssets() {
+    var elsewhere = new Utility("Water Works", 150);
+
+    alice.purchase(elsewhere);
+
+    assertThat(index.assetIdOf(elsewhere)).isEqualTo(-1);
+    assertThat(alice.isOwnerOf(elsewhere)).isTrue();
+    assertThat(index.getOwner(elsewhere)).isEmpty();
+  }
+}
@@ -0,0 +1,104 @@
+package dev.nheggoe.boardgame.games.monopoly.model.ownable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.nheggoe.boardgame.core.model.Player;
+import dev.nheggoe.boardgame.games.monopoly.model.board.MonopolyBoard;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.MonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.OwnableMonopolyTile;
+import dev.nheggoe.boardgame.games.monopoly.model.tile.TileFactory;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.Upgrade;
+import dev.nheggoe.boardgame.games.monopoly.model.upgrade.UpgradeType;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RentEngineTest {
+
+  private final Property street = new Property("Street", Property.Color.RED, 100);
+  private final Property avenue = new Property("Avenue", Property.Color.RED, 200);
+  private final Railroad northern = new Railroad(200);
+  private final Railroad southern = new Railroad(150);
+  private final Railroad western = new Railroad(100);
+  private final Utility water = new Utility("Water Works", 150);
+  private final Utility electric = new Utility("Electric Company", 150);
+  private OwnershipIndex index;
+  private MonopolyPlayer alice;
+  private MonopolyPlayer bob;
+
+  @BeforeEach
+  void setUp() {
+    List<MonopolyTile> tiles = new ArrayList<>(TileFactory.generateCornerTiles());
+    for (Ownable ownable : List.of(street, avenue, northern, southern, western, water, electric)) {
+      tiles.add(new OwnableMonopolyTile(ownable));
+    }
+    tiles.add(new OwnableMonopolyTile(new Property("Lane", Property.Color.BROWN, 60)));
+    index = new OwnershipIndex(new MonopolyBoard(tiles));
+    alice = new MonopolyPlayer("Alice", Player.Figure.CAR);
+    bob = new MonopolyPlayer("Bob", Player.Figure.HAT);
+    alice.addBalance(10_000);
+    bob.addBalance(10_000);
+    index.track(alice);
+    index.track(bob);
+  }
+
+  @Test
+  void property_wholeUnimprovedColourGroup_doublesRent() {
+    alice.purchase(street);
+    assertThat(index.getRent(street)).isEqualTo(street.rent());
+
+    alice.purchase(avenue);
+    assertThat(index.getRent(street)).isEqualTo(2 * street.rent());
+
+    street.addUpgrade(new Upgrade(UpgradeType.HOUSE, 20));
+    assertThat(index.getRent(street)).isEqualTo(street.rent()).isEqualTo(84);
+    assertThat(index.getRent(avenue)).isEqualTo(2 * avenue.rent());
+  }
+
+  @Test
+  void railroad_rentDoublesPerRailroadOfTheSameOwner() {
+    alice.purchase(northern);
+    bob.purchase(southern);
+    assertThat(index.getRent(northern)).isEqualTo(25);
+
+    alice.purchase(western);
+    assertThat(index.getRent(northern)).isEqualTo(50);
+    assertThat(index.getRent(western)).isEqualTo(50);
+    assertThat(index.getRent(southern)).isEqualTo(25);
+  }
+
+  @Test
+  void utility_bothUtilities_multiplyRent() {
+    alice.purchase(water);
+    assertThat(index.getRent(water)).isEqualTo(10);
+
+    alice.purchase(electric);
+    assertThat(index.getRent(water)).isEqualTo(25);
+  }
+
+  @Test
+  void releaseAll_dropsTheGroupBonus() {
+    alice.purchase(street);
+    alice.purchase(avenue);
+    int asset = index.assetIdOf(street);
+    assertThat(index.getRentEngine().getOwnedTilesInGroup(asset)).isEqualTo(2);
+
+    index.releaseAll(alice);
+
+    assertThat(index.getRentEngine().getOwnedTilesInGroup(asset)).isZero();
+    assertThat(index.getRent(street)).isEqualTo(street.rent());
+  }
+
+  @Test
+  void propertyRent_followsRestoredUpgrades() {
+    street.restoreUpgrades(List.of(new Upgrade(UpgradeType.HOUSE, 20)));
+    int oneHouse = street.rent();
+
+    street.restoreUpgrades(List.of());
+
+    assertThat(oneHouse).isEqualTo(84);
+    assertThat(street.rent()).isEqualTo(70);
+    assertThat(street.countHouses()).isZero();
+  }
+}
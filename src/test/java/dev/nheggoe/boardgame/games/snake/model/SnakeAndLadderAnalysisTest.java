@@ -0,0 +1,155 @@
+package dev.nheggoe.boardgame.games.snake.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.nheggoe.boardgame.games.snake.model.tile.LadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeAndLadderTile;
+import dev.nheggoe.boardgame.games.snake.model.tile.SnakeTile;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class SnakeAndLadderAnalysisTest {
+
+  private static List<SnakeAndLadderTile> createTiles() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    for (int i = 0; i < 40; i++) {
+      tiles.add(new NormalTile());
+    }
+    tiles.set(3, new LadderTile(10)); // 4 -> 14
+    tiles.set(13, new LadderTile(5)); // 14 -> 19, chained
+    tiles.set(16, new SnakeTile(12)); // 17 -> 5
+    tiles.set(27, new LadderTile(8)); // 28 -> 36
+    tiles.set(37, new SnakeTile(30)); // 38 -> 8
+    return tiles;
+  }
+
+  /** Plays one player with the game's own rules and counts the turns to the last tile. */
+  private static int simulateTurns(SnakeAndLadderBoard board, SplittableRandom random) {
+    int position = 1;
+    int turns = 0;
+    while (position != board.size()) {
+      int target = position + random.nextInt(6) + 1;
+      position = target >= board.size() ? board.size() : board.getDestination(target);
+      turns++;
+    }
+    return turns;
+  }
+
+  @Test
+  void trivialBoard_finishesInOneTurn() {
+    var analysis =
+        SnakeAndLadderAnalysis.of(
+            new SnakeAndLadderBoard(List.of(new NormalTile(), new NormalTile())));
+
+    assertThat(analysis.getExpectedTurns()).isEqualTo(1.0);
+    assertThat(analysis.getTurnDistribution(3)).containsExactly(0, 1, 0, 0);
+    assertThat(analysis.getTransitionProbability(1, 2)).isEqualTo(1.0);
+    assertThat(analysis.getWinProbabilities(1, 1)).containsExactly(1, 0);
+  }
+
+  @Test
+  void expectedTurns_matchesSimulation() {
+    var board = new SnakeAndLadderBoard(createTiles());
+    var analysis = SnakeAndLadderAnalysis.of(board);
+    var random = new SplittableRandom(1);
+
+    double total = 0;
+    int games = 200_000;
+    for (int game = 0; game < games; game++) {
+      total += simulateTurns(board, random);
+    }
+
+    assertThat(analysis.getExpectedTurns()).isCloseTo(total / games, within(0.05));
+    assertThat(Arrays.stream(analysis.getTurnDistribution(2_000)).sum())
+        .isCloseTo(1.0, within(1e-9));
+  }
+
+  @Test
+  void defaultBoard_expectedTurnsAndWinsMatchSimulation() throws URISyntaxException {
+    // the board that is copied to data/csv the first time the application starts
+    var csv = SnakeAndLadderAnalysisTest.class.getResource("/csv/snake_and_ladder_default.csv");
+    var board = SnakeAndLadderBoardFactory.createBoardFromCsv(Path.of(csv.toURI()));
+    var analysis = SnakeAndLadderAnalysis.of(board);
+    var random = new SplittableRandom(3);
+
+    double total = 0;
+    int firstWins = 0;
+    int games = 100_000;
+    for (int game = 0; game < games; game++) {
+      int first = simulateTurns(board, random);
+      int second = simulateTurns(board, random);
+      total += first + second;
+      if (first <= second) {
+        firstWins++;
+      }
+    }
+
+    assertThat(analysis.getExpectedTurns()).isFinite().isCloseTo(total / (2 * games), within(0.1));
+    assertThat(analysis.getWinProbabilities(1, 1)[0])
+        .isCloseTo((double) firstWins / games, within(0.01));
+  }
+
+  @Test
+  void transitionProbabilities_followChainedLadders() {
+    var analysis = SnakeAndLadderAnalysis.of(new SnakeAndLadderBoard(createTiles()));
+
+    // rolling a 3 from 1 lands on the ladder at 4, which leads to the ladder at 14
+    assertThat(analysis.getTransitionProbability(1, 19)).isCloseTo(1.0 / 6, within(1e-15));
+    assertThat(analysis.getTransitionProbability(1, 4)).isZero();
+    assertThat(analysis.getTransitionProbability(40, 40)).isEqualTo(1.0);
+  }
+
+  @Test
+  void winProbabilities_matchSimulationAndFavourTheFirstPlayer() {
+    var board = new SnakeAndLadderBoard(createTiles());
+    var analysis = SnakeAndLadderAnalysis.of(board);
+    var random = new SplittableRandom(2);
+
+    int firstWins = 0;
+    int games = 100_000;
+    for (int game = 0; game < games; game++) {
+      if (simulateTurns(board, random) <= simulateTurns(board, random)) {
+        firstWins++;
+      }
+    }
+    double[] wins = analysis.getWinProbabilities(1, 1);
+
+    assertThat(wins[0] + wins[1]).isCloseTo(1.0, within(1e-9));
+    assertThat(wins[0]).isGreaterThan(wins[1]).isCloseTo((double) firstWins / games, within(0.01));
+    assertThat(analysis.getWinProbabilities(1, 36)[1]).isGreaterThan(0.5);
+  }
+
+  @Test
+  void unreachableEnd_hasInfiniteExpectedTurns() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    tiles.add(new NormalTile());
+    for (int position = 2; position <= 7; position++) {
+      tiles.add(new SnakeTile(position - 1));
+    }
+    tiles.add(new NormalTile());
+    var analysis = SnakeAndLadderAnalysis.of(new SnakeAndLadderBoard(tiles));
+
+    assertThat(analysis.getExpectedTurns()).isInfinite();
+    assertThat(analysis.getWinProbabilities(1, 1)).containsExactly(0, 0);
+  }
+
+  @Test
+  void of_equalBoards_shareOneAnalysis() {
+    var board = new SnakeAndLadderBoard(createTiles());
+    var equalBoard = new SnakeAndLadderBoard(createTiles());
+    var first = SnakeAndLadderAnalysis.of(board);
+    var second = SnakeAndLadderAnalysis.of(equalBoard);
+
+    assertThat(second).isSameAs(first);
+    assertThatThrownBy(() -> first.getExpectedTurns(41))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
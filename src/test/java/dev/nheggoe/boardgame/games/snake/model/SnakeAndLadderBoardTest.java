@@ -3,6 +3,8 @@ package dev.nheggoe.boardgame.games.snake.model;
 import static org.assertj.core.api.Assertions.*;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import dev.nheggoe.boardgame.common.io.json.CustomGson;
+import dev.nheggoe.boardgame.core.model.Board;
 import dev.nheggoe.boardgame.games.monopoly.model.board.InvalidBoardLayoutException;
 import dev.nheggoe.boardgame.games.snake.model.tile.LadderTile;
 import dev.nheggoe.boardgame.games.snake.model.tile.NormalTile;
@@ -74,4 +76,67 @@ class SnakeAndLadderBoardTest {
     assertThatThrownBy(() -> board.getTileAtIndex(-1))
         .isInstanceOf(IndexOutOfBoundsException.class);
   }
+
+  @Test
+  void test_destinations_collapseChainedSnakesAndLadders() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    for (int i = 0; i < 10; i++) {
+      tiles.add(new NormalTile());
+    }
+    tiles.set(1, new LadderTile(4)); // 2 -> 6
+    tiles.set(5, new SnakeTile(2)); // 6 -> 4
+    tiles.set(3, new LadderTile(5)); // 4 -> 9
+    tiles.set(9, new LadderTile(3)); // 10 stays on the last tile
+    var board = new SnakeAndLadderBoard(tiles);
+
+    assertThat(board.getDestination(2)).isEqualTo(9);
+    assertThat(board.getDestination(6)).isEqualTo(9);
+    assertThat(board.getDestination(4)).isEqualTo(9);
+    assertThat(board.getDestination(5)).isEqualTo(5);
+    assertThat(board.getDestination(10)).isEqualTo(10);
+    assertThatThrownBy(() -> board.getDestination(0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void test_constructor_loop() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    tiles.add(new NormalTile());
+    tiles.add(new LadderTile(2)); // 2 -> 4
+    tiles.add(new NormalTile());
+    tiles.add(new SnakeTile(2)); // 4 -> 2
+    assertThatThrownBy(() -> new SnakeAndLadderBoard(tiles))
+        .isInstanceOf(InvalidBoardLayoutException.class)
+        .hasMessageContaining("loop");
+  }
+
+  @Test
+  void test_equality_dependsOnTilesOnly() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    tiles.add(new NormalTile());
+    tiles.add(new SnakeTile(1));
+    var board = new SnakeAndLadderBoard(tiles);
+    var copy = new SnakeAndLadderBoard(board.tiles());
+
+    assertThat(copy).isEqualTo(board).hasSameHashCodeAs(board);
+    assertThat(board.tiles()).isEqualTo(tiles);
+    assertThat(copy.getDestination(2)).isEqualTo(board.getDestination(2)).isEqualTo(1);
+    assertThatThrownBy(() -> board.tiles().set(0, new NormalTile()))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void test_json_roundTrip_keepsOnlyTiles() {
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    tiles.add(new NormalTile());
+    tiles.add(new LadderTile(1));
+    tiles.add(new NormalTile());
+    Board<?> board = new SnakeAndLadderBoard(tiles);
+
+    var json = CustomGson.getInstance().toJson(board, Board.class);
+    Board<?> read = CustomGson.getInstance().fromJson(json, Board.class);
+
+    assertThat(json).doesNotContain("destinations");
+    assertThat(read).isEqualTo(board);
+    assertThat(((SnakeAndLadderBoard) read).getDestination(2)).isEqualTo(3);
+  }
 }
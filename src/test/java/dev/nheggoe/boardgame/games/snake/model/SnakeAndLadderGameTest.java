@@ -1,10 +1,18 @@
 package dev.nheggoe.boardgame.games.snake.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import dev.nheggoe.boardgame.common.event.EventBus;
+import dev.nheggoe.boardgame.common.event.EventListener;
+import dev.nheggoe.boardgame.common.event.type.CoreEvent;
+import dev.nheggoe.boardgame.common.event.type.UserInterfaceEvent;
 import dev.nheggoe.boardgame.core.model.Player;
 import dev.nheggoe.boardgame.core.model.dice.Dice;
 import dev.nheggoe.boardgame.core.model.dice.DiceRoll;
@@ -51,7 +59,7 @@ class SnakeAndLadderGameTest {
   @Test
   void test_simulateGamePlay() {
     try (MockedStatic<Dice> mockedDice = mockStatic(Dice.class)) {
-      mockedDice.when(() -> Dice.roll(1)).thenReturn(new DiceRoll(2));
+      mockedDice.when(() -> Dice.roll(eq(1), any())).thenReturn(new DiceRoll(2));
       assertThat(game.getBoard()).isNotNull();
       assertThat(game.getBoard().tiles()).hasSize(14);
 
@@ -85,4 +93,50 @@ class SnakeAndLadderGameTest {
           .isInstanceOf(NormalTile.class);
     }
   }
+
+  @Test
+  void nextTurn_withListeners_publishesEveryHop() {
+    var eventBus = new EventBus();
+    var listener = mock(EventListener.class);
+    eventBus.addListener(CoreEvent.PlayerMoved.class, listener);
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    for (int i = 0; i < 10; i++) {
+      tiles.add(new NormalTile());
+    }
+    tiles.set(2, new LadderTile(4)); // 3 -> 7
+    tiles.set(6, new SnakeTile(2)); // 7 -> 5
+    var player = new SnakeAndLadderPlayer("John", Player.Figure.CAR);
+    var observedGame =
+        new SnakeAndLadderGame(eventBus, new SnakeAndLadderBoard(tiles), List.of(player));
+
+    try (MockedStatic<Dice> mockedDice = mockStatic(Dice.class)) {
+      mockedDice.when(() -> Dice.roll(eq(1), any())).thenReturn(new DiceRoll(2));
+      observedGame.nextTurn();
+    }
+
+    assertThat(player.getPosition()).isEqualTo(5);
+    verify(listener, times(3)).onEvent(any(CoreEvent.PlayerMoved.class));
+  }
+
+  @Test
+  void nextTurn_withoutListeners_jumpsStraightToDestination() {
+    var eventBus = mock(EventBus.class);
+    var tiles = new ArrayList<SnakeAndLadderTile>();
+    for (int i = 0; i < 10; i++) {
+      tiles.add(new NormalTile());
+    }
+    tiles.set(2, new LadderTile(4)); // 3 -> 7
+    tiles.set(6, new SnakeTile(2)); // 7 -> 5
+    var player = new SnakeAndLadderPlayer("John", Player.Figure.CAR);
+    var quietGame =
+        new SnakeAndLadderGame(eventBus, new SnakeAndLadderBoard(tiles), List.of(player));
+
+    try (MockedStatic<Dice> mockedDice = mockStatic(Dice.class)) {
+      mockedDice.when(() -> Dice.roll(eq(1), any())).thenReturn(new DiceRoll(2));
+      quietGame.nextTurn();
+    }
+
+    assertThat(player.getPosition()).isEqualTo(5);
+    verify(eventBus, never()).publishEvent(any(UserInterfaceEvent.Output.class));
+  }
 }